@@ -13,6 +13,7 @@ import com.ssafy.booknest.domain.nest.entity.TodayBook;
 import com.ssafy.booknest.domain.nest.repository.NestRepository;
 import com.ssafy.booknest.domain.nest.repository.TodayBookRepository;
 import com.ssafy.booknest.domain.nest.service.NestService;
+import com.ssafy.booknest.domain.search.service.UserIndexingService;
 import com.ssafy.booknest.domain.user.entity.User;
 import com.ssafy.booknest.domain.user.enums.Provider;
 import com.ssafy.booknest.domain.user.repository.UserRepository;
@@ -38,6 +39,7 @@ public class OAuthService {
     private final AuthRedisService authRedisService;
     private final NestRepository nestRepository;
     private final TodayBookRepository todayBookRepository;
+    private final UserIndexingService userIndexingService;
 
     public LoginResult handleOAuthLogin(Provider provider, String code) {
 
@@ -97,6 +99,8 @@ public class OAuthService {
         User user = userRepository.save(newUser);
         nestRepository.save(newNest);
         todayBookRepository.save(todayBook);
+        // 닉네임을 정하기 전까지는 색인되지 않음
+        userIndexingService.reindex(user.getId());
 
         return user;
     }
@@ -157,9 +157,10 @@ public class BookController {
     @GetMapping("/eval")
     public ResponseEntity<ApiResponse<CustomPage<BookResponse>>> getEvalBookList(@AuthenticationPrincipal UserPrincipal userPrincipal,
                                                                                  @RequestParam(defaultValue = "RANDOM") BookEvalType keyword,
+                                                                                 @RequestParam(required = false) String cursor,
                                                                                  Pageable pageable){
         Integer userId = authenticationUtil.getCurrentUserId(userPrincipal);
 
-        return ApiResponse.success(bookService.getEvalBookList(userId, keyword, pageable));
+        return ApiResponse.success(bookService.getEvalBookList(userId, keyword, cursor, pageable));
     }
 }
@@ -2,6 +2,7 @@ package com.ssafy.booknest.domain.book.controller;
 
 import com.ssafy.booknest.domain.book.dto.request.ReviewRequest;
 import com.ssafy.booknest.domain.book.dto.response.evaluation.BestReviewResponse;
+import com.ssafy.booknest.domain.book.dto.response.evaluation.ReviewCursorResponse;
 import com.ssafy.booknest.domain.book.dto.response.evaluation.UserReviewResponse;
 import com.ssafy.booknest.domain.book.service.ReviewService;
 import com.ssafy.booknest.global.common.CustomPage;
@@ -36,6 +37,17 @@ public class ReviewController {
         return ApiResponse.success(HttpStatus.OK);
     }
 
+    // 도서 한줄평 목록 커서 조회 (첫 요청은 cursor 없이, 이후 응답의 nextCursor 전달)
+    @GetMapping("/{bookId}/reviews")
+    public ResponseEntity<ApiResponse<ReviewCursorResponse>> getBookReviews(@PathVariable("bookId") Integer bookId,
+                                                                            @AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                                                            @RequestParam(value = "size", defaultValue = "10") int size,
+                                                                            @RequestParam(value = "withCount", defaultValue = "false") boolean withCount) {
+        Integer userId = authenticationUtil.getCurrentUserId(userPrincipal);
+        return ApiResponse.success(reviewService.getBookReviews(userId, bookId, cursor, size, withCount));
+    }
+
     // 한줄평 수정
     @PutMapping("/review/{reviewId}")
     public ResponseEntity<ApiResponse<Void>> updateReview(@PathVariable("reviewId") Integer reviewId,
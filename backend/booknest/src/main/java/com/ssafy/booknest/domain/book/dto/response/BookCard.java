@@ -0,0 +1,16 @@
+package com.ssafy.booknest.domain.book.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+// 도서 목록(선반) 응답의 공통 카드 정보
+@Builder
+public record BookCard(
+        Integer bookId,
+        String title,
+        String imageUrl,
+        String publishedDate,
+        List<String> authors
+) {
+}
@@ -1,12 +1,8 @@
 package com.ssafy.booknest.domain.book.dto.response;
 
-import com.ssafy.booknest.domain.book.entity.Book;
-import com.ssafy.booknest.domain.book.entity.BookAuthor;
 import lombok.*;
 
-import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -20,16 +16,13 @@ public class BookResponse {
     private String publishedDate;
     private List<String> authors;
 
-    public static BookResponse of(Book book) {
+    public static BookResponse of(BookCard card) {
         return BookResponse.builder()
-                .bookId(book.getId())
-                .title(book.getTitle())
-                .imageUrl(book.getImageUrl())
-                .publishedDate(book.getPublishedDate())
-                .authors(book.getBookAuthors().stream()
-                        .map(bookAuthor -> bookAuthor.getAuthor().getName())
-                        .distinct()
-                        .collect(Collectors.toList()))
+                .bookId(card.bookId())
+                .title(card.title())
+                .imageUrl(card.imageUrl())
+                .publishedDate(card.publishedDate())
+                .authors(card.authors())
                 .build();
     }
 }
@@ -25,11 +25,9 @@ public class BestReviewResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public static BestReviewResponse of(Review review, Integer currentUserId, int todayLikes, int rank) {
+    public static BestReviewResponse of(Review review, boolean myLiked, int todayLikes, int rank) {
         User reviewer = review.getUser();
         String reviewerName = (reviewer.getDeletedAt() == null) ? reviewer.getNickname() : "탈퇴한 유저";
-        boolean myLiked = review.getReviewLikes().stream()
-                .anyMatch(like -> like.getUser().getId().equals(currentUserId));
 
         return BestReviewResponse.builder()
                 .reviewId(review.getId())
@@ -0,0 +1,21 @@
+package com.ssafy.booknest.domain.book.dto.response.evaluation;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewCursorResponse {
+
+    // 내 한줄평 (첫 페이지에서만 포함)
+    private ReviewResponse myReview;
+    private List<ReviewResponse> content;
+    // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+    // withCount 요청 시에만 포함
+    private Long totalElements;
+}
@@ -1,7 +1,6 @@
 package com.ssafy.booknest.domain.book.dto.response.evaluation;
 
-import com.ssafy.booknest.domain.book.entity.evaluation.Review;
-import com.ssafy.booknest.domain.user.entity.User;
+import com.ssafy.booknest.domain.book.repository.projection.ReviewView;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -22,23 +21,18 @@ public class ReviewResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public static ReviewResponse of(Review review, Integer currentUserId) {
-        User reviewer = review.getUser();
-
+    public static ReviewResponse of(ReviewView review, boolean myLiked) {
         // User가 없을 경우 기본 처리
         String profileURl;
         String reviewerName;
-        if(reviewer.getDeletedAt() == null){
-            profileURl = reviewer.getProfileUrl();
-            reviewerName = reviewer.getNickname();
+        if(review.getReviewerDeletedAt() == null){
+            profileURl = review.getReviewerProfileUrl();
+            reviewerName = review.getReviewerNickname();
         } else{
             profileURl = "https://res.cloudinary.com/gominsushi/image/upload/v1744269066/ChatGPT_Image_2025%EB%85%84_4%EC%9B%94_10%EC%9D%BC_%EC%98%A4%ED%9B%84_04_07_47_bwil4d.png";
             reviewerName = "탈퇴한 유저";
         }
 
-        boolean myLiked = review.getReviewLikes().stream()
-                .anyMatch(like -> like.getUser().getId().equals(currentUserId));
-
         return ReviewResponse.builder()
                 .reviewId(review.getId())
                 .profileURL(profileURl)
@@ -1,12 +1,12 @@
 package com.ssafy.booknest.domain.book.dto.response.recommendation;
 
+import com.ssafy.booknest.domain.book.dto.response.BookCard;
 import com.ssafy.booknest.domain.book.entity.recommendation.AgeGenderBook;
 import com.ssafy.booknest.domain.book.enums.AgeGroup;
 import com.ssafy.booknest.domain.user.enums.Gender;
 import lombok.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -22,17 +22,15 @@ public class AgeGenderBookResponse {
     private String publishedDate;
     private List<String> authors;
 
-    public static AgeGenderBookResponse of(AgeGenderBook entity) {
+    public static AgeGenderBookResponse of(AgeGenderBook entity, BookCard card) {
         return AgeGenderBookResponse.builder()
-                .bookId(entity.getBook().getId())
-                .title(entity.getBook().getTitle())
-                .imageUrl(entity.getBook().getImageUrl())
+                .bookId(card.bookId())
+                .title(card.title())
+                .imageUrl(card.imageUrl())
                 .ageGroup(entity.getAgeGroup())
                 .gender(entity.getGender())
-                .publishedDate(entity.getBook().getPublishedDate())
-                .authors(entity.getBook().getBookAuthors().stream()
-                        .map(bookAuthor -> bookAuthor.getAuthor().getName())
-                        .collect(Collectors.toList()))
+                .publishedDate(card.publishedDate())
+                .authors(card.authors())
                 .build();
     }
 }
@@ -1,11 +1,10 @@
 package com.ssafy.booknest.domain.book.dto.response.recommendation;
 
-import com.ssafy.booknest.domain.book.entity.Book;
+import com.ssafy.booknest.domain.book.dto.response.BookCard;
 import com.ssafy.booknest.domain.book.entity.recommendation.CriticBook;
 import lombok.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -22,16 +21,13 @@ public class CriticBookResponse {
     private String endorsement;
     private Integer rank;
 
-    public static CriticBookResponse of(CriticBook criticBook) {
-        Book book = criticBook.getBook();
+    public static CriticBookResponse of(CriticBook criticBook, BookCard card) {
         return CriticBookResponse.builder()
-                .bookId(book.getId())
-                .imageUrl(book.getImageUrl())
-                .title(book.getTitle())
-                .publishedDate(book.getPublishedDate())
-                .authors(book.getBookAuthors().stream()
-                        .map(bookAuthor -> bookAuthor.getAuthor().getName())
-                        .collect(Collectors.toList()))
+                .bookId(card.bookId())
+                .imageUrl(card.imageUrl())
+                .title(card.title())
+                .publishedDate(card.publishedDate())
+                .authors(card.authors())
                 .criticName(criticBook.getCriticName())
                 .endorsement(criticBook.getEndorsement())
                 .rank(criticBook.getRank())
@@ -1,6 +1,6 @@
 package com.ssafy.booknest.domain.book.dto.response.recommendation;
 
-import com.ssafy.booknest.domain.book.entity.Book;
+import com.ssafy.booknest.domain.book.dto.response.BookCard;
 import lombok.*;
 
 import java.util.List;
@@ -19,18 +19,14 @@ public class FavoriteCategoryBookResponse {
     private List<String>  tags;
     private String category;
 
-    public static FavoriteCategoryBookResponse of(Book book, String category) {
+    public static FavoriteCategoryBookResponse of(BookCard card, String category, List<String> tags) {
         return FavoriteCategoryBookResponse.builder()
-                .bookId(book.getId())
-                .title(book.getTitle())
-                .imageUrl(book.getImageUrl())
-                .publishedDate(book.getPublishedDate())
-                .authors(book.getBookAuthors().stream()
-                        .map(bookAuthor -> bookAuthor.getAuthor().getName())
-                        .toList())
-                .tags(book.getBookTags().stream()
-                        .map(bookTag -> bookTag.getTag().getName())
-                        .toList())
+                .bookId(card.bookId())
+                .title(card.title())
+                .imageUrl(card.imageUrl())
+                .publishedDate(card.publishedDate())
+                .authors(card.authors())
+                .tags(tags)
                 .category(category)
                 .build();
     }
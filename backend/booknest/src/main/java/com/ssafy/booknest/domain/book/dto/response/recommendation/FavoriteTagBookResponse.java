@@ -1,10 +1,9 @@
 package com.ssafy.booknest.domain.book.dto.response.recommendation;
 
-import com.ssafy.booknest.domain.book.entity.Book;
+import com.ssafy.booknest.domain.book.dto.response.BookCard;
 import lombok.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -20,19 +19,15 @@ public class FavoriteTagBookResponse {
     private String tag;
     private List<String> categories;
 
-    public static FavoriteTagBookResponse of(Book book, String tag) {
+    public static FavoriteTagBookResponse of(BookCard card, String tag, List<String> categories) {
         return FavoriteTagBookResponse.builder()
-                .bookId(book.getId())
-                .title(book.getTitle())
-                .imageUrl(book.getImageUrl())
-                .publishedDate(book.getPublishedDate())
-                .authors(book.getBookAuthors().stream()
-                        .map(bookAuthor -> bookAuthor.getAuthor().getName())
-                        .collect(Collectors.toList()))
+                .bookId(card.bookId())
+                .title(card.title())
+                .imageUrl(card.imageUrl())
+                .publishedDate(card.publishedDate())
+                .authors(card.authors())
                 .tag(tag)
-                .categories(book.getBookCategories().stream()
-                        .map(bookCategory -> bookCategory.getCategory().getName())
-                        .collect(Collectors.toList()))
+                .categories(categories)
                 .build();
     }
 }
@@ -1,13 +1,12 @@
 package com.ssafy.booknest.domain.book.dto.response.recommendation;
 
+import com.ssafy.booknest.domain.book.dto.response.BookCard;
 import com.ssafy.booknest.domain.book.entity.recommendation.LibraryBook;
-import com.ssafy.booknest.domain.book.entity.Book;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -22,17 +21,13 @@ public class LibraryBookResponse {
     private int rank;
     private int year;
 
-    public static LibraryBookResponse of(LibraryBook libraryBook) {
-        Book book = libraryBook.getBook();
-
+    public static LibraryBookResponse of(LibraryBook libraryBook, BookCard card) {
         return LibraryBookResponse.builder()
-                .bookId(book.getId())
-                .title(book.getTitle())
-                .imageUrl(book.getImageUrl())
-                .publishedDate(book.getPublishedDate())
-                .authors(book.getBookAuthors().stream()
-                        .map(bookAuthor -> bookAuthor.getAuthor().getName())
-                        .collect(Collectors.toList()))
+                .bookId(card.bookId())
+                .title(card.title())
+                .imageUrl(card.imageUrl())
+                .publishedDate(card.publishedDate())
+                .authors(card.authors())
                 .rank(libraryBook.getRank())
                 .year(libraryBook.getYear())
                 .build();
@@ -1,11 +1,10 @@
 package com.ssafy.booknest.domain.book.dto.response.recommendation;
 
-import com.ssafy.booknest.domain.book.entity.Book;
+import com.ssafy.booknest.domain.book.dto.response.BookCard;
 
 import lombok.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -20,15 +19,13 @@ public class TagBookResponse {
     private List<String> authors;
     private String tag;
 
-    public static TagBookResponse of(Book book, String tag) {
+    public static TagBookResponse of(BookCard card, String tag) {
         return TagBookResponse.builder()
-                .bookId(book.getId())
-                .title(book.getTitle())
-                .imageUrl(book.getImageUrl())
-                .publishedDate(book.getPublishedDate())
-                .authors(book.getBookAuthors().stream()
-                        .map(bookAuthor -> bookAuthor.getAuthor().getName())
-                        .collect(Collectors.toList()))
+                .bookId(card.bookId())
+                .title(card.title())
+                .imageUrl(card.imageUrl())
+                .publishedDate(card.publishedDate())
+                .authors(card.authors())
                 .tag(tag)
                 .build();
     }
@@ -8,6 +8,7 @@ import com.ssafy.booknest.global.common.Entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.LazyGroup;
 
 
 import java.util.*;
@@ -39,12 +40,19 @@ public class Book extends BaseEntity {
     @Column(name="image_url")
     private String imageUrl;
 
+    // 본문성 대용량 컬럼은 상세 조회에서만 읽도록 지연 로딩 (바이트코드 향상 필요, 같은 그룹은 한 번에 로딩)
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
     @Column(columnDefinition = "TEXT")
     private String intro;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
     @Column(name="book_index", columnDefinition = "MEDIUMTEXT")
     private String bookIndex;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
     @Column(columnDefinition = "TEXT")
     private String publisherReview;
 
@@ -85,6 +93,10 @@ public class Book extends BaseEntity {
                 .collect(Collectors.joining(", "));
     }
 
+    public void updateTotalRatings(Integer totalRatings) {
+        this.totalRatings = totalRatings;
+    }
+
     public List<String> getTagNames() {
         return Optional.ofNullable(this.bookTags)
                 .orElse(Collections.emptyList())
@@ -0,0 +1,44 @@
+package com.ssafy.booknest.domain.book.entity;
+
+import com.ssafy.booknest.domain.book.enums.BookStore;
+import com.ssafy.booknest.global.common.Entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "purchase_link", uniqueConstraints = @UniqueConstraint(columnNames = {"isbn", "store"}))
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PurchaseLink extends BaseEntity {
+
+    @Column(name = "isbn", length = 20, nullable = false)
+    private String isbn;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "store", length = 20, nullable = false)
+    private BookStore store;
+
+    // 검색 결과가 없으면 null (음성 캐시)
+    @Column(name = "url", length = 500)
+    private String url;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    public void refresh(String url, LocalDateTime expiresAt) {
+        this.url = url;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,104 @@
+package com.ssafy.booknest.domain.book.entity.evaluation;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 평가 목록(인기순) 정렬용 도서 인기도
+// 평점 등록/수정/삭제 시 함께 갱신하고, (score, book_id) 인덱스를 역순으로 읽어 상관 서브쿼리나 COUNT 없이 순위대로 페이징
+// 평점이 없는 도서는 행을 두지 않음
+@Entity
+@Table(name = "book_popularity",
+        indexes = @Index(name = "idx_book_popularity_score", columnList = "score, book_id"))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BookPopularity {
+
+    // 베이지안 평균의 사전 평점 개수 (평점이 적은 도서의 평균이 전체 평균 쪽으로 당겨지는 정도)
+    public static final int PRIOR_COUNT = 10;
+    // 최근 평점 1개를 전체 평점 몇 개만큼 쳐 줄지
+    public static final int RECENT_WEIGHT = 2;
+
+    @Id
+    @Column(name = "book_id")
+    private Integer bookId;
+
+    @Builder.Default
+    @Column(name = "rating_count", nullable = false)
+    private Integer ratingCount = 0;
+
+    @Builder.Default
+    @Column(name = "rating_sum", nullable = false)
+    private Double ratingSum = 0.0;
+
+    // 최근 구간(BookPopularityService.RECENT_DAYS) 안에 등록된 평점 개수
+    @Builder.Default
+    @Column(name = "recent_count", nullable = false)
+    private Integer recentCount = 0;
+
+    @Builder.Default
+    @Column(name = "bayesian_average", nullable = false)
+    private Double bayesianAverage = 0.0;
+
+    // 정렬 기준 점수 = (평점 개수 + 최근 평점 개수 * RECENT_WEIGHT) * 베이지안 평균 / 5
+    @Builder.Default
+    @Column(name = "score", nullable = false)
+    private Double score = 0.0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static BookPopularity empty(Integer bookId) {
+        return BookPopularity.builder()
+                .bookId(bookId)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 평점 추가 (새 평점은 항상 최근 구간에 포함)
+    public void addRating(double rating, double priorMean) {
+        this.ratingCount++;
+        this.ratingSum += rating;
+        this.recentCount++;
+        recalculate(priorMean);
+    }
+
+    // 평점 제거 (최근 구간에 등록된 평점이면 최근 개수도 제거)
+    public void removeRating(double rating, boolean recent, double priorMean) {
+        if (this.ratingCount > 0) {
+            this.ratingCount--;
+            this.ratingSum = Math.max(0.0, this.ratingSum - rating);
+        }
+        if (recent && this.recentCount > 0) {
+            this.recentCount--;
+        }
+        recalculate(priorMean);
+    }
+
+    // 평점 변경
+    public void changeRating(double oldRating, double newRating, double priorMean) {
+        this.ratingSum = Math.max(0.0, this.ratingSum - oldRating + newRating);
+        recalculate(priorMean);
+    }
+
+    // 원본 기준으로 전체 값 덮어쓰기 (갱신 배치용)
+    public void overwrite(int ratingCount, double ratingSum, int recentCount, double priorMean) {
+        this.ratingCount = ratingCount;
+        this.ratingSum = ratingSum;
+        this.recentCount = recentCount;
+        recalculate(priorMean);
+    }
+
+    public boolean isEmpty() {
+        return ratingCount == 0;
+    }
+
+    private void recalculate(double priorMean) {
+        this.bayesianAverage = (PRIOR_COUNT * priorMean + ratingSum) / (PRIOR_COUNT + ratingCount);
+        this.score = (ratingCount + (double) recentCount * RECENT_WEIGHT) * bayesianAverage / 5.0;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,114 @@
+package com.ssafy.booknest.domain.book.entity.evaluation;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "book_rating_stat")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BookRatingStat {
+
+    // 평점은 0.5 ~ 5.0 (0.5 단위) 이므로 10칸 히스토그램
+    public static final int BUCKET_SIZE = 10;
+
+    @Id
+    @Column(name = "book_id")
+    private Integer bookId;
+
+    @Builder.Default
+    @Column(name = "rating_count", nullable = false)
+    private Integer ratingCount = 0;
+
+    @Builder.Default
+    @Column(name = "rating_sum", nullable = false)
+    private Double ratingSum = 0.0;
+
+    // 점수별 평점 개수 (0.5, 1.0, ... 5.0 순서, 콤마 구분)
+    @Builder.Default
+    @Column(name = "histogram", nullable = false, length = 100)
+    private String histogram = "0,0,0,0,0,0,0,0,0,0";
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static BookRatingStat empty(Integer bookId) {
+        return BookRatingStat.builder()
+                .bookId(bookId)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 평점 추가
+    public void addRating(double score) {
+        this.ratingCount++;
+        this.ratingSum += score;
+        adjustBucket(score, 1);
+    }
+
+    // 평점 제거
+    public void removeRating(double score) {
+        if (this.ratingCount > 0) {
+            this.ratingCount--;
+            this.ratingSum = Math.max(0.0, this.ratingSum - score);
+        }
+        adjustBucket(score, -1);
+    }
+
+    // 평점 변경 (기존 점수 제거 후 새 점수 반영)
+    public void changeRating(double oldScore, double newScore) {
+        this.ratingSum = Math.max(0.0, this.ratingSum - oldScore + newScore);
+        adjustBucket(oldScore, -1);
+        adjustBucket(newScore, 1);
+    }
+
+    // 원본 평점 데이터 기준으로 전체 값 덮어쓰기 (복구 배치용)
+    public void overwrite(int ratingCount, double ratingSum, int[] buckets) {
+        this.ratingCount = ratingCount;
+        this.ratingSum = ratingSum;
+        this.histogram = joinBuckets(buckets);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 평균 평점 (소수점 둘째 자리 반올림)
+    public double getAverage() {
+        if (ratingCount == 0) return 0.0;
+        return Math.round(ratingSum / ratingCount * 100) / 100.0;
+    }
+
+    public int[] getBuckets() {
+        int[] buckets = new int[BUCKET_SIZE];
+        String[] parts = histogram.split(",");
+        for (int i = 0; i < BUCKET_SIZE && i < parts.length; i++) {
+            buckets[i] = Integer.parseInt(parts[i].trim());
+        }
+        return buckets;
+    }
+
+    // 0.5 -> 0, 1.0 -> 1, ... 5.0 -> 9
+    public static int bucketIndex(double score) {
+        int index = (int) Math.round(score * 2) - 1;
+        return Math.min(Math.max(index, 0), BUCKET_SIZE - 1);
+    }
+
+    private void adjustBucket(double score, int delta) {
+        int[] buckets = getBuckets();
+        int index = bucketIndex(score);
+        buckets[index] = Math.max(0, buckets[index] + delta);
+        this.histogram = joinBuckets(buckets);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    private static String joinBuckets(int[] buckets) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(buckets[i]);
+        }
+        return sb.toString();
+    }
+}
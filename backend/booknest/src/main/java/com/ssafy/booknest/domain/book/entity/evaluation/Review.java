@@ -12,7 +12,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "review", uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "book_id"}))
+@Table(name = "review",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "book_id"}),
+        indexes = @Index(name = "idx_review_book_updated", columnList = "book_id, updated_at, id"))
 @Getter
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
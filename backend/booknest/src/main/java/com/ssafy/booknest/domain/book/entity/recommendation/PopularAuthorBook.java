@@ -14,7 +14,8 @@ import org.springframework.data.annotation.LastModifiedDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "popular_author_book")
+@Table(name = "popular_author_book",
+        indexes = @Index(name = "idx_popular_author_book_generation_rank", columnList = "generation, rank"))
 @Getter
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -27,6 +28,10 @@ public class PopularAuthorBook extends BaseEntity {
     @Column(name = "rank")
     private Integer rank;
 
+    // 배치 실행 ID (recommendation_generation에 공개된 세대만 조회)
+    @Column(name = "generation", nullable = false)
+    private Integer generation;
+
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
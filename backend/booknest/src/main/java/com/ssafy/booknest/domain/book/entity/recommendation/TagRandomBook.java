@@ -6,7 +6,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "tag_random_book")
+@Table(name = "tag_random_book",
+        indexes = @Index(name = "idx_tag_random_book_generation_tag", columnList = "generation, tag"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -16,6 +17,10 @@ public class TagRandomBook extends BaseEntity {
     @Column(name = "tag")
     private String tag;
 
+    // 배치 실행 ID (recommendation_generation에 공개된 세대만 조회)
+    @Column(name = "generation", nullable = false)
+    private Integer generation;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "book_id")
     private Book book;
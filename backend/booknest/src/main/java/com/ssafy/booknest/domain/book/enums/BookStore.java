@@ -0,0 +1,26 @@
+package com.ssafy.booknest.domain.book.enums;
+
+import java.time.Duration;
+
+public enum BookStore {
+
+    // 상세 페이지 URL은 거의 바뀌지 않으므로 길게, 검색 실패(음성 캐시)는 짧게 보관
+    KYOBO(Duration.ofDays(30), Duration.ofHours(12)),
+    YES24(Duration.ofDays(30), Duration.ofHours(12));
+
+    private final Duration ttl;
+    private final Duration negativeTtl;
+
+    BookStore(Duration ttl, Duration negativeTtl) {
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public Duration getNegativeTtl() {
+        return negativeTtl;
+    }
+}
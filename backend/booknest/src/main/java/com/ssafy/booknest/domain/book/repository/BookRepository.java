@@ -1,87 +1,101 @@
 package com.ssafy.booknest.domain.book.repository;
 
-import com.ssafy.booknest.domain.book.entity.recommendation.BestSeller;
 import com.ssafy.booknest.domain.book.entity.Book;
+import com.ssafy.booknest.domain.book.repository.projection.BookCardView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookRepository extends JpaRepository<Book, Integer> {
 
-    // 베스트 셀러
-    @Query(value = "SELECT * FROM best_seller LIMIT 15", nativeQuery = true)
-    List<BestSeller> findBestSellers();
+    // 베스트 셀러 도서 ID
+    @Query(value = "SELECT book_id FROM best_seller LIMIT 15", nativeQuery = true)
+    List<Integer> findBestSellerBookIds();
 
-    // 책 평균 평가 점수 구하기
-    @Query("SELECT ROUND(AVG(r.rating), 2) FROM Rating r WHERE r.book.id = :bookId")
-    Optional<Double> findAverageRatingByBookId(@Param("bookId") int bookId);
+    // 도서 카드용 컬럼만 ID 목록으로 조회
+    @Query("SELECT b.id AS id, b.title AS title, b.imageUrl AS imageUrl, b.publishedDate AS publishedDate FROM Book b WHERE b.id IN :bookIds")
+    List<BookCardView> findCardViewsByIdIn(@Param("bookIds") Collection<Integer> bookIds);
 
-    // 특정 도서와 관련 한줄평 조회
-    @Query("""
-    SELECT b FROM Book b
-    LEFT JOIN FETCH b.reviews r
-    LEFT JOIN FETCH r.user
-    WHERE b.id = :bookId
-""")
-    Optional<Book> findBookDetailById(@Param("bookId") Integer bookId);
+    // 도서 ID 목록의 저자 이름 한 번에 조회 ([bookId, authorName])
+    @Query("SELECT ba.book.id, a.name FROM BookAuthor ba JOIN ba.author a WHERE ba.book.id IN :bookIds ORDER BY ba.id")
+    List<Object[]> findAuthorNamesByBookIdIn(@Param("bookIds") Collection<Integer> bookIds);
+
+    // 도서 ID 목록의 태그 이름 한 번에 조회 ([bookId, tagName])
+    @Query("SELECT bt.book.id, t.name FROM BookTag bt JOIN bt.tag t WHERE bt.book.id IN :bookIds ORDER BY bt.id")
+    List<Object[]> findTagNamesByBookIdIn(@Param("bookIds") Collection<Integer> bookIds);
+
+    // 도서 ID 목록의 카테고리 이름 한 번에 조회 ([bookId, categoryName])
+    @Query("SELECT bc.book.id, c.name FROM BookCategory bc JOIN bc.category c WHERE bc.book.id IN :bookIds ORDER BY bc.id")
+    List<Object[]> findCategoryNamesByBookIdIn(@Param("bookIds") Collection<Integer> bookIds);
+
+    // 도서 평점 개수 컬럼 갱신 (평점 집계 복구 배치용)
+    @Modifying
+    @Query("UPDATE Book b SET b.totalRatings = :totalRatings WHERE b.id = :bookId")
+    void updateTotalRatings(@Param("bookId") Integer bookId, @Param("totalRatings") Integer totalRatings);
+
+    // 구매 링크용 ISBN 조회
+    @Query("SELECT b.isbn FROM Book b WHERE b.id = :bookId")
+    Optional<String> findIsbnById(@Param("bookId") Integer bookId);
+
+    // 구매 링크 사전 수집 대상: 베스트 셀러 ISBN
+    @Query("SELECT DISTINCT bs.book.isbn FROM BestSeller bs WHERE bs.book.isbn IS NOT NULL")
+    List<String> findBestSellerIsbns();
+
+    // 구매 링크 사전 수집 대상: 평론가 추천 도서 ISBN
+    @Query("SELECT DISTINCT cb.book.isbn FROM CriticBook cb WHERE cb.book.isbn IS NOT NULL")
+    List<String> findCriticBookIsbns();
+
+    // 구매 링크 사전 수집 대상: 특정 시각 이후 찜된 도서 ISBN
+    @Query("SELECT DISTINCT bm.book.isbn FROM BookMark bm WHERE bm.createdAt >= :since AND bm.book.isbn IS NOT NULL")
+    List<String> findBookmarkedIsbnsSince(@Param("since") LocalDateTime since);
 
     // 화제의 작가의 도서들 조회
     @Query("""
-        SELECT b FROM Book b
+        SELECT b.id FROM Book b
         JOIN b.bookAuthors ba
         JOIN ba.author a
         WHERE a.name LIKE %:author%
         ORDER BY b.createdAt DESC
     """)
-    List<Book> findBooksByAuthorNameLike(@Param("author") String author, Pageable pageable);
+    List<Integer> findBookIdsByAuthorNameLike(@Param("author") String author, Pageable pageable);
+
 
+    // 최근 출간일 순으로 [도서 ID, 출간일] 조회 (평가한 도서는 호출하는 쪽에서 제외, 출간일 없는 도서는 맨 뒤)
+    @Query("SELECT b.id, b.publishedDate FROM Book b ORDER BY b.publishedDate DESC, b.id DESC")
+    List<Object[]> findRecentBooks(Pageable pageable);
 
-    // 평가가 등록된 도서 중 제외할 ID 리스트를 뺀 후, 평점 개수 기준으로 내림차순 정렬하여 페이징 조회
+    // 이전 페이지 마지막 (출간일, 도서 ID) 다음부터 최근 출간일 순으로 [도서 ID, 출간일] 조회
     @Query("""
-    SELECT b 
-    FROM Book b 
-    WHERE b.id NOT IN :excludedIds AND
-          (SELECT COUNT(r) FROM Rating r WHERE r.book = b) > 0
-    ORDER BY (SELECT COUNT(r) FROM Rating r WHERE r.book = b) DESC
+        SELECT b.id, b.publishedDate FROM Book b
+        WHERE (:publishedDate IS NULL AND b.publishedDate IS NULL AND b.id < :bookId)
+           OR (:publishedDate IS NOT NULL AND (b.publishedDate IS NULL OR b.publishedDate < :publishedDate
+               OR (b.publishedDate = :publishedDate AND b.id < :bookId)))
+        ORDER BY b.publishedDate DESC, b.id DESC
     """)
-    Page<Book> findMostRatedBooksExcluding(@Param("excludedIds") List<Integer> excludedIds, Pageable pageable);
+    List<Object[]> findRecentBooksAfter(@Param("publishedDate") String publishedDate, @Param("bookId") Integer bookId,
+                                        Pageable pageable);
 
-    // 제외할 ID 리스트를 제외한 도서 중 최근 출간일 순으로 정렬하여 페이징 조회
-    @Query("SELECT b FROM Book b WHERE b.id NOT IN :excludedIds ORDER BY b.publishedDate DESC")
-    Page<Book> findRecentBooksExcluding(@Param("excludedIds") List<Integer> excludedIds, Pageable pageable);
+    // 무작위 추출용 전체 도서 ID (RandomBookSampler 갱신용)
+    @Query("SELECT b.id FROM Book b ORDER BY b.id")
+    List<Integer> findAllIds();
 
-    // 제외할 ID 리스트를 제외한 도서 중 무작위 순서로 페이징 조회
-    @Query("SELECT b FROM Book b WHERE b.id NOT IN :excludedIds ORDER BY function('RAND')")
-    Page<Book> findRandomBooksExcluding(@Param("excludedIds") List<Integer> excludedIds, Pageable pageable);
+    // 무작위 추출용 태그별 도서 ID ([tagName, bookId])
+    @Query("SELECT t.name, bt.book.id FROM BookTag bt JOIN bt.tag t")
+    List<Object[]> findAllTagBookPairs();
 
-
-    // 주어진 태그를 가진 도서들 중 무작위로 선택하여 일정 개수만 조회 (태그별 인기 도서 부족 시 대체용)
-    @Query("""
-    SELECT b FROM Book b
-    JOIN b.bookTags bt
-    JOIN bt.tag t
-    WHERE t.name = :tag
-    ORDER BY function('RAND')
-""")
-    List<Book> findRandomBooksByTag(@Param("tag") String tag, Pageable pageable);
-
-
-    // 지정된 카테고리 이름에 해당하는 도서 중 랜덤으로 도서 목록 조회 (페이징 지원)
-    @Query("""
-    SELECT b FROM Book b
-    JOIN b.bookCategories bc
-    JOIN bc.category c
-    WHERE c.name = :category
-    ORDER BY function('RAND')
-""")
-    List<Book> findRandomBooksByCategory(@Param("category") String category, Pageable pageable);
+    // 무작위 추출용 카테고리별 도서 ID ([categoryName, bookId])
+    @Query("SELECT c.name, bc.book.id FROM BookCategory bc JOIN bc.category c")
+    List<Object[]> findAllCategoryBookPairs();
 
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.ssafy.booknest.domain.book.repository;
+
+import com.ssafy.booknest.domain.book.entity.PurchaseLink;
+import com.ssafy.booknest.domain.book.enums.BookStore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PurchaseLinkRepository extends JpaRepository<PurchaseLink, Integer> {
+
+    // ISBN의 서점별 캐시된 구매 링크 조회
+    List<PurchaseLink> findByIsbn(String isbn);
+
+    // ISBN + 서점으로 캐시된 구매 링크 조회
+    Optional<PurchaseLink> findByIsbnAndStore(String isbn, BookStore store);
+}
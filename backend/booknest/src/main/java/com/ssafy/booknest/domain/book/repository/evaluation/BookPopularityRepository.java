@@ -0,0 +1,53 @@
+package com.ssafy.booknest.domain.book.repository.evaluation;
+
+import com.ssafy.booknest.domain.book.entity.evaluation.BookPopularity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BookPopularityRepository extends JpaRepository<BookPopularity, Integer> {
+
+    // 평점 등록/수정/삭제 시 동시 갱신을 막기 위해 행 잠금 후 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM BookPopularity p WHERE p.bookId = :bookId")
+    Optional<BookPopularity> findByBookIdForUpdate(@Param("bookId") Integer bookId);
+
+    // 순위 행이 없을 때만 빈 행 생성 (같은 도서의 첫 평점이 동시에 들어와도 중복 키 오류 없이 한 행만 생김)
+    @Modifying
+    @Query(value = """
+        INSERT INTO book_popularity (book_id, rating_count, rating_sum, recent_count, bayesian_average, score, updated_at)
+        VALUES (:bookId, 0, 0, 0, 0, 0, NOW())
+        ON DUPLICATE KEY UPDATE book_id = book_id
+    """, nativeQuery = true)
+    void insertIfAbsent(@Param("bookId") Integer bookId);
+
+    // 인기 순위대로 [도서 ID, 점수] 페이징 조회 (idx_book_popularity_score 역순 범위 스캔, COUNT 쿼리 없음)
+    @Query("SELECT p.bookId, p.score FROM BookPopularity p ORDER BY p.score DESC, p.bookId DESC")
+    List<Object[]> findRankedBooks(Pageable pageable);
+
+    // 이전 페이지 마지막 (점수, 도서 ID) 다음 순위부터 [도서 ID, 점수] 조회
+    @Query("""
+        SELECT p.bookId, p.score FROM BookPopularity p
+        WHERE p.score < :score OR (p.score = :score AND p.bookId < :bookId)
+        ORDER BY p.score DESC, p.bookId DESC
+    """)
+    List<Object[]> findRankedBooksAfter(@Param("score") Double score, @Param("bookId") Integer bookId, Pageable pageable);
+
+    // 기간 내 등록된 도서별 평점 개수 ([bookId, count], 최근 평점 개수 갱신용)
+    @Query("SELECT r.book.id, COUNT(r) FROM Rating r WHERE r.createdAt >= :since GROUP BY r.book.id")
+    List<Object[]> countRecentGroupByBook(@Param("since") LocalDateTime since);
+
+    // 전체 평점 합계와 개수 ([sum, count], 베이지안 평균의 사전 평균 계산용)
+    @Query("SELECT SUM(s.ratingSum), SUM(s.ratingCount) FROM BookRatingStat s")
+    List<Object[]> sumAllRatings();
+}
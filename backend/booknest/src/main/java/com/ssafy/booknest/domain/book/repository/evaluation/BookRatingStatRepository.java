@@ -0,0 +1,34 @@
+package com.ssafy.booknest.domain.book.repository.evaluation;
+
+import com.ssafy.booknest.domain.book.entity.evaluation.BookRatingStat;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BookRatingStatRepository extends JpaRepository<BookRatingStat, Integer> {
+
+    // 평점 등록/수정/삭제 시 동시 갱신을 막기 위해 행 잠금 후 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BookRatingStat s WHERE s.bookId = :bookId")
+    Optional<BookRatingStat> findByBookIdForUpdate(@Param("bookId") Integer bookId);
+
+    // 집계 행이 없을 때만 빈 행 생성 (같은 도서의 첫 평점이 동시에 들어와도 중복 키 오류 없이 한 행만 생김)
+    @Modifying
+    @Query(value = """
+        INSERT INTO book_rating_stat (book_id, rating_count, rating_sum, histogram, updated_at)
+        VALUES (:bookId, 0, 0, '0,0,0,0,0,0,0,0,0,0', NOW())
+        ON DUPLICATE KEY UPDATE book_id = book_id
+    """, nativeQuery = true)
+    void insertIfAbsent(@Param("bookId") Integer bookId);
+
+    // 여러 도서의 집계 정보 한 번에 조회
+    List<BookRatingStat> findByBookIdIn(List<Integer> bookIds);
+}
@@ -4,8 +4,11 @@ import com.ssafy.booknest.domain.book.entity.Book;
 import com.ssafy.booknest.domain.book.entity.evaluation.IgnoredBook;
 import com.ssafy.booknest.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,4 +20,8 @@ public interface IgnoredBookRepository extends JpaRepository<IgnoredBook, Intege
     // 특정 사용자와 도서에 대한 '관심 없음' 등록 여부 조회
     Optional<IgnoredBook> findByUserAndBook(User user, Book book);
 
+    // 사용자가 관심없음 표시한 도서 ID 목록 (평가 목록 제외 비트맵 적재용)
+    @Query("SELECT i.book.id FROM IgnoredBook i WHERE i.user.id = :userId")
+    List<Integer> findBookIdsByUserId(@Param("userId") Integer userId);
+
 }
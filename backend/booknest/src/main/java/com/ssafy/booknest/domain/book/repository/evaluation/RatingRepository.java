@@ -32,28 +32,8 @@ public interface RatingRepository extends JpaRepository<Rating, Integer> {
     @Query("SELECT r.book.id FROM Rating r WHERE r.user.id = :userId")
     List<Integer> findBookIdsByUserId(@Param("userId") Integer userId);
 
-    // 회원 별 각 카테고리별 평균점수 중에 가장 높은 거로 배치 작업
-    @Query("SELECT r FROM Rating r " +
-            "JOIN FETCH r.book b " +
-            "JOIN FETCH b.bookCategories bc " +
-            "JOIN FETCH bc.category " +
-            "JOIN FETCH r.user")
-    List<Rating> findAllWithBookAndCategory();
-
-    // 회원 별 각 태그별 평균점수 중에 가장 높은 거로 배치 작업
-    @Query("SELECT r FROM Rating r " +
-            "JOIN FETCH r.book b " +
-            "JOIN FETCH b.bookTags bt " +
-            "JOIN FETCH bt.tag")
-    List<Rating> findAllWithBookAndTags();
-
-    // 회원 별 각 작가별 평균점수 중에 가장 높은 거로 배치 작업
-    @Query("SELECT r FROM Rating r " +
-            "JOIN FETCH r.book b " +
-            "JOIN FETCH b.bookAuthors ba " +
-            "JOIN FETCH ba.author")
-    List<Rating> findAllWithBookAndAuthor();
-
-
+    // 도서별, 점수별 평점 개수 (도서 평점 집계 복구용)
+    @Query("SELECT r.book.id, r.rating, COUNT(r) FROM Rating r GROUP BY r.book.id, r.rating")
+    List<Object[]> countGroupByBookAndRating();
 
 }
@@ -0,0 +1,99 @@
+package com.ssafy.booknest.domain.book.repository.evaluation;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 평점 테이블 전체를 엔티티로 올리지 않고 (유저 ID, 도서 ID, 태그/카테고리/작가 ID, 평점) 튜플로 스트리밍 조회
+// 호출하는 쪽에서 트랜잭션(readOnly 권장)을 열어야 함
+@Repository
+public class RatingStreamRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+    private static final int CLEAR_INTERVAL = 10_000;
+    private static final int IN_CHUNK_SIZE = 1_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public enum Dimension {
+        TAG("SELECT r.user.id, b.id, bt.tag.id, r.rating FROM Rating r JOIN r.book b JOIN b.bookTags bt",
+                "SELECT t.id, t.name FROM Tag t WHERE t.id IN :ids"),
+        CATEGORY("SELECT r.user.id, b.id, bc.category.id, r.rating FROM Rating r JOIN r.book b JOIN b.bookCategories bc",
+                "SELECT c.id, c.name FROM Category c WHERE c.id IN :ids"),
+        AUTHOR("SELECT r.user.id, b.id, ba.author.id, r.rating FROM Rating r JOIN r.book b JOIN b.bookAuthors ba",
+                "SELECT a.id, a.name FROM Author a WHERE a.id IN :ids");
+
+        private final String tupleQuery;
+        private final String nameQuery;
+
+        Dimension(String tupleQuery, String nameQuery) {
+            this.tupleQuery = tupleQuery;
+            this.nameQuery = nameQuery;
+        }
+    }
+
+    @FunctionalInterface
+    public interface RatingTupleHandler {
+        void accept(int userId, int bookId, int dimensionId, double rating);
+    }
+
+    // 평점 튜플을 한 행씩 전달하고 처리한 행 수 반환 (조회 중 영속성 컨텍스트를 주기적으로 비움)
+    public long stream(Dimension dimension, RatingTupleHandler handler) {
+        return stream(dimension, 0, Integer.MAX_VALUE, handler);
+    }
+
+    // 유저 ID 구간(배치 파티션)의 평점 튜플만 스트리밍
+    public long stream(Dimension dimension, int fromUserId, int toUserId, RatingTupleHandler handler) {
+        Session session = entityManager.unwrap(Session.class);
+        long rows = 0;
+
+        try (ScrollableResults<Object[]> results = session
+                .createSelectionQuery(dimension.tupleQuery + " WHERE r.user.id BETWEEN :fromId AND :toId", Object[].class)
+                .setParameter("fromId", fromUserId)
+                .setParameter("toId", toUserId)
+                .setFetchSize(FETCH_SIZE)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                Object[] row = results.get();
+                if (row[2] == null || row[3] == null) {
+                    continue;
+                }
+                handler.accept((Integer) row[0], (Integer) row[1], (Integer) row[2], (Double) row[3]);
+
+                if (++rows % CLEAR_INTERVAL == 0) {
+                    session.clear();
+                }
+            }
+        }
+        return rows;
+    }
+
+    // 태그/카테고리/작가 ID → 이름
+    public Map<Integer, String> findNames(Dimension dimension, Collection<Integer> ids) {
+        Map<Integer, String> names = new HashMap<>();
+        if (ids.isEmpty()) {
+            return names;
+        }
+
+        List<Integer> idList = List.copyOf(ids);
+        for (int from = 0; from < idList.size(); from += IN_CHUNK_SIZE) {
+            List<Object[]> rows = entityManager.createQuery(dimension.nameQuery, Object[].class)
+                    .setParameter("ids", idList.subList(from, Math.min(from + IN_CHUNK_SIZE, idList.size())))
+                    .getResultList();
+            for (Object[] row : rows) {
+                names.put((Integer) row[0], (String) row[1]);
+            }
+        }
+        return names;
+    }
+}
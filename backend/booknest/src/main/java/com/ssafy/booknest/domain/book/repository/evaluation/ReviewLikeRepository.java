@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,10 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Integer>
     // 특정 유저의 해당 한줄평에 좋아요
     Optional<ReviewLike> findByUserAndReview(User user, Review review);
 
+    // 한줄평 ID 목록 중 해당 유저가 좋아요한 한줄평 ID만 조회 (좋아요 컬렉션 로딩 없이 myLiked 계산)
+    @Query("SELECT rl.review.id FROM ReviewLike rl WHERE rl.user.id = :userId AND rl.review.id IN :reviewIds")
+    List<Integer> findLikedReviewIds(@Param("userId") Integer userId, @Param("reviewIds") Collection<Integer> reviewIds);
+
     // 오늘 좋아요 많이 받은 한줄평 3개 조회
     @Query("SELECT rl.review.id, COUNT(rl.id) " +
             "FROM ReviewLike rl " +
@@ -1,7 +1,7 @@
 package com.ssafy.booknest.domain.book.repository.evaluation;
 
-import com.ssafy.booknest.domain.book.entity.Book;
 import com.ssafy.booknest.domain.book.entity.evaluation.Review;
+import com.ssafy.booknest.domain.book.repository.projection.ReviewView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -28,16 +30,67 @@ public interface ReviewRepository extends JpaRepository<Review, Integer> {
     Integer countReviews(@Param("userId") Integer userId);
 
     // 도서 마다 한줄평 목록 가져오기 (내가 쓴 한줄평은 맨 위)
-    @Query("""
-    SELECT r
+    @Query(value = """
+    SELECT r.id AS id, r.rating AS rating, r.content AS content, r.likes AS likes,
+           r.createdAt AS createdAt, r.updatedAt AS updatedAt,
+           u.nickname AS reviewerNickname, u.profileUrl AS reviewerProfileUrl, u.deletedAt AS reviewerDeletedAt
     FROM Review r
-    WHERE r.book = :book
+    JOIN r.user u
+    WHERE r.book.id = :bookId
     ORDER BY
-        CASE WHEN r.user.id = :userId THEN 0 ELSE 1 END,   
+        CASE WHEN u.id = :userId THEN 0 ELSE 1 END,
         r.updatedAt DESC
+""", countQuery = "SELECT COUNT(r) FROM Review r WHERE r.book.id = :bookId")
+    Page<ReviewView> findByBookOrderByUserFirst(@Param("bookId") Integer bookId,
+                                                @Param("userId") Integer userId,
+                                                Pageable pageable);
+
+    // 해당 유저가 해당 도서에 남긴 한줄평 (목록 표시용 컬럼만)
+    @Query("""
+    SELECT r.id AS id, r.rating AS rating, r.content AS content, r.likes AS likes,
+           r.createdAt AS createdAt, r.updatedAt AS updatedAt,
+           u.nickname AS reviewerNickname, u.profileUrl AS reviewerProfileUrl, u.deletedAt AS reviewerDeletedAt
+    FROM Review r
+    JOIN r.user u
+    WHERE r.book.id = :bookId AND
+          u.id = :userId
 """)
-    Page<Review> findByBookOrderByUserFirst(@Param("book") Book book,
+    Optional<ReviewView> findViewByUserIdAndBookId(@Param("userId") Integer userId, @Param("bookId") Integer bookId);
+
+    // 도서 한줄평 커서 조회 첫 페이지 (내 한줄평 제외, 최근 수정 순)
+    @Query("""
+    SELECT r.id AS id, r.rating AS rating, r.content AS content, r.likes AS likes,
+           r.createdAt AS createdAt, r.updatedAt AS updatedAt,
+           u.nickname AS reviewerNickname, u.profileUrl AS reviewerProfileUrl, u.deletedAt AS reviewerDeletedAt
+    FROM Review r
+    JOIN r.user u
+    WHERE r.book.id = :bookId AND
+          u.id <> :userId
+    ORDER BY r.updatedAt DESC, r.id DESC
+""")
+    List<ReviewView> findFirstReviewsOfBook(@Param("bookId") Integer bookId,
                                             @Param("userId") Integer userId,
                                             Pageable pageable);
 
+    // 도서 한줄평 커서 조회 다음 페이지 ((updated_at, id)가 커서보다 앞선 한줄평만, idx_review_book_updated 사용)
+    @Query("""
+    SELECT r.id AS id, r.rating AS rating, r.content AS content, r.likes AS likes,
+           r.createdAt AS createdAt, r.updatedAt AS updatedAt,
+           u.nickname AS reviewerNickname, u.profileUrl AS reviewerProfileUrl, u.deletedAt AS reviewerDeletedAt
+    FROM Review r
+    JOIN r.user u
+    WHERE r.book.id = :bookId AND
+          u.id <> :userId AND
+          (r.updatedAt < :updatedAt OR (r.updatedAt = :updatedAt AND r.id < :reviewId))
+    ORDER BY r.updatedAt DESC, r.id DESC
+""")
+    List<ReviewView> findReviewsOfBookBefore(@Param("bookId") Integer bookId,
+                                             @Param("userId") Integer userId,
+                                             @Param("updatedAt") LocalDateTime updatedAt,
+                                             @Param("reviewId") Integer reviewId,
+                                             Pageable pageable);
+
+    // 도서 한줄평 개수
+    long countByBookId(Integer bookId);
+
 }
\ No newline at end of file
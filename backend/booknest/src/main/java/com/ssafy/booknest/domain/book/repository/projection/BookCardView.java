@@ -0,0 +1,13 @@
+package com.ssafy.booknest.domain.book.repository.projection;
+
+// 도서 카드에 필요한 컬럼만 조회하는 프로젝션 (본문 TEXT 컬럼 제외)
+public interface BookCardView {
+
+    Integer getId();
+
+    String getTitle();
+
+    String getImageUrl();
+
+    String getPublishedDate();
+}
@@ -0,0 +1,25 @@
+package com.ssafy.booknest.domain.book.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 한줄평 목록에 필요한 컬럼만 조회하는 프로젝션 (작성자 정보 포함, 좋아요 컬렉션 제외)
+public interface ReviewView {
+
+    Integer getId();
+
+    Double getRating();
+
+    String getContent();
+
+    Integer getLikes();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    String getReviewerNickname();
+
+    String getReviewerProfileUrl();
+
+    LocalDateTime getReviewerDeletedAt();
+}
@@ -5,7 +5,6 @@ import com.ssafy.booknest.domain.book.enums.AgeGroup;
 import com.ssafy.booknest.domain.user.enums.Gender;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,8 +21,8 @@ public interface AgeGenderBookRepository extends JpaRepository<AgeGenderBook, In
     // 나이대에서만 추천
     List<AgeGenderBook> findByAgeGroup(AgeGroup ageGroup);
 
-    // 성별이나 나이를 입력을 안하면 그냥 테이블에서 랜덤 추천
-    @Query(value = "SELECT * FROM age_gender_book ORDER BY RAND() LIMIT :limit", nativeQuery = true)
-    List<AgeGenderBook> findRandomLimit(@Param("limit") int limit);
+    // 무작위 추출용 전체 ID (RandomBookSampler 갱신용)
+    @Query("SELECT a.id FROM AgeGenderBook a ORDER BY a.id")
+    List<Integer> findAllIds();
 
 }
\ No newline at end of file
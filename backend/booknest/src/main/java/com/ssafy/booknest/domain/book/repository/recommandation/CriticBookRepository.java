@@ -11,13 +11,8 @@ import java.util.List;
 @Repository
 public interface CriticBookRepository extends JpaRepository<CriticBook, Integer> {
 
-    // 평론가의 추천책 가져오기
-    @Query("SELECT cb FROM CriticBook cb " +
-            "JOIN FETCH cb.book b " +
-            "LEFT JOIN FETCH b.bookAuthors ba " +
-            "LEFT JOIN FETCH ba.author " +
-            "WHERE cb.criticName = :criticName")
-    List<CriticBook> findByCriticNameWithBookAndAuthors(@Param("criticName") String criticName);
+    // 평론가의 추천책 가져오기 (도서 정보는 BookCardAssembler로 일괄 조회)
+    List<CriticBook> findByCriticName(String criticName);
 
 
     // 평론가 테이블의 모든 평론가 이름 가져오기 (랜덤 돌리기 위해)
@@ -5,13 +5,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface PopularAuthorBookRepository extends JpaRepository<PopularAuthorBook, Integer> {
 
-    // 인기 작가 도서 순위 목록을 페이지 단위로 조회
-    @Query("SELECT p FROM PopularAuthorBook p ORDER BY p.rank ASC")
-    Page<PopularAuthorBook> findTopRankedAuthors(Pageable pageable);
+    // 공개된 세대의 인기 작가 도서 순위 목록을 페이지 단위로 조회
+    @Query("SELECT p FROM PopularAuthorBook p WHERE p.generation = :generation ORDER BY p.rank ASC")
+    Page<PopularAuthorBook> findTopRankedAuthors(@Param("generation") Integer generation, Pageable pageable);
+
+    // 공개된 세대의 인기 작가 도서 ID를 순위 순으로 조회
+    @Query("SELECT p.book.id FROM PopularAuthorBook p WHERE p.generation = :generation ORDER BY p.rank ASC")
+    List<Integer> findTopRankedBookIds(@Param("generation") Integer generation, Pageable pageable);
 
 }
@@ -11,11 +11,11 @@ import java.util.List;
 @Repository
 public interface TagRandomBookRepository extends JpaRepository<TagRandomBook,Integer> {
 
-    // 태그 목록 전체 가져오기
-    @Query(value = "SELECT DISTINCT tag FROM tag_random_book", nativeQuery = true)
-    List<String> findAllTags();
+    // 공개된 세대의 태그 목록 전체 가져오기
+    @Query(value = "SELECT DISTINCT tag FROM tag_random_book WHERE generation = :generation", nativeQuery = true)
+    List<String> findAllTags(@Param("generation") Integer generation);
 
-    // 태그에 해당하는 책 중 랜덤 15권
-    @Query(value = "SELECT * FROM tag_random_book WHERE tag = :tag ORDER BY RAND() LIMIT 15", nativeQuery = true)
-    List<TagRandomBook> findRandomBooksByTag(@Param("tag") String tag);
+    // 공개된 세대에서 태그에 해당하는 도서 ID (태그당 최대 15권, 순서는 호출하는 쪽에서 섞음)
+    @Query("SELECT t.book.id FROM TagRandomBook t WHERE t.generation = :generation AND t.tag = :tag")
+    List<Integer> findBookIdsByTag(@Param("tag") String tag, @Param("generation") Integer generation);
 }
@@ -0,0 +1,42 @@
+package com.ssafy.booknest.domain.book.scheduler;
+
+import com.ssafy.booknest.domain.book.service.BookPopularityService;
+import com.ssafy.booknest.domain.book.service.BookRatingStatService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookRatingStatScheduler {
+
+    private final BookRatingStatService bookRatingStatService;
+    private final BookPopularityService bookPopularityService;
+
+    // 평점 집계는 평점 등록/수정/삭제 시 갱신되지만, 어긋난 값이 남지 않도록 원본 평점 기준으로 주기적 복구
+    @Scheduled(cron = "0 30 4 * * *") // 매일 새벽 4시 30분 실행
+    @SchedulerLock(name = "book-rating-stat-repair", lockAtLeastFor = "PT1M")
+    public void runBookRatingStatRepairBatch() {
+        log.info("[배치 시작] 도서 평점 집계 복구");
+
+        int repaired = bookRatingStatService.rebuildAll();
+
+        log.info("[배치 완료] 도서 평점 집계 복구 완료. 총 {}권", repaired);
+        log.info("***********************************************************************************************");
+    }
+
+    // 인기 순위는 평점 이벤트로 갱신되지만, 최근 구간에서 빠진 평점과 전체 평균 변화는 집계 복구 뒤에 한 번에 반영
+    @Scheduled(cron = "0 0 5 * * *") // 매일 새벽 5시 실행
+    @SchedulerLock(name = "book-popularity-refresh", lockAtLeastFor = "PT1M")
+    public void runBookPopularityRefreshBatch() {
+        log.info("[배치 시작] 도서 인기 순위 갱신");
+
+        int ranked = bookPopularityService.rebuildAll();
+
+        log.info("[배치 완료] 도서 인기 순위 갱신 완료. 총 {}권", ranked);
+        log.info("***********************************************************************************************");
+    }
+}
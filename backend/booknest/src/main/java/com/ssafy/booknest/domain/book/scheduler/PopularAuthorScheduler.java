@@ -1,108 +1,110 @@
 package com.ssafy.booknest.domain.book.scheduler;
 
-import com.ssafy.booknest.domain.book.entity.Book;
-import com.ssafy.booknest.domain.book.entity.BookAuthor;
-import com.ssafy.booknest.domain.book.entity.recommendation.PopularAuthorBook;
-import com.ssafy.booknest.domain.book.entity.evaluation.Rating;
 import com.ssafy.booknest.domain.book.repository.BookRepository;
-import com.ssafy.booknest.domain.book.repository.recommandation.PopularAuthorBookRepository;
-import com.ssafy.booknest.domain.book.repository.evaluation.RatingRepository;
-import jakarta.transaction.Transactional;
+import com.ssafy.booknest.domain.book.repository.evaluation.RatingStreamRepository;
+import com.ssafy.booknest.global.batch.BatchJobRunner;
+import com.ssafy.booknest.global.batch.BulkInsertWriter;
+import com.ssafy.booknest.global.batch.RecommendationGenerationService;
+import com.ssafy.booknest.global.batch.enums.RecommendationTable;
+import com.ssafy.booknest.global.common.util.PairAccumulator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PopularAuthorScheduler {
 
-    private final RatingRepository ratingRepository;
+    private final RatingStreamRepository ratingStreamRepository;
     private final BookRepository bookRepository;
-    private final PopularAuthorBookRepository popularAuthorBookRepository;
+    private final BatchJobRunner batchJobRunner;
+    private final BulkInsertWriter bulkInsertWriter;
+    private final RecommendationGenerationService recommendationGenerationService;
 
+    private static final String JOB_NAME = "popular-author";
     private static final int TOP_AUTHOR_COUNT = 2; // 상위 작가 수
     private static final int MAX_BOOKS_PER_AUTHOR = 15; // 작가당 최대 저장할 책 수
 
-    @Scheduled(fixedRate = 1000 * 60 * 60 * 4) // 4시간마다 실행
-    @Transactional
+    // 10분마다 확인해 4시간이 지났거나 중단된 실행이 있으면 실행
+    @Scheduled(fixedDelay = 1000 * 60 * 10)
     public void runPopularAuthorBatch() {
+        batchJobRunner.runSingle(JOB_NAME, Duration.ofHours(4), this::refreshPopularAuthors,
+                runId -> recommendationGenerationService.publish(RecommendationTable.POPULAR_AUTHOR_BOOK, runId));
+    }
+
+    // 전체 평점 기준 집계라 파티션 없이 한 서버에서만 실행 (새 세대 runId로 저장하고 실행이 끝나면 공개)
+    private long refreshPopularAuthors(int runId, int fromId, int toId) {
         log.info("[배치 시작] 평점 기반 화제의 작가 선정");
 
-        List<Rating> allRatings = ratingRepository.findAllWithBookAndAuthor();
-        Map<String, List<Double>> authorRatingMap = new HashMap<>();
-
-        // 작가별 평점 모으기
-        for (Rating rating : allRatings) {
-            double score = rating.getRating();
-            for (BookAuthor bookAuthor : rating.getBook().getBookAuthors()) {
-                String authorName = bookAuthor.getAuthor().getName();
-                authorRatingMap
-                        .computeIfAbsent(authorName, k -> new ArrayList<>())
-                        .add(score);
-            }
-        }
+        // 작가별 평점 합계/개수를 스트리밍으로 누적 (평점 엔티티를 메모리에 올리지 않음)
+        PairAccumulator authorRatings = new PairAccumulator();
+        ratingStreamRepository.stream(RatingStreamRepository.Dimension.AUTHOR,
+                (userId, bookId, authorId, rating) -> authorRatings.add(authorId, 0, rating));
 
-        if (authorRatingMap.isEmpty()) {
+        if (authorRatings.isEmpty()) {
             log.warn("작가 평점 데이터가 없습니다.");
-            return;
+            return 0;
+        }
+
+        // 평균 평점 상위 TOP_AUTHOR_COUNT 명의 작가 추출
+        PriorityQueue<double[]> topHeap = new PriorityQueue<>(Comparator.comparingDouble(e -> e[1]));
+        authorRatings.forEachSorted((authorId, ignored, sum, count) -> {
+            topHeap.offer(new double[]{authorId, sum / count});
+            if (topHeap.size() > TOP_AUTHOR_COUNT) {
+                topHeap.poll();
+            }
+        });
+
+        List<Integer> topAuthorIds = new ArrayList<>();
+        while (!topHeap.isEmpty()) {
+            topAuthorIds.add(0, (int) topHeap.poll()[0]);
         }
 
-        // 작가별 평균 평점 계산
-        Map<String, Double> authorAvgRating = authorRatingMap.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().stream().mapToDouble(Double::doubleValue).average().orElse(0.0)
-                ));
-
-        // 상위 TOP_AUTHOR_COUNT 명의 작가 추출
-        List<String> topAuthors = authorAvgRating.entrySet().stream()
-                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
-                .limit(TOP_AUTHOR_COUNT)
-                .map(Map.Entry::getKey)
+        Map<Integer, String> authorNames = ratingStreamRepository.findNames(RatingStreamRepository.Dimension.AUTHOR, topAuthorIds);
+        List<String> topAuthors = topAuthorIds.stream()
+                .map(authorNames::get)
+                .filter(Objects::nonNull)
                 .toList();
 
         if (topAuthors.isEmpty()) {
             log.warn("평점 상위 작가가 없습니다.");
-            return;
+            return 0;
         }
 
-        // 기존 데이터 삭제
-        popularAuthorBookRepository.deleteAllInBatch();
-
-        List<PopularAuthorBook> popularList = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long saved;
         int rank = 1;
 
-        for (String author : topAuthors) {
-            // 작가별 책 최대 MAX_BOOKS_PER_AUTHOR권까지 가져오도록 설정
-            List<Book> books = bookRepository.findBooksByAuthorNameLike(author, PageRequest.of(0, MAX_BOOKS_PER_AUTHOR));
+        try (BulkInsertWriter.Batch batch = bulkInsertWriter.open("popular_author_book", "generation", "author_name", "`rank`", "book_id", "updated_at")) {
+            for (String author : topAuthors) {
+                // 작가별 책 최대 MAX_BOOKS_PER_AUTHOR권까지 가져오도록 설정
+                List<Integer> bookIds = bookRepository.findBookIdsByAuthorNameLike(author, PageRequest.of(0, MAX_BOOKS_PER_AUTHOR));
 
-            for (Book book : books) {
-                popularList.add(PopularAuthorBook.builder()
-                        .authorName(author)
-                        .book(book)
-                        .rank(rank)
-                        .build());
-            }
+                for (Integer bookId : bookIds) {
+                    batch.add(runId, author, rank, bookId, now);
+                }
 
-            log.info("[{}위] {} 작가의 책 {}권 등록", rank, author, books.size());
-            rank++;
+                log.info("[{}위] {} 작가의 책 {}권 등록", rank, author, bookIds.size());
+                rank++;
+            }
+            saved = batch.getRows();
         }
 
-        if (popularList.isEmpty()) {
+        if (saved == 0) {
             log.warn("선택된 작가들의 책이 없습니다.");
-            return;
+            return 0;
         }
 
-        popularAuthorBookRepository.saveAll(popularList);
-
-        log.info("총 작가 수: {}, 총 책 수: {}", rank - 1, popularList.size());
+        log.info("총 작가 수: {}, 총 책 수: {}", rank - 1, saved);
         log.info("[배치 완료] 화제의 작가 도서 테이블 갱신 완료");
-        log.info("***********************************************************************************************");
+        return saved;
     }
 }
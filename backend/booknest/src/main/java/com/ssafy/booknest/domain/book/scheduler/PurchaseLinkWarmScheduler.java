@@ -0,0 +1,48 @@
+package com.ssafy.booknest.domain.book.scheduler;
+
+import com.ssafy.booknest.domain.book.repository.BookRepository;
+import com.ssafy.booknest.domain.book.service.PurchaseLinkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurchaseLinkWarmScheduler {
+
+    private final BookRepository bookRepository;
+    private final PurchaseLinkService purchaseLinkService;
+
+    // 노출이 많은 베스트 셀러, 평론가 추천 도서의 구매 링크를 미리 수집 (만료된 링크만 크롤링)
+    @Scheduled(cron = "0 0 5 * * *") // 매일 새벽 5시 실행
+    @SchedulerLock(name = "purchase-link-warm-featured", lockAtLeastFor = "PT1M")
+    public void runFeaturedPurchaseLinkWarmBatch() {
+        log.info("[배치 시작] 추천 도서 구매 링크 사전 수집");
+
+        Set<String> isbns = new LinkedHashSet<>(bookRepository.findBestSellerIsbns());
+        isbns.addAll(bookRepository.findCriticBookIsbns());
+        int crawled = purchaseLinkService.warm(isbns);
+
+        log.info("[배치 완료] 추천 도서 구매 링크 사전 수집 완료. 대상 {}권, 크롤링 {}건", isbns.size(), crawled);
+        log.info("***********************************************************************************************");
+    }
+
+    // 찜 등록 시 바로 수집하지만, 실패하거나 재시작으로 유실된 경우를 위해 최근 찜 도서를 다시 확인
+    @Scheduled(cron = "0 */30 * * * *") // 30분마다 실행
+    @SchedulerLock(name = "purchase-link-warm-bookmarked", lockAtMostFor = "PT25M", lockAtLeastFor = "PT1M")
+    public void runBookmarkedPurchaseLinkWarmBatch() {
+        Set<String> isbns = new LinkedHashSet<>(bookRepository.findBookmarkedIsbnsSince(LocalDateTime.now().minusHours(1)));
+        if (isbns.isEmpty()) {
+            return;
+        }
+        int crawled = purchaseLinkService.warm(isbns);
+        log.info("[배치 완료] 최근 찜 도서 구매 링크 사전 수집. 대상 {}권, 크롤링 {}건", isbns.size(), crawled);
+    }
+}
@@ -1,95 +1,115 @@
 package com.ssafy.booknest.domain.book.scheduler;
 
-import com.ssafy.booknest.domain.book.entity.Book;
-import com.ssafy.booknest.domain.book.entity.evaluation.Rating;
-import com.ssafy.booknest.domain.book.entity.recommendation.TagRandomBook;
-import com.ssafy.booknest.domain.book.repository.BookRepository;
-import com.ssafy.booknest.domain.book.repository.evaluation.RatingRepository;
-import com.ssafy.booknest.domain.book.repository.recommandation.TagRandomBookRepository;
-import jakarta.transaction.Transactional;
+import com.ssafy.booknest.domain.book.repository.evaluation.RatingStreamRepository;
+import com.ssafy.booknest.domain.book.service.RandomBookSampler;
+import com.ssafy.booknest.global.batch.BatchJobRunner;
+import com.ssafy.booknest.global.batch.BulkInsertWriter;
+import com.ssafy.booknest.global.batch.RecommendationGenerationService;
+import com.ssafy.booknest.global.batch.enums.RecommendationTable;
+import com.ssafy.booknest.global.common.util.PairAccumulator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TagPopularBookScheduler {
 
-    private final RatingRepository ratingRepository;
-    private final TagRandomBookRepository tagRandomBookRepository;
-    private final BookRepository bookRepository;
+    private static final String JOB_NAME = "tag-popular-book";
+    private static final int BOOKS_PER_TAG = 15;
 
-    @Scheduled(fixedRate = 1000 * 60 * 60 * 5) // 5시간마다 실행
-    @Transactional
+    private final RatingStreamRepository ratingStreamRepository;
+    private final RandomBookSampler randomBookSampler;
+    private final BatchJobRunner batchJobRunner;
+    private final BulkInsertWriter bulkInsertWriter;
+    private final RecommendationGenerationService recommendationGenerationService;
+
+    // 10분마다 확인해 5시간이 지났거나 중단된 실행이 있으면 실행
+    @Scheduled(fixedDelay = 1000 * 60 * 10)
     public void runTagBasedBookBatch() {
+        batchJobRunner.runSingle(JOB_NAME, Duration.ofHours(5), this::refreshTagPopularBooks,
+                runId -> recommendationGenerationService.publish(RecommendationTable.TAG_RANDOM_BOOK, runId));
+    }
+
+    // 전체 평점 기준 집계라 파티션 없이 한 서버에서만 실행 (새 세대 runId로 저장하고 실행이 끝나면 공개)
+    private long refreshTagPopularBooks(int runId, int fromId, int toId) {
         log.info("[배치 시작] 평점 기반 태그별 인기 도서 선정 시작");
 
-        List<Rating> ratings = ratingRepository.findAllWithBookAndTags();
+        // (태그, 도서)별 평점 합계/개수를 스트리밍으로 누적 (평점 엔티티를 메모리에 올리지 않음)
+        PairAccumulator tagBookRatings = new PairAccumulator();
+        ratingStreamRepository.stream(RatingStreamRepository.Dimension.TAG,
+                (userId, bookId, tagId, rating) -> tagBookRatings.add(tagId, bookId, rating));
+
+        // 태그 ID 순으로 전달되므로 태그별로 평균 평점 상위 15권만 유지
+        Map<Integer, List<Integer>> tagTopBooks = new HashMap<>();
+        TopBooks current = new TopBooks();
+        tagBookRatings.forEachSorted((tagId, bookId, sum, count) -> {
+            if (current.tagId != null && current.tagId != tagId) {
+                tagTopBooks.put(current.tagId, current.drain());
+            }
+            current.offer(tagId, bookId, sum / count);
+        });
+        if (current.tagId != null) {
+            tagTopBooks.put(current.tagId, current.drain());
+        }
 
-        // 태그별 책 점수 누적
-        Map<String, Map<Book, List<Double>>> tagScoreMap = new HashMap<>();
+        Map<Integer, String> tagNames = ratingStreamRepository.findNames(RatingStreamRepository.Dimension.TAG, tagTopBooks.keySet());
 
-        for (Rating rating : ratings) {
-            Book book = rating.getBook();
-            double score = rating.getRating();
+        long saved;
 
-            Set<String> tags = book.getBookTags().stream()
-                    .map(bt -> bt.getTag().getName())
-                    .collect(Collectors.toSet());
+        try (BulkInsertWriter.Batch batch = bulkInsertWriter.open("tag_random_book", "generation", "tag", "book_id")) {
+            for (Map.Entry<Integer, List<Integer>> entry : tagTopBooks.entrySet()) {
+                String tag = tagNames.get(entry.getKey());
+                if (tag == null) {
+                    continue;
+                }
+                LinkedHashSet<Integer> topBookIds = new LinkedHashSet<>(entry.getValue());
 
-            for (String tag : tags) {
-                tagScoreMap
-                        .computeIfAbsent(tag, k -> new HashMap<>())
-                        .computeIfAbsent(book, b -> new ArrayList<>())
-                        .add(score);
-            }
-        }
+                // 부족하면 랜덤 보충
+                if (topBookIds.size() < BOOKS_PER_TAG) {
+                    topBookIds.addAll(randomBookSampler.sampleByTag(tag, BOOKS_PER_TAG - topBookIds.size(), topBookIds::contains));
+                }
 
-        tagRandomBookRepository.deleteAllInBatch();
-
-        for (Map.Entry<String, Map<Book, List<Double>>> entry : tagScoreMap.entrySet()) {
-            String tag = entry.getKey();
-            Map<Book, List<Double>> bookScores = entry.getValue();
-
-            // 평균 평점 기준 정렬
-            LinkedHashSet<Book> topBooks = bookScores.entrySet().stream()
-                    .sorted((e1, e2) -> {
-                        double avg1 = e1.getValue().stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-                        double avg2 = e2.getValue().stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-                        return Double.compare(avg2, avg1); // 내림차순
-                    })
-                    .map(Map.Entry::getKey)
-                    .limit(15)
-                    .collect(Collectors.toCollection(LinkedHashSet::new));
-
-            // 부족하면 랜덤 보충
-            if (topBooks.size() < 15) {
-                List<Book> randomBooks = bookRepository.findRandomBooksByTag(tag, PageRequest.of(0, 15 - topBooks.size()));
-                for (Book book : randomBooks) {
-                    topBooks.add(book);
-                    if (topBooks.size() == 15) break;
+                // 저장 (JDBC 배치로 일괄 전송)
+                for (Integer bookId : topBookIds) {
+                    batch.add(runId, tag, bookId);
                 }
-            }
 
-            // 저장
-            for (Book book : topBooks) {
-                TagRandomBook entity = TagRandomBook.builder()
-                        .tag(tag)
-                        .book(book)
-                        .build();
-                tagRandomBookRepository.save(entity);
+                log.info("[{}] 태그 인기 도서 등록 완료. 총 {}권", tag, topBookIds.size());
             }
-
-            log.info("[{}] 태그 인기 도서 등록 완료. 총 {}권", tag, topBooks.size());
+            saved = batch.getRows();
         }
 
         log.info("[배치 완료] 태그별 인기 도서 테이블 갱신 완료");
-        log.info("***********************************************************************************************");
+        return saved;
+    }
+
+    // 한 태그의 평균 평점 상위 도서 (최소 힙으로 BOOKS_PER_TAG권만 유지)
+    private static class TopBooks {
+        private final PriorityQueue<double[]> heap = new PriorityQueue<>(Comparator.comparingDouble(e -> e[1]));
+        private Integer tagId;
+
+        private void offer(int tagId, int bookId, double average) {
+            this.tagId = tagId;
+            heap.offer(new double[]{bookId, average});
+            if (heap.size() > BOOKS_PER_TAG) {
+                heap.poll();
+            }
+        }
+
+        // 평균 평점 내림차순 도서 ID 목록을 꺼내고 초기화
+        private List<Integer> drain() {
+            List<Integer> bookIds = new ArrayList<>(heap.size());
+            while (!heap.isEmpty()) {
+                bookIds.add(0, (int) heap.poll()[0]);
+            }
+            tagId = null;
+            return bookIds;
+        }
     }
 }
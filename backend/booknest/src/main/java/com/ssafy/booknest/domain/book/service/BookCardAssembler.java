@@ -0,0 +1,91 @@
+package com.ssafy.booknest.domain.book.service;
+
+import com.ssafy.booknest.domain.book.dto.response.BookCard;
+import com.ssafy.booknest.domain.book.repository.BookRepository;
+import com.ssafy.booknest.domain.book.repository.projection.BookCardView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+// 도서 ID 목록을 받아 카드 DTO를 조립 (도서 컬럼 1회 + 저자 1회 조회로 N+1 방지)
+@Component
+@RequiredArgsConstructor
+public class BookCardAssembler {
+
+    private final BookRepository bookRepository;
+
+    // 입력 순서를 유지한 카드 목록 (중복 ID 제거, 없는 도서는 제외)
+    @Transactional(readOnly = true)
+    public List<BookCard> assemble(List<Integer> bookIds) {
+        Map<Integer, BookCard> cardMap = assembleMap(bookIds);
+
+        List<BookCard> cards = new ArrayList<>(cardMap.size());
+        for (Integer bookId : new LinkedHashSet<>(bookIds)) {
+            BookCard card = cardMap.get(bookId);
+            if (card != null) {
+                cards.add(card);
+            }
+        }
+        return cards;
+    }
+
+    // 도서 ID → 카드
+    @Transactional(readOnly = true)
+    public Map<Integer, BookCard> assembleMap(Collection<Integer> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Integer> ids = new LinkedHashSet<>(bookIds);
+        List<BookCardView> views = bookRepository.findCardViewsByIdIn(ids);
+        Map<Integer, List<String>> authorMap = groupNames(bookRepository.findAuthorNamesByBookIdIn(ids));
+
+        Map<Integer, BookCard> cardMap = new HashMap<>();
+        for (BookCardView view : views) {
+            cardMap.put(view.getId(), BookCard.builder()
+                    .bookId(view.getId())
+                    .title(view.getTitle())
+                    .imageUrl(view.getImageUrl())
+                    .publishedDate(view.getPublishedDate())
+                    .authors(authorMap.getOrDefault(view.getId(), List.of()))
+                    .build());
+        }
+        return cardMap;
+    }
+
+    // 도서 ID → 태그 이름 목록
+    @Transactional(readOnly = true)
+    public Map<Integer, List<String>> findTagNames(Collection<Integer> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return Map.of();
+        }
+        return groupNames(bookRepository.findTagNamesByBookIdIn(bookIds));
+    }
+
+    // 도서 ID → 카테고리 이름 목록
+    @Transactional(readOnly = true)
+    public Map<Integer, List<String>> findCategoryNames(Collection<Integer> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return Map.of();
+        }
+        return groupNames(bookRepository.findCategoryNamesByBookIdIn(bookIds));
+    }
+
+    // [bookId, name] 행을 도서별 이름 목록으로 묶음 (중복 이름 제거)
+    private Map<Integer, List<String>> groupNames(List<Object[]> rows) {
+        Map<Integer, LinkedHashSet<String>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            Integer bookId = (Integer) row[0];
+            String name = (String) row[1];
+            if (name != null) {
+                grouped.computeIfAbsent(bookId, k -> new LinkedHashSet<>()).add(name);
+            }
+        }
+
+        Map<Integer, List<String>> result = new HashMap<>();
+        grouped.forEach((bookId, names) -> result.put(bookId, new ArrayList<>(names)));
+        return result;
+    }
+}
@@ -0,0 +1,162 @@
+package com.ssafy.booknest.domain.book.service;
+
+import com.ssafy.booknest.domain.book.entity.evaluation.BookPopularity;
+import com.ssafy.booknest.domain.book.entity.evaluation.BookRatingStat;
+import com.ssafy.booknest.domain.book.repository.evaluation.BookPopularityRepository;
+import com.ssafy.booknest.domain.book.repository.evaluation.BookRatingStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 평가 목록(인기순) 순위 관리
+// 평점 이벤트마다 해당 도서 한 행만 갱신하고, 최근 구간에서 빠진 평점과 사전 평균 변화는 하루 한 번 배치로 반영
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookPopularityService {
+
+    // 최근 평점으로 보는 기간
+    public static final int RECENT_DAYS = 30;
+    // 집계가 없을 때 쓰는 사전 평균
+    private static final double DEFAULT_PRIOR_MEAN = 3.5;
+    // 전체 순위 개수 캐시 유지 시간
+    private static final long COUNT_CACHE_TTL_MILLIS = 60_000;
+
+    private final BookPopularityRepository bookPopularityRepository;
+    private final BookRatingStatRepository bookRatingStatRepository;
+
+    // 베이지안 평균의 사전 평균 (전체 평점 평균, 갱신 배치 때 다시 계산)
+    private volatile Double priorMean;
+    private volatile CachedCount cachedCount;
+
+    // 평점 등록 반영 (평점 저장과 같은 트랜잭션에서 호출)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyCreate(Integer bookId, double rating) {
+        getForUpdate(bookId).addRating(rating, getPriorMean());
+    }
+
+    // 평점 수정 반영 (순위 행이 없으면 갱신 배치에서 채움)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyUpdate(Integer bookId, double oldRating, double newRating) {
+        bookPopularityRepository.findByBookIdForUpdate(bookId)
+                .ifPresent(popularity -> popularity.changeRating(oldRating, newRating, getPriorMean()));
+    }
+
+    // 평점 삭제 반영 (평점이 0개가 되면 순위에서 제거)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDelete(Integer bookId, double rating, LocalDateTime ratedAt) {
+        bookPopularityRepository.findByBookIdForUpdate(bookId).ifPresent(popularity -> {
+            boolean recent = ratedAt != null && ratedAt.isAfter(recentSince());
+            popularity.removeRating(rating, recent, getPriorMean());
+            if (popularity.isEmpty()) {
+                bookPopularityRepository.delete(popularity);
+            }
+        });
+    }
+
+    // 인기 순위 구간의 [도서 ID, 점수] (after가 있으면 그 (점수, 도서 ID) 다음 순위부터)
+    @Transactional(readOnly = true)
+    public List<Object[]> getRankedBooks(Double afterScore, Integer afterBookId, Pageable pageable) {
+        if (afterBookId == null) {
+            return bookPopularityRepository.findRankedBooks(pageable);
+        }
+        return bookPopularityRepository.findRankedBooksAfter(afterScore, afterBookId, pageable);
+    }
+
+    // 순위에 오른 도서 수 (페이지 정보용이므로 짧게 캐시)
+    public long getRankedCount() {
+        CachedCount cached = cachedCount;
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.count;
+        }
+        long count = bookPopularityRepository.count();
+        cachedCount = new CachedCount(count, System.currentTimeMillis() + COUNT_CACHE_TTL_MILLIS);
+        return count;
+    }
+
+    // 도서 평점 집계와 최근 평점 개수 기준으로 전체 순위 재계산
+    @Transactional
+    public int rebuildAll() {
+        double mean = loadPriorMean();
+        priorMean = mean;
+
+        Map<Integer, Integer> recentMap = new HashMap<>();
+        for (Object[] row : bookPopularityRepository.countRecentGroupByBook(recentSince())) {
+            recentMap.put((Integer) row[0], ((Long) row[1]).intValue());
+        }
+
+        Map<Integer, BookPopularity> popularityMap = new HashMap<>();
+        for (BookPopularity popularity : bookPopularityRepository.findAll()) {
+            popularityMap.put(popularity.getBookId(), popularity);
+        }
+
+        List<BookPopularity> created = new ArrayList<>();
+        int ranked = 0;
+        for (BookRatingStat stat : bookRatingStatRepository.findAll()) {
+            BookPopularity popularity = popularityMap.remove(stat.getBookId());
+            if (stat.getRatingCount() == 0) {
+                if (popularity != null) {
+                    bookPopularityRepository.delete(popularity);
+                }
+                continue;
+            }
+            if (popularity == null) {
+                popularity = BookPopularity.empty(stat.getBookId());
+                created.add(popularity);
+            }
+            popularity.overwrite(stat.getRatingCount(), stat.getRatingSum(),
+                    recentMap.getOrDefault(stat.getBookId(), 0), mean);
+            ranked++;
+        }
+
+        // 집계가 없는 도서의 순위 행 제거
+        bookPopularityRepository.deleteAll(popularityMap.values());
+        bookPopularityRepository.saveAll(created);
+
+        cachedCount = null;
+        return ranked;
+    }
+
+    private double getPriorMean() {
+        Double mean = priorMean;
+        if (mean == null) {
+            mean = loadPriorMean();
+            priorMean = mean;
+        }
+        return mean;
+    }
+
+    private double loadPriorMean() {
+        List<Object[]> rows = bookPopularityRepository.sumAllRatings();
+        if (rows.isEmpty() || rows.get(0)[0] == null || rows.get(0)[1] == null) {
+            return DEFAULT_PRIOR_MEAN;
+        }
+        double sum = ((Number) rows.get(0)[0]).doubleValue();
+        long count = ((Number) rows.get(0)[1]).longValue();
+        return count == 0 ? DEFAULT_PRIOR_MEAN : sum / count;
+    }
+
+    private static LocalDateTime recentSince() {
+        return LocalDateTime.now().minusDays(RECENT_DAYS);
+    }
+
+    // 행이 없으면 먼저 만들어 두고 잠금 (조회 후 저장하면 동시 첫 평점 중 하나가 중복 키로 평점 등록까지 롤백됨)
+    private BookPopularity getForUpdate(Integer bookId) {
+        return bookPopularityRepository.findByBookIdForUpdate(bookId).orElseGet(() -> {
+            bookPopularityRepository.insertIfAbsent(bookId);
+            return bookPopularityRepository.findByBookIdForUpdate(bookId).orElseThrow();
+        });
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.ssafy.booknest.domain.book.service;
+
+import com.ssafy.booknest.domain.book.entity.Book;
+import com.ssafy.booknest.domain.book.entity.evaluation.BookRatingStat;
+import com.ssafy.booknest.domain.book.repository.BookRepository;
+import com.ssafy.booknest.domain.book.repository.evaluation.BookRatingStatRepository;
+import com.ssafy.booknest.domain.book.repository.evaluation.RatingRepository;
+import com.ssafy.booknest.domain.search.service.BookIndexOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookRatingStatService {
+
+    private final BookRatingStatRepository bookRatingStatRepository;
+    private final RatingRepository ratingRepository;
+    private final BookRepository bookRepository;
+    private final BookIndexOutboxService bookIndexOutboxService;
+
+    // 평점 등록 반영 (평점 저장과 같은 트랜잭션에서 호출)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyCreate(Book book, double score) {
+        BookRatingStat stat = getForUpdate(book.getId());
+        stat.addRating(score);
+        book.updateTotalRatings(stat.getRatingCount());
+        bookIndexOutboxService.enqueue(book.getId());
+    }
+
+    // 평점 수정 반영
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyUpdate(Book book, double oldScore, double newScore) {
+        BookRatingStat stat = getForUpdate(book.getId());
+        stat.changeRating(oldScore, newScore);
+        book.updateTotalRatings(stat.getRatingCount());
+        bookIndexOutboxService.enqueue(book.getId());
+    }
+
+    // 평점 삭제 반영
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDelete(Book book, double score) {
+        BookRatingStat stat = getForUpdate(book.getId());
+        stat.removeRating(score);
+        book.updateTotalRatings(stat.getRatingCount());
+        bookIndexOutboxService.enqueue(book.getId());
+    }
+
+    // 도서 평균 평점 조회 (집계가 없으면 0.0)
+    @Transactional(readOnly = true)
+    public double getAverageRating(Integer bookId) {
+        return bookRatingStatRepository.findById(bookId)
+                .map(BookRatingStat::getAverage)
+                .orElse(0.0);
+    }
+
+    // 도서 평점 개수 조회 (집계가 없으면 0)
+    @Transactional(readOnly = true)
+    public int getRatingCount(Integer bookId) {
+        return bookRatingStatRepository.findById(bookId)
+                .map(BookRatingStat::getRatingCount)
+                .orElse(0);
+    }
+
+    // 원본 평점 테이블 기준으로 전체 집계 재생성
+    @Transactional
+    public int rebuildAll() {
+        Map<Integer, int[]> bucketMap = new HashMap<>();
+        Map<Integer, Double> sumMap = new HashMap<>();
+        Map<Integer, Integer> countMap = new HashMap<>();
+
+        for (Object[] row : ratingRepository.countGroupByBookAndRating()) {
+            Integer bookId = (Integer) row[0];
+            double score = (Double) row[1];
+            int count = ((Long) row[2]).intValue();
+
+            bucketMap.computeIfAbsent(bookId, k -> new int[BookRatingStat.BUCKET_SIZE])
+                    [BookRatingStat.bucketIndex(score)] += count;
+            sumMap.merge(bookId, score * count, Double::sum);
+            countMap.merge(bookId, count, Integer::sum);
+        }
+
+        // 평점 개수가 바뀐 도서는 검색 인덱스도 다시 색인
+        Set<Integer> changedBookIds = new HashSet<>();
+
+        // 기존 집계 중 원본에 없는 도서는 0으로 초기화
+        List<BookRatingStat> stats = bookRatingStatRepository.findAll();
+        Map<Integer, BookRatingStat> statMap = new HashMap<>();
+        for (BookRatingStat stat : stats) {
+            statMap.put(stat.getBookId(), stat);
+            if (!countMap.containsKey(stat.getBookId())) {
+                if (stat.getRatingCount() != 0) {
+                    changedBookIds.add(stat.getBookId());
+                }
+                stat.overwrite(0, 0.0, new int[BookRatingStat.BUCKET_SIZE]);
+            }
+        }
+
+        for (Map.Entry<Integer, Integer> entry : countMap.entrySet()) {
+            Integer bookId = entry.getKey();
+            BookRatingStat stat = statMap.computeIfAbsent(bookId,
+                    id -> bookRatingStatRepository.save(BookRatingStat.empty(id)));
+            if (!entry.getValue().equals(stat.getRatingCount())) {
+                changedBookIds.add(bookId);
+            }
+            stat.overwrite(entry.getValue(), sumMap.get(bookId), bucketMap.get(bookId));
+        }
+
+        // book.total_ratings 컬럼도 집계와 맞춤
+        for (BookRatingStat stat : statMap.values()) {
+            bookRepository.updateTotalRatings(stat.getBookId(), stat.getRatingCount());
+        }
+        bookIndexOutboxService.enqueueAll(changedBookIds);
+
+        return statMap.size();
+    }
+
+    // 행이 없으면 먼저 만들어 두고 잠금 (조회 후 저장하면 동시 첫 평점 중 하나가 중복 키로 롤백됨)
+    private BookRatingStat getForUpdate(Integer bookId) {
+        return bookRatingStatRepository.findByBookIdForUpdate(bookId).orElseGet(() -> {
+            bookRatingStatRepository.insertIfAbsent(bookId);
+            return bookRatingStatRepository.findByBookIdForUpdate(bookId).orElseThrow();
+        });
+    }
+}
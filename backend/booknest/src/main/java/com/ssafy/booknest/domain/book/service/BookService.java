@@ -1,18 +1,20 @@
 package com.ssafy.booknest.domain.book.service;
 
+import com.ssafy.booknest.domain.book.dto.response.BookCard;
 import com.ssafy.booknest.domain.book.dto.response.BookDetailResponse;
 import com.ssafy.booknest.domain.book.dto.response.BookPurchaseResponse;
 import com.ssafy.booknest.domain.book.dto.response.BookResponse;
 import com.ssafy.booknest.domain.book.dto.response.evaluation.ReviewResponse;
 import com.ssafy.booknest.domain.book.dto.response.recommendation.*;
 import com.ssafy.booknest.domain.book.entity.*;
-import com.ssafy.booknest.domain.book.entity.evaluation.Review;
 import com.ssafy.booknest.domain.book.entity.recommendation.*;
 import com.ssafy.booknest.domain.book.enums.AgeGroup;
 import com.ssafy.booknest.domain.book.enums.BookEvalType;
+import com.ssafy.booknest.domain.book.enums.BookStore;
 import com.ssafy.booknest.domain.book.repository.BookRepository;
-import com.ssafy.booknest.domain.book.repository.evaluation.RatingRepository;
+import com.ssafy.booknest.domain.book.repository.evaluation.ReviewLikeRepository;
 import com.ssafy.booknest.domain.book.repository.evaluation.ReviewRepository;
+import com.ssafy.booknest.domain.book.repository.projection.ReviewView;
 import com.ssafy.booknest.domain.book.repository.recommandation.*;
 import com.ssafy.booknest.domain.nest.repository.BookMarkRepository;
 import com.ssafy.booknest.domain.nest.repository.NestRepository;
@@ -25,6 +27,8 @@ import com.ssafy.booknest.domain.user.repository.UserRepository;
 import com.ssafy.booknest.domain.user.repository.category.UserCategoryRecommendationRepository;
 import com.ssafy.booknest.domain.user.repository.tag.UserTagAnalysisRepository;
 import com.ssafy.booknest.domain.user.repository.tag.UserTagRecommendationRepository;
+import com.ssafy.booknest.global.batch.RecommendationGenerationService;
+import com.ssafy.booknest.global.batch.enums.RecommendationTable;
 import com.ssafy.booknest.global.common.CustomPage;
 import com.ssafy.booknest.global.common.util.TagVectorService;
 import com.ssafy.booknest.global.error.ErrorCode;
@@ -33,6 +37,7 @@ import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -51,11 +56,10 @@ public class BookService {
 
     private final BookRepository bookRepository;
     private final BookMarkRepository bookMarkRepository;
-    private final KyoboService kyoboService;
-    private final Yes24Service yes24Service;
+    private final PurchaseLinkService purchaseLinkService;
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
-    private final RatingRepository ratingRepository;
+    private final ReviewLikeRepository reviewLikeRepository;
     private final CriticBookRepository criticBookRepository;
     private final PopularAuthorBookRepository popularAuthorBookRepository;
     private final NestRepository nestRepository;
@@ -66,6 +70,13 @@ public class BookService {
     private final UserTagAnalysisRepository userTagAnalysisRepository;
     private final UserTagRecommendationRepository userTagRecommendationRepository;
     private final UserCategoryRecommendationRepository userCategoryRecommendationRepository;
+    private final RecommendationGenerationService recommendationGenerationService;
+    private final RandomBookSampler randomBookSampler;
+    private final ExcludedBookService excludedBookService;
+
+    private final BookRatingStatService bookRatingStatService;
+    private final BookPopularityService bookPopularityService;
+    private final BookCardAssembler bookCardAssembler;
 
     private final TagVectorService tagVectorService;
 
@@ -78,10 +89,10 @@ public class BookService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        List<BestSeller> bestSellers = bookRepository.findBestSellers();
+        List<Integer> bookIds = bookRepository.findBestSellerBookIds();
 
-        return bestSellers.stream()
-                .map(bestSeller -> BookResponse.of(bestSeller.getBook()))
+        return bookCardAssembler.assemble(bookIds).stream()
+                .map(BookResponse::of)
                 .toList();
     }
 
@@ -95,56 +106,56 @@ public class BookService {
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
 
-        Double avgRating = bookRepository.findAverageRatingByBookId(bookId)
-                .orElse(0.0);
+        Double avgRating = bookRatingStatService.getAverageRating(bookId);
+
+        Page<ReviewView> reviewPage = reviewRepository.findByBookOrderByUserFirst(bookId, userId, pageable);
 
-        Page<Review> reviewPage = reviewRepository.findByBookOrderByUserFirst(book, userId, pageable);
+        // 페이지 내 한줄평 중 내가 좋아요한 ID를 한 번에 조회 (좋아요 컬렉션 로딩 방지)
+        List<Integer> reviewIds = reviewPage.map(ReviewView::getId).getContent();
+        Set<Integer> likedIds = reviewIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(reviewLikeRepository.findLikedReviewIds(userId, reviewIds));
 
-        Page<ReviewResponse> responsePage = reviewPage.map(review -> ReviewResponse.of(review, userId));
+        Page<ReviewResponse> responsePage = reviewPage.map(review -> ReviewResponse.of(review, likedIds.contains(review.getId())));
         boolean isBookMarked = bookMarkRepository.existsByBookIdAndUserId(book.getId(), userId);
 
         List<String> tags = book.getTagNames();
 
-        for (String tag : tags) {
-            tagVectorService.increaseTagScore(userId, tag, 0.2);
-        }
+        tagVectorService.applyDelta(userId, tags, 0.2);
 
         return BookDetailResponse.of(book, avgRating, responsePage, isBookMarked);
     }
 
     // 구매 사이트 조회
-    @Transactional(readOnly = true)
+    // 크롤링을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 조회 (조회 쿼리는 각각 짧은 트랜잭션)
     public BookPurchaseResponse getPurchaseLinks(Integer userId, Integer bookId) {
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        Book book = bookRepository.findBookDetailById(bookId)
+        // ISBN 컬럼만 조회 (본문/한줄평은 불필요)
+        String isbn = bookRepository.findIsbnById(bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
 
         // ISBN 인코딩 (혹시 모를 공백, 특수문자 없애고 순수 숫자 추출을 위해 인코딩)
-        String isbn = book.getIsbn();
         String encodedIsbn = URLEncoder.encode(isbn, StandardCharsets.UTF_8);
 
         // 알라딘: ISBN 기반
         String aladinUrl = "https://www.aladin.co.kr/shop/wproduct.aspx?ISBN=" + encodedIsbn;
 
-        // 교보문고: ISBN 기반 크롤링
-        String kyoboUrl = kyoboService.getKyoboUrlByIsbn(isbn);
-
-        // YES24: ISBN 기반 크롤링
-        String yes24Url = yes24Service.getYes24UrlByIsbn(isbn);
-
+        // 교보문고, YES24: 캐시된 링크 사용 (없으면 병렬 크롤링, 제한 시간 초과 시 null)
+        Map<BookStore, String> storeLinks = purchaseLinkService.getLinks(isbn);
 
         return BookPurchaseResponse.builder()
                 .aladinUrl(aladinUrl)
-                .kyoboUrl(kyoboUrl)
-                .yes24Url(yes24Url)
+                .kyoboUrl(storeLinks.get(BookStore.KYOBO))
+                .yes24Url(storeLinks.get(BookStore.YES24))
                 .build();
     }
 
 
     // 평론가 추천책
+    @Transactional(readOnly = true)
     public List<CriticBookResponse> getCriticBooks(Integer userId) {
 
         // 사용자 검증
@@ -159,15 +170,19 @@ public class BookService {
 
         String selectedCritic = criticNames.get(new Random().nextInt(criticNames.size()));
 
-        List<CriticBook> criticBooks =
-                criticBookRepository.findByCriticNameWithBookAndAuthors(selectedCritic);
+        List<CriticBook> criticBooks = criticBookRepository.findByCriticName(selectedCritic);
 
         if (criticBooks.isEmpty()) {
             throw new CustomException(ErrorCode.CRITIC_BOOK_NOT_FOUND);
         }
 
+        Map<Integer, BookCard> cardMap = bookCardAssembler.assembleMap(criticBooks.stream()
+                .map(criticBook -> criticBook.getBook().getId())
+                .toList());
+
         return criticBooks.stream()
-                .map(CriticBookResponse::of)
+                .filter(criticBook -> cardMap.containsKey(criticBook.getBook().getId()))
+                .map(criticBook -> CriticBookResponse.of(criticBook, cardMap.get(criticBook.getBook().getId())))
                 .toList();
     }
 
@@ -180,54 +195,79 @@ public class BookService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 2. rank 기준 상위 30개만 조회 (중복 제거 고려)
-        Page<PopularAuthorBook> page = popularAuthorBookRepository
-                .findTopRankedAuthors(PageRequest.of(0, 30));
+        List<Integer> bookIds = popularAuthorBookRepository
+                .findTopRankedBookIds(recommendationGenerationService.active(RecommendationTable.POPULAR_AUTHOR_BOOK), PageRequest.of(0, 30));
 
         // 3. 중복 책 제거하면서 15권 추출
-        List<BookResponse> result = new ArrayList<>();
-        Set<Integer> addedBookIds = new HashSet<>();
-
-        for (PopularAuthorBook popular : page.getContent()) {
-            Book book = popular.getBook();
-            if (book != null && addedBookIds.add(book.getId())) {
-                result.add(BookResponse.of(book));
-            }
-            if (result.size() == 15) break;
-        }
-
-        return result;
+        return bookCardAssembler.assemble(bookIds).stream()
+                .limit(15)
+                .map(BookResponse::of)
+                .toList();
     }
 
-    // 평가 목록 조회
+    // 평가 목록 조회 (이어지는 페이지는 응답의 nextCursor로 조회)
     @Transactional(readOnly = true)
-    public CustomPage<BookResponse> getEvalBookList(Integer userId, BookEvalType keyword, Pageable pageable) {
+    public CustomPage<BookResponse> getEvalBookList(Integer userId, BookEvalType keyword, String cursor, Pageable pageable) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        List<Integer> evaluatedBookIds = ratingRepository.findBookIdsByUserId(userId);
-
-        if (evaluatedBookIds == null || evaluatedBookIds.isEmpty()) {
-            evaluatedBookIds = List.of(-1);
-        }
+        // 평가/관심없음 도서는 비트맵으로 후보에서만 걸러냄 (NOT IN 목록을 쿼리에 싣지 않음)
+        ExcludedBookService.ExcludedBooks excluded = excludedBookService.get(userId);
+        int pageSize = pageable.getPageSize();
 
-        Page<Book> books;
+        Page<Integer> bookIds;
+        String nextCursor = null;
 
         switch (keyword) {
             case POPULAR:
-                books = bookRepository.findMostRatedBooksExcluding(evaluatedBookIds, pageable);
-                break;
-            case RECENT:
-                books = bookRepository.findRecentBooksExcluding(evaluatedBookIds, pageable);
+            case RECENT: {
+                // 정렬된 후보를 넉넉히 가져와 제외 도서를 걸러내고, 다음 페이지는 마지막으로 본 후보 다음부터 조회
+                // 커서 없이 페이지 번호로 조회하면 그 페이지 구간만 읽음 (제외 도서만큼 페이지가 짧아질 수 있음)
+                EvalCursor after = EvalCursor.decode(cursor, keyword);
+                Pageable window = after == null && pageable.getPageNumber() > 0
+                        ? PageRequest.of(pageable.getPageNumber(), pageSize)
+                        : PageRequest.of(0, excluded.windowSize(pageSize));
+
+                List<Object[]> candidates;
+                long total;
+                if (keyword == BookEvalType.POPULAR) {
+                    // 인기 순위 테이블을 인덱스 순서대로 한 구간만 읽음 (전체 개수는 캐시된 값 사용)
+                    candidates = bookPopularityService.getRankedBooks(
+                            after == null ? null : Double.valueOf(after.sortValue()),
+                            after == null ? null : after.bookId(), window);
+                    total = bookPopularityService.getRankedCount();
+                } else {
+                    candidates = after == null
+                            ? bookRepository.findRecentBooks(window)
+                            : bookRepository.findRecentBooksAfter(after.sortValue(), after.bookId(), window);
+                    total = bookRepository.count();
+                }
+
+                ExcludedBookService.Filtered filtered = excluded.filter(
+                        candidates.stream().map(row -> (Integer) row[0]).toList(), pageSize);
+                // 가져온 후보를 다 쓰지 않았거나 구간이 가득 찼으면 뒤에 더 있음
+                if (filtered.consumed() > 0
+                        && (filtered.consumed() < candidates.size() || candidates.size() == window.getPageSize())) {
+                    Object[] last = candidates.get(filtered.consumed() - 1);
+                    nextCursor = new EvalCursor(keyword, (Integer) last[0],
+                            last[1] == null ? null : String.valueOf(last[1])).encode();
+                }
+
+                bookIds = new PageImpl<>(filtered.bookIds(), pageable, Math.max(total - excluded.count(), 0));
                 break;
+            }
             case RANDOM:
             default:
-                books = bookRepository.findRandomBooksExcluding(evaluatedBookIds, pageable);
+                // 메모리의 도서 ID 배열에서 평가한 도서를 제외하고 한 페이지 분량만 추출 (ORDER BY RAND() 대체)
+                bookIds = new PageImpl<>(randomBookSampler.sample(pageSize, excluded::contains),
+                        pageable, randomBookSampler.countExcluding(excluded.count()));
                 break;
         }
 
-        // Book -> BookResponse 변환 및 CustomPage 래핑
-        Page<BookResponse> bookResponses = books.map(BookResponse::of);
-        return new CustomPage<>(bookResponses);
+        // 도서 ID -> BookResponse 변환 및 CustomPage 래핑
+        Map<Integer, BookCard> cardMap = bookCardAssembler.assembleMap(bookIds.getContent());
+        Page<BookResponse> bookResponses = bookIds.map(bookId -> BookResponse.of(cardMap.get(bookId)));
+        return new CustomPage<>(bookResponses, nextCursor);
     }
 
     // 나이대와 성별에 따른 추천
@@ -272,13 +312,20 @@ public class BookService {
 
         // 4. 랜덤 fallback
         if (books.isEmpty()) {
-            books = ageGenderBookRepository.findRandomLimit(15);
+            books = ageGenderBookRepository.findAllById(randomBookSampler.sampleAgeGenderBookIds(15));
         }
 
         // 변환
-        List<AgeGenderBookResponse> responses = books.stream()
+        List<AgeGenderBook> limited = books.stream()
                 .limit(15)
-                .map(AgeGenderBookResponse::of)
+                .toList();
+        Map<Integer, BookCard> cardMap = bookCardAssembler.assembleMap(limited.stream()
+                .map(ageGenderBook -> ageGenderBook.getBook().getId())
+                .toList());
+
+        List<AgeGenderBookResponse> responses = limited.stream()
+                .filter(ageGenderBook -> cardMap.containsKey(ageGenderBook.getBook().getId()))
+                .map(ageGenderBook -> AgeGenderBookResponse.of(ageGenderBook, cardMap.get(ageGenderBook.getBook().getId())))
                 .toList();
 
         // 설명 생성 + 결과 반환
@@ -295,17 +342,19 @@ public class BookService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 태그 목록 가져오기
-        List<String> tags = tagRandomBookRepository.findAllTags();
+        int generation = recommendationGenerationService.active(RecommendationTable.TAG_RANDOM_BOOK);
+        List<String> tags = tagRandomBookRepository.findAllTags(generation);
         if (tags.isEmpty()) return List.of();
 
         // Java에서 랜덤 태그 선택
         String selectedTag = tags.get(new Random().nextInt(tags.size()));
 
-        // 해당 태그에 대해 랜덤 책 15권만 DB에서 가져오기
-        List<TagRandomBook> tagBooks = tagRandomBookRepository.findRandomBooksByTag(selectedTag);
+        // 해당 태그의 도서(최대 15권)를 가져와 순서만 섞기
+        List<Integer> bookIds = new ArrayList<>(tagRandomBookRepository.findBookIdsByTag(selectedTag, generation));
+        Collections.shuffle(bookIds);
 
-        return tagBooks.stream()
-                .map(tagBook -> TagBookResponse.of(tagBook.getBook(), selectedTag))
+        return bookCardAssembler.assemble(bookIds).stream()
+                .map(card -> TagBookResponse.of(card, selectedTag))
                 .toList();
     }
 
@@ -320,8 +369,13 @@ public class BookService {
 
         List<LibraryBook> books = libraryBookRepository.findTopByYearOrderByRank(targetYear);
 
+        Map<Integer, BookCard> cardMap = bookCardAssembler.assembleMap(books.stream()
+                .map(libraryBook -> libraryBook.getBook().getId())
+                .toList());
+
         return books.stream()
-                .map(LibraryBookResponse::of)
+                .filter(libraryBook -> cardMap.containsKey(libraryBook.getBook().getId()))
+                .map(libraryBook -> LibraryBookResponse.of(libraryBook, cardMap.get(libraryBook.getBook().getId())))
                 .collect(Collectors.toList());
     }
 
@@ -334,7 +388,8 @@ public class BookService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 2. user_tag_recommendation 테이블에서 해당 유저의 추천 도서 조회
-        List<UserTagRecommendation> recommendations = userTagRecommendationRepository.findByUserId(userId);
+        List<UserTagRecommendation> recommendations = userTagRecommendationRepository.findByUserIdAndGeneration(
+                userId, recommendationGenerationService.active(RecommendationTable.USER_TAG_RECOMMENDATION));
 
         // 3. 랜덤 태그 하나 선택
         Map<String, List<UserTagRecommendation>> groupedByTag = recommendations.stream()
@@ -349,9 +404,15 @@ public class BookService {
         List<UserTagRecommendation> selectedList = groupedByTag.get(randomTag);
         Collections.shuffle(selectedList);
 
-        return selectedList.stream()
+        List<Integer> bookIds = selectedList.stream()
                 .limit(15)
-                .map(rec -> FavoriteTagBookResponse.of(rec.getBook(), randomTag))
+                .map(rec -> rec.getBook().getId())
+                .toList();
+        Map<Integer, List<String>> categoryMap = bookCardAssembler.findCategoryNames(bookIds);
+
+        return bookCardAssembler.assemble(bookIds).stream()
+                .map(card -> FavoriteTagBookResponse.of(card, randomTag,
+                        categoryMap.getOrDefault(card.bookId(), List.of())))
                 .toList();
     }
 
@@ -365,7 +426,8 @@ public class BookService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 2. 추천 테이블에서 유저의 모든 추천 도서 조회
-        List<UserCategoryRecommendation> recommendations = userCategoryRecommendationRepository.findByUserId(user.getId());
+        List<UserCategoryRecommendation> recommendations = userCategoryRecommendationRepository.findByUserIdAndGeneration(
+                user.getId(), recommendationGenerationService.active(RecommendationTable.USER_CATEGORY_RECOMMENDATION));
 
         // 3. 카테고리별로 그룹화
         Map<String, List<UserCategoryRecommendation>> grouped = recommendations.stream()
@@ -381,9 +443,43 @@ public class BookService {
         List<UserCategoryRecommendation> selected = grouped.get(randomCategory);
         Collections.shuffle(selected);
 
-        return selected.stream()
+        List<Integer> bookIds = selected.stream()
                 .limit(15)
-                .map(rec -> FavoriteCategoryBookResponse.of(rec.getBook(), randomCategory))
+                .map(rec -> rec.getBook().getId())
+                .toList();
+        Map<Integer, List<String>> tagMap = bookCardAssembler.findTagNames(bookIds);
+
+        return bookCardAssembler.assemble(bookIds).stream()
+                .map(card -> FavoriteCategoryBookResponse.of(card, randomCategory,
+                        tagMap.getOrDefault(card.bookId(), List.of())))
                 .toList();
     }
-}
\ No newline at end of file
+
+    // 평가 목록 커서 (정렬 기준과 마지막으로 본 후보의 정렬 값 + 도서 ID, 출간일이 없으면 정렬 값도 없음)
+    private record EvalCursor(BookEvalType type, Integer bookId, String sortValue) {
+
+        String encode() {
+            String raw = type.name() + "|" + bookId + "|" + (sortValue == null ? "" : "=" + sortValue);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static EvalCursor decode(String cursor, BookEvalType type) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 3);
+                if (BookEvalType.valueOf(parts[0]) != type) {
+                    throw new IllegalArgumentException(parts[0]);
+                }
+                String sortValue = parts[2].isEmpty() ? null : parts[2].substring(1);
+                if (type == BookEvalType.POPULAR) {
+                    Double.parseDouble(sortValue);
+                }
+                return new EvalCursor(type, Integer.parseInt(parts[1]), sortValue);
+            } catch (RuntimeException e) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.ssafy.booknest.domain.book.service;
+
+import com.ssafy.booknest.domain.book.repository.evaluation.IgnoredBookRepository;
+import com.ssafy.booknest.domain.book.repository.evaluation.RatingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+// 유저별 평가 페이지 제외 도서 (평점 등록 + 관심없음) 비트맵
+// 도서 ID를 비트 위치로 쓰는 Redis 비트맵(도서 10만 권 기준 유저당 약 12KB)과 메모리 캐시에 두고,
+// 평가 목록은 후보 도서를 뽑은 뒤 비트 확인만 하므로 평점 개수와 무관하게 페이지 크기만큼만 비용이 듦
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExcludedBookService {
+
+    private static final int CACHE_CAPACITY = 10_000;
+    // 다른 서버에서 반영한 변경은 이 시간 안에 반영
+    private static final long CACHE_TTL_MILLIS = 60_000;
+    private static final Duration KEY_TTL = Duration.ofDays(7);
+    // 비트 0은 도서 ID로 쓰이지 않으므로 비트맵 적재 여부 표시로 사용
+    private static final int LOADED_BIT = 0;
+    private static final int MAX_WINDOW_FACTOR = 8;
+
+    private final RatingRepository ratingRepository;
+    private final IgnoredBookRepository ignoredBookRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Map<Integer, CachedBits> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, CachedBits> eldest) {
+                    return size() > CACHE_CAPACITY;
+                }
+            });
+
+    private String getRatedKey(Integer userId) {
+        return "user:" + userId + ":rated_books";
+    }
+
+    private String getIgnoredKey(Integer userId) {
+        return "user:" + userId + ":ignored_books";
+    }
+
+    // 유저의 제외 도서 (평점 등록 또는 관심없음)
+    public ExcludedBooks get(Integer userId) {
+        CachedBits cached = cache.get(userId);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return new ExcludedBooks(cached.bits);
+        }
+
+        BitSet bits = load(getRatedKey(userId), () -> ratingRepository.findBookIdsByUserId(userId));
+        bits.or(load(getIgnoredKey(userId), () -> ignoredBookRepository.findBookIdsByUserId(userId)));
+        bits.clear(LOADED_BIT);
+
+        cache.put(userId, new CachedBits(bits, System.currentTimeMillis() + CACHE_TTL_MILLIS));
+        return new ExcludedBooks(bits);
+    }
+
+    public void markRated(Integer userId, Integer bookId) {
+        afterCommit(() -> update(getRatedKey(userId), userId, bookId, true));
+    }
+
+    public void unmarkRated(Integer userId, Integer bookId) {
+        afterCommit(() -> update(getRatedKey(userId), userId, bookId, false));
+    }
+
+    public void markIgnored(Integer userId, Integer bookId) {
+        afterCommit(() -> update(getIgnoredKey(userId), userId, bookId, true));
+    }
+
+    public void unmarkIgnored(Integer userId, Integer bookId) {
+        afterCommit(() -> update(getIgnoredKey(userId), userId, bookId, false));
+    }
+
+    // 적재 여부와 관계없이 비트 변경 (적재는 DB 목록의 비트를 더하기만 하므로, 적재 중에 커밋된 추가가 지워지지 않음)
+    // 적재 전에 만들어진 키도 적재 전까지 남도록 만료 시간을 같이 지정
+    private void update(String key, Integer userId, Integer bookId, boolean value) {
+        try {
+            redisTemplate.opsForValue().setBit(key, bookId, value);
+            redisTemplate.expire(key, KEY_TTL);
+        } catch (Exception e) {
+            log.error("제외 도서 비트맵 갱신 실패 - userId: {}, bookId: {}, 메시지: {}", userId, bookId, e.getMessage());
+            redisTemplate.delete(key);
+        }
+        // 평점과 관심없음 중 다른 쪽에 남아 있을 수 있으므로 메모리 캐시는 비우고 다음 조회에서 다시 합침
+        cache.remove(userId);
+    }
+
+    private BitSet load(String key, Supplier<List<Integer>> source) {
+        byte[] bytes = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8)));
+        BitSet bits = fromRedisBytes(bytes);
+        if (bits.get(LOADED_BIT)) {
+            return bits;
+        }
+
+        // 적재 전이면 DB에서 적재 후 저장 (적재 전에 먼저 켜진 비트는 그대로 둠)
+        List<Integer> bookIds = source.get();
+        bits.set(LOADED_BIT);
+        for (Integer bookId : bookIds) {
+            bits.set(bookId);
+        }
+        store(key, bookIds);
+        return bits;
+    }
+
+    private void store(String key, List<Integer> bookIds) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                // 비우고 다시 쓰면 적재 중에 반영된 추가가 지워지므로 비트를 더하기만 함
+                for (Integer bookId : bookIds) {
+                    operations.opsForValue().setBit(key, bookId, true);
+                }
+                operations.opsForValue().setBit(key, LOADED_BIT, true);
+                operations.expire(key, KEY_TTL);
+                return null;
+            }
+        });
+    }
+
+    // Redis 비트맵은 바이트마다 상위 비트부터 오프셋이 증가
+    private static BitSet fromRedisBytes(byte[] bytes) {
+        BitSet bits = new BitSet();
+        if (bytes == null) {
+            return bits;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            int b = bytes[i] & 0xFF;
+            if (b == 0) {
+                continue;
+            }
+            for (int j = 0; j < 8; j++) {
+                if ((b & (0x80 >>> j)) != 0) {
+                    bits.set(i * 8 + j);
+                }
+            }
+        }
+        return bits;
+    }
+
+    // 평점/관심없음 저장이 커밋된 뒤에 반영 (롤백된 변경이 남지 않도록)
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record CachedBits(BitSet bits, long expiresAt) {
+    }
+
+    // 읽기 전용 조회용 (캐시된 BitSet을 변경하지 않음)
+    public static final class ExcludedBooks {
+        private final BitSet bits;
+
+        private ExcludedBooks(BitSet bits) {
+            this.bits = bits;
+        }
+
+        public boolean contains(int bookId) {
+            return bookId > 0 && bits.get(bookId);
+        }
+
+        public int count() {
+            return bits.cardinality();
+        }
+
+        // 정렬된 후보를 페이지 크기보다 넉넉히 가져올 때의 조회 크기 (제외 도서가 많을수록 크게, 최대 8배)
+        public int windowSize(int pageSize) {
+            return pageSize * Math.min(MAX_WINDOW_FACTOR, 2 + count() / 1_000);
+        }
+
+        // 제외 도서를 걸러낸 앞쪽 limit개와 그만큼 채우기 위해 앞에서부터 본 후보 수
+        // (다음 페이지는 마지막으로 본 후보 다음부터 이어서 조회해야 건너뛰는 도서가 없음)
+        public Filtered filter(List<Integer> candidates, int limit) {
+            List<Integer> result = new ArrayList<>(limit);
+            int consumed = 0;
+            for (Integer bookId : candidates) {
+                if (result.size() == limit) {
+                    break;
+                }
+                consumed++;
+                if (bookId != null && !contains(bookId)) {
+                    result.add(bookId);
+                }
+            }
+            return new Filtered(result, consumed);
+        }
+    }
+
+    public record Filtered(List<Integer> bookIds, int consumed) {
+    }
+}
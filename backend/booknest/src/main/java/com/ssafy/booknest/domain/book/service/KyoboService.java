@@ -31,6 +31,7 @@ public class KyoboService {
             // 3. HTML 파싱
             Document doc = Jsoup.connect(searchUrl)
                     .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
+                    .timeout(5000) // 타임아웃 지정
                     .get();
 
             // 4. 결과 중 'a.prod_info'가 상세페이지 링크
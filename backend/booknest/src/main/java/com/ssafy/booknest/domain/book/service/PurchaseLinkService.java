@@ -0,0 +1,205 @@
+package com.ssafy.booknest.domain.book.service;
+
+import com.ssafy.booknest.domain.book.entity.PurchaseLink;
+import com.ssafy.booknest.domain.book.enums.BookStore;
+import com.ssafy.booknest.domain.book.repository.PurchaseLinkRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+// 서점별 구매 링크 캐시 (메모리 LRU → purchase_link 테이블 → 크롤링 순으로 조회)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchaseLinkService {
+
+    private static final int LRU_CAPACITY = 5_000;
+    private static final int CRAWL_THREADS = 4;
+    // 요청 경로에서 크롤링 결과를 기다리는 최대 시간 (초과 시 해당 서점 링크는 null, 크롤링은 계속 진행되어 캐시에 저장)
+    private static final long REQUEST_TIMEOUT_MS = 2_000;
+    // 백그라운드 사전 수집 시 서점별 최대 대기 시간
+    private static final long WARM_TIMEOUT_MS = 10_000;
+
+    private final PurchaseLinkRepository purchaseLinkRepository;
+    private final KyoboService kyoboService;
+    private final Yes24Service yes24Service;
+
+    private final Map<String, CachedLink> lru = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedLink> eldest) {
+                    return size() > LRU_CAPACITY;
+                }
+            });
+
+    // 같은 ISBN/서점에 대한 중복 크롤링 방지
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final ExecutorService crawlExecutor = Executors.newFixedThreadPool(CRAWL_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "purchase-link-crawler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 요청 경로용: 캐시된 링크를 우선 반환하고, 없으면 두 서점을 병렬로 제한 시간 내에서만 조회
+    // 제한 시간은 서점마다가 아니라 요청 전체 기준 (서점이 늘어도 최대 REQUEST_TIMEOUT_MS만 대기)
+    public Map<BookStore, String> getLinks(String isbn) {
+        Map<BookStore, CompletableFuture<String>> futures = resolveAll(isbn);
+        long deadline = System.currentTimeMillis() + REQUEST_TIMEOUT_MS;
+
+        Map<BookStore, String> links = new EnumMap<>(BookStore.class);
+        futures.forEach((store, future) -> links.put(store,
+                await(future, Math.max(deadline - System.currentTimeMillis(), 0), isbn, store)));
+        return links;
+    }
+
+    // 찜 등록 등에서 호출: 결과를 기다리지 않고 백그라운드로 수집
+    public void prefetchAsync(String isbn) {
+        if (isbn == null || isbn.isBlank()) {
+            return;
+        }
+        resolveAll(isbn);
+    }
+
+    // 배치용: 만료되었거나 없는 링크만 순차 수집 (서점에 부하를 주지 않도록 ISBN 단위로 대기)
+    public int warm(Collection<String> isbns) {
+        int crawled = 0;
+        for (String isbn : new LinkedHashSet<>(isbns)) {
+            if (isbn == null || isbn.isBlank()) {
+                continue;
+            }
+            Map<BookStore, CompletableFuture<String>> futures = resolveAll(isbn);
+            for (Map.Entry<BookStore, CompletableFuture<String>> entry : futures.entrySet()) {
+                if (!entry.getValue().isDone()) {
+                    crawled++;
+                }
+                await(entry.getValue(), WARM_TIMEOUT_MS, isbn, entry.getKey());
+            }
+        }
+        return crawled;
+    }
+
+    private Map<BookStore, CompletableFuture<String>> resolveAll(String isbn) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<BookStore, CompletableFuture<String>> futures = new EnumMap<>(BookStore.class);
+        Map<BookStore, PurchaseLink> stored = null;
+
+        for (BookStore store : BookStore.values()) {
+            // 1. 메모리 캐시
+            CachedLink cached = lru.get(key(isbn, store));
+            if (cached != null && !cached.isExpired(now)) {
+                futures.put(store, CompletableFuture.completedFuture(cached.url()));
+                continue;
+            }
+
+            // 2. 테이블 캐시 (서점별로 한 번에 조회)
+            if (stored == null) {
+                stored = findStored(isbn);
+            }
+            PurchaseLink link = stored.get(store);
+            if (link != null && !link.isExpired(now)) {
+                lru.put(key(isbn, store), new CachedLink(link.getUrl(), link.getExpiresAt()));
+                futures.put(store, CompletableFuture.completedFuture(link.getUrl()));
+                continue;
+            }
+
+            // 3. 크롤링
+            futures.put(store, crawl(isbn, store));
+        }
+        return futures;
+    }
+
+    private CompletableFuture<String> crawl(String isbn, BookStore store) {
+        String key = key(isbn, store);
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return running;
+        }
+
+        crawlExecutor.execute(() -> {
+            try {
+                String url = fetch(isbn, store);
+                save(isbn, store, url);
+                future.complete(url);
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            } finally {
+                inFlight.remove(key, future);
+            }
+        });
+        return future;
+    }
+
+    private String fetch(String isbn, BookStore store) {
+        return switch (store) {
+            case KYOBO -> kyoboService.getKyoboUrlByIsbn(isbn);
+            case YES24 -> yes24Service.getYes24UrlByIsbn(isbn);
+        };
+    }
+
+    // 크롤링 결과 저장 (검색 결과가 없으면 null로 저장해 짧은 기간 동안 재크롤링하지 않음)
+    private void save(String isbn, BookStore store, String url) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(url != null ? store.getTtl() : store.getNegativeTtl());
+        lru.put(key(isbn, store), new CachedLink(url, expiresAt));
+
+        try {
+            PurchaseLink link = purchaseLinkRepository.findByIsbnAndStore(isbn, store)
+                    .orElseGet(() -> PurchaseLink.builder()
+                            .isbn(isbn)
+                            .store(store)
+                            .expiresAt(expiresAt)
+                            .build());
+            link.refresh(url, expiresAt);
+            purchaseLinkRepository.save(link);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 저장한 경우 (메모리 캐시는 이미 갱신됨)
+            log.debug("구매 링크 동시 저장 - ISBN: {}, 서점: {}", isbn, store);
+        } catch (Exception e) {
+            log.warn("구매 링크 저장 실패 - ISBN: {}, 서점: {}, 메시지: {}", isbn, store, e.getMessage());
+        }
+    }
+
+    private Map<BookStore, PurchaseLink> findStored(String isbn) {
+        Map<BookStore, PurchaseLink> stored = new EnumMap<>(BookStore.class);
+        for (PurchaseLink link : purchaseLinkRepository.findByIsbn(isbn)) {
+            stored.put(link.getStore(), link);
+        }
+        return stored;
+    }
+
+    // 제한 시간 내 결과만 사용 (타임아웃/크롤링 실패 시 null, 크롤링 실패는 캐시하지 않아 다음 조회 때 재시도)
+    private String await(CompletableFuture<String> future, long timeoutMs, String isbn, BookStore store) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("구매 링크 조회 시간 초과 - ISBN: {}, 서점: {}", isbn, store);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("구매 링크 크롤링 실패 - ISBN: {}, 서점: {}", isbn, store);
+        }
+        return null;
+    }
+
+    private String key(String isbn, BookStore store) {
+        return store.name() + ":" + isbn;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        crawlExecutor.shutdownNow();
+    }
+
+    private record CachedLink(String url, LocalDateTime expiresAt) {
+        boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+}
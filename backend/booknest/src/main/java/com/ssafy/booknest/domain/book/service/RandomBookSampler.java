@@ -0,0 +1,136 @@
+package com.ssafy.booknest.domain.book.service;
+
+import com.ssafy.booknest.domain.book.repository.BookRepository;
+import com.ssafy.booknest.domain.book.repository.recommandation.AgeGenderBookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntPredicate;
+
+// 무작위 도서 추출
+// ORDER BY RAND()는 호출마다 전체 행을 읽고 정렬하므로, 도서 ID를 전체/태그별/카테고리별 int 배열로 메모리에 두고 k개만 뽑음
+// 추출은 부분 Fisher-Yates (교환한 위치만 HashMap에 기록)로 배열을 복사하지 않고 O(k)에 중복 없이 수행
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RandomBookSampler {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final BookRepository bookRepository;
+    private final AgeGenderBookRepository ageGenderBookRepository;
+
+    private volatile Snapshot snapshot;
+
+    // 전체 도서 중 제외 대상이 아닌 도서 k권
+    public List<Integer> sample(int k, IntPredicate excluded) {
+        return sample(snapshot().allBookIds, k, excluded);
+    }
+
+    // 제외 대상이 아닌 전체 도서 수 (제외 목록의 도서는 모두 존재한다고 가정)
+    public int countExcluding(int excludedCount) {
+        return Math.max(snapshot().allBookIds.length - excludedCount, 0);
+    }
+
+    public List<Integer> sampleByTag(String tag, int k) {
+        return sampleByTag(tag, k, id -> false);
+    }
+
+    public List<Integer> sampleByTag(String tag, int k, IntPredicate excluded) {
+        return sample(snapshot().bookIdsByTag.getOrDefault(tag, EMPTY), k, excluded);
+    }
+
+    public List<Integer> sampleByCategory(String category, int k) {
+        return sample(snapshot().bookIdsByCategory.getOrDefault(category, EMPTY), k, id -> false);
+    }
+
+    // 나이대/성별 추천 테이블(age_gender_book)의 행 ID k개
+    public List<Integer> sampleAgeGenderBookIds(int k) {
+        return sample(snapshot().ageGenderBookIds, k, id -> false);
+    }
+
+    // 도서 추가/태그 변경을 반영하도록 주기적으로 다시 적재 (조회 중인 요청은 이전 스냅샷을 그대로 사용)
+    @Scheduled(fixedDelay = 1000 * 60 * 30, initialDelay = 1000 * 60 * 30) // 30분마다 실행
+    public void refresh() {
+        long startedAt = System.currentTimeMillis();
+
+        Snapshot loaded = new Snapshot(
+                toArray(bookRepository.findAllIds()),
+                groupByName(bookRepository.findAllTagBookPairs()),
+                groupByName(bookRepository.findAllCategoryBookPairs()),
+                toArray(ageGenderBookRepository.findAllIds()));
+        snapshot = loaded;
+
+        log.info("[무작위 추출 갱신] 도서 {}권, 태그 {}개, 카테고리 {}개 ({}ms)", loaded.allBookIds.length,
+                loaded.bookIdsByTag.size(), loaded.bookIdsByCategory.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    // pool에서 제외 대상이 아닌 값을 최대 k개 중복 없이 추출
+    // i번째 추출은 [i, n) 구간에서 하나를 골라 i 위치와 교환한 것으로 기록하므로 배열은 읽기만 함
+    static List<Integer> sample(int[] pool, int k, IntPredicate excluded) {
+        int n = pool.length;
+        List<Integer> result = new ArrayList<>(Math.min(k, n));
+        if (k <= 0 || n == 0) {
+            return result;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<Integer, Integer> swapped = new HashMap<>();
+        for (int i = 0; i < n && result.size() < k; i++) {
+            int j = i + random.nextInt(n - i);
+            int picked = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+
+            int bookId = pool[picked];
+            if (!excluded.test(bookId)) {
+                result.add(bookId);
+            }
+        }
+        return result;
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        int[] array = new int[ids.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ids.get(i);
+        }
+        return array;
+    }
+
+    // [이름, 도서 ID] 목록을 이름별 도서 ID 배열로 변환
+    private static Map<String, int[]> groupByName(List<Object[]> rows) {
+        Map<String, List<Integer>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[0] != null && row[1] != null) {
+                grouped.computeIfAbsent((String) row[0], key -> new ArrayList<>()).add((Integer) row[1]);
+            }
+        }
+
+        Map<String, int[]> result = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((name, ids) -> result.put(name, toArray(ids)));
+        return result;
+    }
+
+    private record Snapshot(int[] allBookIds,
+                            Map<String, int[]> bookIdsByTag,
+                            Map<String, int[]> bookIdsByCategory,
+                            int[] ageGenderBookIds) {
+    }
+}
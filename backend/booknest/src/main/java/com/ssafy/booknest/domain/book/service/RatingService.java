@@ -14,6 +14,7 @@ import com.ssafy.booknest.domain.book.repository.evaluation.ReviewRepository;
 import com.ssafy.booknest.domain.nest.repository.BookNestRepository;
 import com.ssafy.booknest.domain.user.entity.User;
 import com.ssafy.booknest.domain.user.repository.UserRepository;
+import com.ssafy.booknest.domain.user.service.UserPreferenceService;
 import com.ssafy.booknest.global.common.CustomPage;
 import com.ssafy.booknest.global.common.util.TagVectorService;
 import com.ssafy.booknest.global.error.ErrorCode;
@@ -38,6 +39,10 @@ public class RatingService {
     private final RatingRepository ratingRepository;
     private final IgnoredBookRepository ignoredBookRepository;
     private final BookNestRepository bookNestRepository;
+    private final BookRatingStatService bookRatingStatService;
+    private final BookPopularityService bookPopularityService;
+    private final UserPreferenceService userPreferenceService;
+    private final ExcludedBookService excludedBookService;
 
     private final TagVectorService tagVectorService;
 
@@ -69,6 +74,15 @@ public class RatingService {
 
         ratingRepository.save(rating);
 
+        // 도서 평점 집계 갱신
+        bookRatingStatService.applyCreate(book, dto.getScore());
+        // 인기 순위 갱신
+        bookPopularityService.applyCreate(bookId, dto.getScore());
+        // 유저 선호 분석 누적값 갱신
+        userPreferenceService.applyCreate(userId, bookId, dto.getScore());
+        // 평가 목록 제외 비트맵 갱신
+        excludedBookService.markRated(userId, bookId);
+
         Optional<Review> review = reviewRepository.findByUserIdAndBookId(userId, bookId);
 
         if(reviewRepository.existsByUserIdAndBookId(userId, bookId)) {
@@ -78,9 +92,7 @@ public class RatingService {
         double weight = tagVectorService.getScoreWeight(dto.getScore());
         List<String> tags = book.getTagNames();
 
-        for (String tag : tags) {
-            tagVectorService.increaseTagScore(userId, tag, weight);
-        }
+        tagVectorService.applyDelta(userId, tags, weight);
     }
 
     // 평점 수정
@@ -113,18 +125,22 @@ public class RatingService {
 
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
+
+        // 도서 평점 집계 갱신
+        bookRatingStatService.applyUpdate(book, score, dto.getScore());
+        // 인기 순위 갱신
+        bookPopularityService.applyUpdate(bookId, score, dto.getScore());
+        // 유저 선호 분석 누적값 갱신
+        userPreferenceService.applyUpdate(userId, bookId, score, dto.getScore());
+
         List<String> tags = book.getTagNames();
 
         // 이전 원복
         double weight = tagVectorService.getScoreWeight(score);
-        for (String tag : tags) {
-            tagVectorService.increaseTagScore(userId, tag, -weight);
-        }
+        tagVectorService.applyDelta(userId, tags, -weight);
         // 업데이트
         weight = tagVectorService.getScoreWeight(dto.getScore());
-        for (String tag : tags) {
-            tagVectorService.increaseTagScore(userId, tag, weight);
-        }
+        tagVectorService.applyDelta(userId, tags, weight);
 
         return score;
     }
@@ -161,13 +177,21 @@ public class RatingService {
 
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
+
+        // 도서 평점 집계 갱신
+        bookRatingStatService.applyDelete(book, score);
+        // 인기 순위 갱신
+        bookPopularityService.applyDelete(bookId, score, rating.getCreatedAt());
+        // 유저 선호 분석 누적값 갱신
+        userPreferenceService.applyDelete(userId, bookId, score);
+        // 평가 목록 제외 비트맵 갱신
+        excludedBookService.unmarkRated(userId, bookId);
+
         List<String> tags = book.getTagNames();
 
         // 이전 원복
         double weight = tagVectorService.getScoreWeight(score);
-        for (String tag : tags) {
-            tagVectorService.increaseTagScore(userId, tag, -weight);
-        }
+        tagVectorService.applyDelta(userId, tags, -weight);
 
         return score;
     }
@@ -217,11 +241,10 @@ public class RatingService {
                 .build();
 
         ignoredBookRepository.save(ignoredBook);
+        excludedBookService.markIgnored(userId, bookId);
 
         List<String> tags = book.getTagNames();
-        for (String tag : tags) {
-            tagVectorService.increaseTagScore(userId, tag, -0.50); // 관심없음 가중치
-        }
+        tagVectorService.applyDelta(userId, tags, -0.50); // 관심없음 가중치
     }
 
     // 특정 도서 관심없음 조회
@@ -249,5 +272,6 @@ public class RatingService {
                 .orElseThrow(() -> new CustomException(ErrorCode.IGNORED_BOOK_NOT_FOUND));
 
         ignoredBookRepository.delete(ignoredBook);
+        excludedBookService.unmarkIgnored(userId, bookId);
     }
 }
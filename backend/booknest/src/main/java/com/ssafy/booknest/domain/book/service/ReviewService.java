@@ -2,6 +2,8 @@ package com.ssafy.booknest.domain.book.service;
 
 import com.ssafy.booknest.domain.book.dto.request.ReviewRequest;
 import com.ssafy.booknest.domain.book.dto.response.evaluation.BestReviewResponse;
+import com.ssafy.booknest.domain.book.dto.response.evaluation.ReviewCursorResponse;
+import com.ssafy.booknest.domain.book.dto.response.evaluation.ReviewResponse;
 import com.ssafy.booknest.domain.book.dto.response.evaluation.UserReviewResponse;
 import com.ssafy.booknest.domain.book.entity.*;
 import com.ssafy.booknest.domain.book.entity.evaluation.Rating;
@@ -11,6 +13,7 @@ import com.ssafy.booknest.domain.book.repository.BookRepository;
 import com.ssafy.booknest.domain.book.repository.evaluation.RatingRepository;
 import com.ssafy.booknest.domain.book.repository.evaluation.ReviewLikeRepository;
 import com.ssafy.booknest.domain.book.repository.evaluation.ReviewRepository;
+import com.ssafy.booknest.domain.book.repository.projection.ReviewView;
 import com.ssafy.booknest.domain.user.entity.User;
 import com.ssafy.booknest.domain.user.repository.UserRepository;
 import com.ssafy.booknest.global.common.CustomPage;
@@ -20,9 +23,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -37,6 +45,10 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final RatingRepository ratingRepository;
     private final ReviewLikeRepository reviewLikeRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final int MAX_REVIEW_PAGE_SIZE = 50;
+    private static final Duration REVIEW_COUNT_TTL = Duration.ofMinutes(10);
 
     // 한줄평 등록
     @Transactional
@@ -71,6 +83,7 @@ public class ReviewService {
                 .build();
 
         reviewRepository.save(review);
+        evictReviewCount(bookId);
     }
 
 
@@ -111,6 +124,60 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        evictReviewCount(review.getBook().getId());
+    }
+
+    // 도서 한줄평 커서 조회 (첫 페이지에 내 한줄평을 따로 포함하고, 나머지는 (수정일, ID) 기준으로 이어서 조회)
+    @Transactional(readOnly = true)
+    public ReviewCursorResponse getBookReviews(Integer userId, Integer bookId, String cursor, int size, boolean withCount) {
+        userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        if (!bookRepository.existsById(bookId)) {
+            throw new CustomException(ErrorCode.BOOK_NOT_FOUND);
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_REVIEW_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        ReviewView myReview = null;
+        List<ReviewView> reviews;
+        if (cursor == null || cursor.isBlank()) {
+            myReview = reviewRepository.findViewByUserIdAndBookId(userId, bookId).orElse(null);
+            reviews = reviewRepository.findFirstReviewsOfBook(bookId, userId, limit);
+        } else {
+            ReviewCursor decoded = ReviewCursor.decode(cursor);
+            reviews = reviewRepository.findReviewsOfBookBefore(bookId, userId, decoded.updatedAt(), decoded.reviewId(), limit);
+        }
+
+        boolean hasNext = reviews.size() > pageSize;
+        if (hasNext) {
+            reviews = reviews.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            ReviewView last = reviews.get(reviews.size() - 1);
+            nextCursor = new ReviewCursor(last.getUpdatedAt(), last.getId()).encode();
+        }
+
+        // 페이지 내 한줄평 중 내가 좋아요한 ID를 한 번에 조회
+        List<Integer> reviewIds = new ArrayList<>(reviews.stream().map(ReviewView::getId).toList());
+        if (myReview != null) {
+            reviewIds.add(myReview.getId());
+        }
+        Set<Integer> likedIds = findLikedReviewIds(userId, reviewIds);
+
+        return ReviewCursorResponse.builder()
+                .myReview(myReview == null ? null : ReviewResponse.of(myReview, likedIds.contains(myReview.getId())))
+                .content(reviews.stream()
+                        .map(review -> ReviewResponse.of(review, likedIds.contains(review.getId())))
+                        .toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalElements(withCount ? getReviewCount(bookId) : null)
+                .build();
     }
 
 
@@ -192,6 +259,7 @@ public class ReviewService {
 
         // 리뷰들 조회 → Map으로 저장
         List<Review> reviews = reviewRepository.findAllById(reviewIds);
+        Set<Integer> likedIds = findLikedReviewIds(userId, reviewIds);
         Map<Integer, Review> reviewMap = reviews.stream()
                 .collect(Collectors.toMap(Review::getId, r -> r));
 
@@ -201,10 +269,69 @@ public class ReviewService {
         for (Integer reviewId : reviewIds) {
             Review review = reviewMap.get(reviewId);
             int todayLikes = reviewLikeCountMap.get(reviewId);
-            BestReviewResponse response = BestReviewResponse.of(review, userId, todayLikes, rank++);
+            BestReviewResponse response = BestReviewResponse.of(review, likedIds.contains(reviewId), todayLikes, rank++);
             resultList.add(response);
         }
 
         return resultList;
     }
+
+    // 한줄평 ID 목록 중 해당 유저가 좋아요한 ID
+    private Set<Integer> findLikedReviewIds(Integer userId, List<Integer> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(reviewLikeRepository.findLikedReviewIds(userId, reviewIds));
+    }
+
+    // 도서 한줄평 개수 (COUNT 쿼리 부담을 줄이기 위해 Redis에 잠시 보관, 등록/삭제 시 삭제)
+    private long getReviewCount(Integer bookId) {
+        String key = reviewCountKey(bookId);
+        String cached = redisTemplate.opsForValue().get(key);
+        if (cached != null) {
+            return Long.parseLong(cached);
+        }
+
+        long count = reviewRepository.countByBookId(bookId);
+        redisTemplate.opsForValue().set(key, String.valueOf(count), REVIEW_COUNT_TTL);
+        return count;
+    }
+
+    // 커밋 전에 지우면 동시 조회가 커밋 전 개수를 다시 캐시할 수 있으므로 커밋 후에 삭제
+    private void evictReviewCount(Integer bookId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            redisTemplate.delete(reviewCountKey(bookId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisTemplate.delete(reviewCountKey(bookId));
+            }
+        });
+    }
+
+    private String reviewCountKey(Integer bookId) {
+        return "book:" + bookId + ":review_count";
+    }
+
+    // 클라이언트에는 의미를 알 수 없는 문자열로 전달하는 커서 (마지막 한줄평의 수정일 + ID)
+    private record ReviewCursor(LocalDateTime updatedAt, Integer reviewId) {
+
+        String encode() {
+            String raw = updatedAt + "|" + reviewId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ReviewCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new ReviewCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Integer.parseInt(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+    }
 }
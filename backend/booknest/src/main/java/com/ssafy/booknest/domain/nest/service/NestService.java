@@ -6,6 +6,7 @@ import com.ssafy.booknest.domain.book.entity.evaluation.Rating;
 import com.ssafy.booknest.domain.book.entity.evaluation.Review;
 import com.ssafy.booknest.domain.book.repository.BookRepository;
 import com.ssafy.booknest.domain.book.repository.evaluation.ReviewRepository;
+import com.ssafy.booknest.domain.book.service.PurchaseLinkService;
 import com.ssafy.booknest.domain.book.service.RatingService;
 import com.ssafy.booknest.domain.nest.dto.request.AddBookNestRequest;
 import com.ssafy.booknest.domain.nest.dto.request.DeleteBookNestRequest;
@@ -46,6 +47,7 @@ public class NestService {
     private final NestRepository nestRepository;
     private final BookMarkRepository bookMarkRepository;
     private final RatingService ratingService;
+    private final PurchaseLinkService purchaseLinkService;
 
     private final UserActionLogger userActionLogger;
     private final TagVectorService tagVectorService;
@@ -121,9 +123,7 @@ public class NestService {
         }
 
         List<String> tags = book.getTagNames();
-        for (String tag : tags) {
-            tagVectorService.increaseTagScore(userId, tag, 0.4); // 서재 등록 가중치
-        }
+        tagVectorService.applyDelta(userId, tags, 0.4); // 서재 등록 가중치
 
         return AddBookNestResponse.builder()
                 .nestId(nest.getId())
@@ -151,9 +151,7 @@ public class NestService {
                 new CustomException(ErrorCode.BOOKNEST_NOT_FOUND));
 
         List<String> tags = book.getTagNames();
-        for (String tag : tags) {
-            tagVectorService.increaseTagScore(userId, tag, -0.4); // 서재 등록 가중치
-        }
+        tagVectorService.applyDelta(userId, tags, -0.4); // 서재 등록 가중치
 
         bookNestRepository.delete(bookNest);
     }
@@ -181,10 +179,11 @@ public class NestService {
 
         bookMarkRepository.save(bookMark);
 
+        // 찜한 도서는 구매 링크 조회 가능성이 높으므로 미리 수집
+        purchaseLinkService.prefetchAsync(book.getIsbn());
+
         List<String> tags = book.getTagNames();
-        for (String tag : tags) {
-            tagVectorService.increaseTagScore(userId, tag, 0.325); // 찜 등록 가중치
-        }
+        tagVectorService.applyDelta(userId, tags, 0.325); // 찜 등록 가중치
     }
 
     // 찜하기 취소
@@ -207,9 +206,7 @@ public class NestService {
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
         List<String> tags = book.getTagNames();
-        for (String tag : tags) {
-            tagVectorService.increaseTagScore(userId, tag, -0.325); // 찜 등록 가중치
-        }
+        tagVectorService.applyDelta(userId, tags, -0.325); // 찜 등록 가중치
     }
 
     // 찜목록 조회
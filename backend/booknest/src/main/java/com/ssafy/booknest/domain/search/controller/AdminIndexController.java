@@ -1,58 +1,36 @@
 package com.ssafy.booknest.domain.search.controller;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.ssafy.booknest.domain.search.dto.response.IndexRebuildStatusResponse;
+import com.ssafy.booknest.domain.search.enums.SearchIndex;
+import com.ssafy.booknest.domain.search.service.SearchIndexRebuildService;
+import com.ssafy.booknest.global.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
-import java.io.IOException;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/admin/index")
 public class AdminIndexController {
 
-    private final ElasticsearchClient elasticsearchClient;
+    private final SearchIndexRebuildService searchIndexRebuildService;
 
-    // 기존 book 인덱스를 삭제하고 새롭게 설정된 분석기 및 매핑으로 다시 생성
+    // {alias}_v{n} 인덱스를 새로 만들어 DB에서 적재하고, 문서 수 검증 후 별칭을 옮김 (기존 인덱스는 그동안 그대로 조회됨)
     @PostMapping("/reset")
-    public ResponseEntity<String> resetBookIndex() {
-        try {
-            // 1. 기존 인덱스 삭제
-            boolean exists = elasticsearchClient.indices().exists(e -> e.index("book")).value();
-            if (exists) {
-                elasticsearchClient.indices().delete(d -> d.index("book"));
-            }
-
-            // 2. 인덱스 생성
-            elasticsearchClient.indices().create(c -> c
-                    .index("book")
-                    .settings(s -> s.analysis(a -> a
-                            .analyzer("korean_analyzer", analyzer -> analyzer
-                                    .custom(ca -> ca
-                                            .tokenizer("nori_tokenizer")
-                                            .filter("lowercase", "nori_part_of_speech", "nori_readingform")
-                                    )
-                            )
-                    ))
-                    .mappings(m -> m
-                            .properties("bookId", p -> p.integer(i -> i))
-                            .properties("title", p -> p.text(t -> t.analyzer("korean_analyzer")))
-                            .properties("image_url", p -> p.keyword(k -> k))
-                            .properties("authors", p -> p.text(t -> t.analyzer("korean_analyzer")))
-                            .properties("tags", p -> p.keyword(k -> k))
-                            .properties("total_ratings", p -> p.integer(i -> i))  // total_ratings 필드를 추가
-                    )
-            );
-
-            return ResponseEntity.ok("인덱스 재설정 완료");
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("오류: " + e.getMessage());
+    public ResponseEntity<String> resetIndex(@RequestParam(defaultValue = "BOOK") SearchIndex target) {
+        if (!searchIndexRebuildService.start(target)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("이미 " + target.getAlias() + " 인덱스를 재생성 중입니다");
         }
+        return ResponseEntity.accepted().body(target.getAlias() + " 인덱스 재생성 시작");
+    }
+
+    // 인덱스별 재생성 진행 상황
+    @GetMapping("/status")
+    public ResponseEntity<ApiResponse<List<IndexRebuildStatusResponse>>> getStatus() {
+        return ApiResponse.success(searchIndexRebuildService.getStatuses());
     }
 
 }
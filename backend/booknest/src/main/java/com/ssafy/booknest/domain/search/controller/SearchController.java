@@ -3,7 +3,9 @@ package com.ssafy.booknest.domain.search.controller;
 import com.ssafy.booknest.domain.book.dto.response.BookResponse;
 import com.ssafy.booknest.domain.book.enums.BookEvalType;
 import com.ssafy.booknest.domain.search.dto.response.BookSearchResponse;
+import com.ssafy.booknest.domain.search.dto.response.KeywordCountResponse;
 import com.ssafy.booknest.domain.search.dto.response.UserSearchResponse;
+import com.ssafy.booknest.domain.search.enums.KeywordWindow;
 import com.ssafy.booknest.domain.search.record.BookEval;
 import com.ssafy.booknest.domain.search.record.SearchedBook;
 import com.ssafy.booknest.domain.search.service.PopularKeywordService;
@@ -32,17 +34,19 @@ public class SearchController {
     private final SearchService searchService;
     private final PopularKeywordService popularKeywordService;
 
-    // 제목 또는 태그 기준으로 도서를 검색하며, 페이징 처리된 결과를 반환함
+    // 제목 또는 태그 기준으로 도서를 검색하며, 페이징 처리된 결과를 반환함 (facets=true면 태그별 도서 수 포함)
     @GetMapping("/book")
     public ResponseEntity<ApiResponse<CustomPage<BookSearchResponse>>> searchBook(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestParam(required = false) String title,
             @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean facets,
             Pageable pageable) {
 
         Integer userId = authenticationUtil.getCurrentUserId(userPrincipal);
 
-        return ApiResponse.success(searchService.searchBooks(userId, title, tags, pageable));
+        return ApiResponse.success(searchService.searchBooks(userId, title, tags, cursor, facets, pageable));
     }
 
     // 외부 검색 등을 통해 가져온 도서를 DB 또는 Elasticsearch에 저장
@@ -72,6 +76,29 @@ public class SearchController {
         return ApiResponse.success(keywords);
     }
 
+    // 오늘 기준 인기 검색어와 추정 검색 수(오차 범위 포함)를 조회해 반환
+    @GetMapping("/today/counts")
+    public ResponseEntity<ApiResponse<List<KeywordCountResponse>>> getTodayKeywordCounts(
+            @RequestParam(defaultValue = "10") int size) {
+        List<KeywordCountResponse> keywords = popularKeywordService.getTodayKeywordCounts(Math.min(size, 100));
+        return ApiResponse.success(keywords);
+    }
+
+    // 최근 구간(1시간/24시간/7일) 기준 인기 검색어 리스트를 조회해 반환
+    @GetMapping("/popular")
+    public ResponseEntity<ApiResponse<List<String>>> getPopularKeywords(
+            @RequestParam(defaultValue = "DAY") KeywordWindow window) {
+        List<String> keywords = popularKeywordService.getPopularKeywords(window, 10);
+        return ApiResponse.success(keywords);
+    }
+
+    // 최근 1시간 동안 평소보다 많이 검색된 급상승 검색어 리스트를 조회해 반환
+    @GetMapping("/rising")
+    public ResponseEntity<ApiResponse<List<String>>> getRisingKeywords() {
+        List<String> keywords = popularKeywordService.getRisingKeywords(10);
+        return ApiResponse.success(keywords);
+    }
+
     // 입력된 키워드에 기반하여 도서 제목 추천 리스트를 반환
     @GetMapping("/autocomplete")
     public ResponseEntity<ApiResponse<List<String>>> autocomplete(@RequestParam String keyword) {
@@ -84,10 +111,11 @@ public class SearchController {
     public ResponseEntity<ApiResponse<CustomPage<BookResponse>>> getEvalBookList(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestParam(defaultValue = "RANDOM") BookEvalType keyword,
+            @RequestParam(required = false) String cursor,
             Pageable pageable) {
         Integer userId = authenticationUtil.getCurrentUserId(userPrincipal);
         try {
-            return ApiResponse.success(searchService.getEvalBookList(userId, keyword, pageable));
+            return ApiResponse.success(searchService.getEvalBookList(userId, keyword, cursor, pageable));
         } catch (IOException e) {
             throw new CustomException(ErrorCode.ELASTICSEARCH_ERROR); // 또는 적절한 예외
         }
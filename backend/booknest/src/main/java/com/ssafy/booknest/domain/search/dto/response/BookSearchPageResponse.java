@@ -0,0 +1,23 @@
+package com.ssafy.booknest.domain.search.dto.response;
+
+import com.ssafy.booknest.domain.search.record.FacetCount;
+import com.ssafy.booknest.global.common.CustomPage;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+
+// 도서 검색 페이지 + 필터 후보 집계 (facets=true로 요청한 첫 페이지)
+// facets: {"tags": [{"value": 태그, "count": 검색 결과 중 해당 태그 도서 수}, ...]}
+@Getter
+public class BookSearchPageResponse extends CustomPage<BookSearchResponse> {
+
+    private final Map<String, List<FacetCount>> facets;
+
+    public BookSearchPageResponse(Page<BookSearchResponse> page, String nextCursor,
+                                  Map<String, List<FacetCount>> facets) {
+        super(page, nextCursor);
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy.booknest.domain.search.dto.response;
+
+import com.ssafy.booknest.domain.search.enums.RebuildPhase;
+import com.ssafy.booknest.domain.search.enums.SearchIndex;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record IndexRebuildStatusResponse(
+        SearchIndex target,
+        String alias,
+        String index,
+        RebuildPhase phase,
+        long loaded,
+        long failed,
+        long verifiedCount,
+        String message,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+}
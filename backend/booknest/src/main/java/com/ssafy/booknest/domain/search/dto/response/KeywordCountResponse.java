@@ -0,0 +1,19 @@
+package com.ssafy.booknest.domain.search.dto.response;
+
+import lombok.Builder;
+
+// 인기 검색어와 추정 검색 수 (실제 값은 count - errorBound 이상 count 이하, 오차 범위는 높은 확률로 보장)
+@Builder
+public record KeywordCountResponse(
+        String keyword,
+        long count,
+        long errorBound
+) {
+    public static KeywordCountResponse of(String keyword, long count, long errorBound) {
+        return KeywordCountResponse.builder()
+                .keyword(keyword)
+                .count(count)
+                .errorBound(Math.min(errorBound, count))
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.ssafy.booknest.domain.search.entity;
+
+import com.ssafy.booknest.global.common.Entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+// 검색 인덱스(book, book_eval)에 다시 반영해야 하는 도서
+// 도서 정보가 바뀌는 트랜잭션에서 함께 저장하고, 색인 배치가 available_at 순서로 꺼내 묶음 색인 후 삭제
+@Entity
+@Table(name = "book_index_outbox",
+        indexes = @Index(name = "idx_book_index_outbox_available", columnList = "available_at, id"))
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BookIndexOutbox extends BaseEntity {
+
+    @Column(name = "book_id", nullable = false)
+    private Integer bookId;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    // 이 시각 이후에 색인 대상으로 꺼냄 (실패 시 백오프만큼 미룸)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    public static BookIndexOutbox of(Integer bookId) {
+        return BookIndexOutbox.builder()
+                .bookId(bookId)
+                .attempts(0)
+                .availableAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 색인 실패 후 재시도 예약
+    public void retryAt(LocalDateTime availableAt) {
+        this.attempts++;
+        this.availableAt = availableAt;
+    }
+}
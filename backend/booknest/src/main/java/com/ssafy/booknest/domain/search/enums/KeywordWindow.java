@@ -0,0 +1,16 @@
+package com.ssafy.booknest.domain.search.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 인기 검색어 집계 구간 (시간 버킷을 합쳐 만드는 이동 구간)
+@Getter
+@RequiredArgsConstructor
+public enum KeywordWindow {
+    HOUR(1, "1h"),
+    DAY(24, "24h"),
+    WEEK(24 * 7, "7d");
+
+    private final int hours;
+    private final String keySuffix;
+}
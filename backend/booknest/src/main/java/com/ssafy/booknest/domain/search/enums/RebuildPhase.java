@@ -0,0 +1,15 @@
+package com.ssafy.booknest.domain.search.enums;
+
+// 검색 인덱스 재생성 진행 단계
+public enum RebuildPhase {
+    CREATING,   // 새 버전 인덱스 생성
+    LOADING,    // DB에서 구간별 병렬 적재
+    VERIFYING,  // 문서 수 검증
+    SWAPPING,   // 별칭 이동
+    COMPLETED,
+    FAILED;
+
+    public boolean isRunning() {
+        return this != COMPLETED && this != FAILED;
+    }
+}
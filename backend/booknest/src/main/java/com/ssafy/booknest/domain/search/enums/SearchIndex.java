@@ -0,0 +1,30 @@
+package com.ssafy.booknest.domain.search.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 검색 인덱스 종류
+// 조회/변경 색인은 별칭(alias)으로만 접근하고, 실제 인덱스는 {alias}_v{n}으로 버전을 올려가며 새로 만든 뒤 별칭을 옮김
+@Getter
+@RequiredArgsConstructor
+public enum SearchIndex {
+    BOOK("book"),
+    BOOK_EVAL("book_eval"),
+    USERS("users");
+
+    private final String alias;
+
+    // 새 버전을 적재하는 동안 변경 색인도 함께 쓰도록 빌드 중인 인덱스에 붙이는 별칭
+    public String getBuildingAlias() {
+        return alias + "_building";
+    }
+
+    // 별칭에서 빠져 삭제를 기다리는 이전 인덱스에 붙이는 별칭 (재시작하거나 다른 서버에서도 찾을 수 있도록)
+    public String getRetiredAlias() {
+        return alias + "_retired";
+    }
+
+    public String versionedName(int version) {
+        return alias + "_v" + version;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy.booknest.domain.search.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 도서 검색 요청 종류 (캐시 적중률 지표 구분용)
+@Getter
+@RequiredArgsConstructor
+public enum SearchQueryClass {
+    KEYWORD("keyword"),
+    TAG("tag"),
+    TAG_KEYWORD("tag_keyword");
+
+    private final String tagValue;
+
+    public static SearchQueryClass of(boolean hasKeyword, boolean hasTags) {
+        if (hasKeyword && hasTags) {
+            return TAG_KEYWORD;
+        }
+        return hasTags ? TAG : KEYWORD;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ssafy.booknest.domain.search.record;
+
+import java.util.List;
+
+// 색인용 도서 한 건 (DB 한 행에서 book, book_eval 두 인덱스의 문서를 만듦)
+public record BookDocument(
+        Integer bookId,
+        String title,
+        String imageUrl,
+        String publishedDate,
+        List<String> authors,
+        List<String> tags,
+        Integer totalRatings
+) {
+    public SearchedBook toSearchedBook() {
+        return SearchedBook.builder()
+                .bookId(bookId)
+                .title(title)
+                .imageURL(imageUrl)
+                .authors(authors)
+                .tags(tags)
+                .totalRatings(totalRatings)
+                .build();
+    }
+
+    public BookEval toBookEval() {
+        return BookEval.builder()
+                .bookId(bookId)
+                .title(title)
+                .imageUrl(imageUrl)
+                .publishedDate(publishedDate)
+                .authors(authors)
+                .totalRatings(totalRatings)
+                .build();
+    }
+}
@@ -21,5 +21,6 @@ public class BookEval {
     @JsonProperty("published_date")
     private String publishedDate;
     private List<String> authors;
+    @JsonProperty("total_ratings")
     private Integer totalRatings;
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.ssafy.booknest.domain.search.record;
+
+// 검색 결과 안에서 값(태그 등)별 도서 수
+public record FacetCount(String value, long count) {
+}
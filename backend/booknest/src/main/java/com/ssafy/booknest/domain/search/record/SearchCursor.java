@@ -0,0 +1,85 @@
+package com.ssafy.booknest.domain.search.record;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.booknest.global.error.ErrorCode;
+import com.ssafy.booknest.global.error.exception.CustomException;
+
+import java.util.*;
+
+// 검색 다음 페이지 커서
+// - sortValues: 마지막으로 내려준 문서의 정렬 값 (search_after)
+// - pitId: point-in-time ID (첫 페이지는 결과 캐시를 공유하도록 PIT 없이 조회하므로 null)
+// - total: 첫 페이지의 전체 건수 (다음 페이지부터는 전체 건수를 다시 세지 않음)
+// - seed: 무작위 정렬 시드 (시드가 교체되어도 이어 보는 목록의 순서가 바뀌지 않도록 커서에 고정)
+// 클라이언트에는 JSON을 Base64 URL 인코딩한 문자열로 전달
+public record SearchCursor(String pitId, List<FieldValue> sortValues, long total, Long seed) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public String encode() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("p", pitId);
+        json.put("s", sortValues.stream().map(SearchCursor::toJson).toList());
+        json.put("t", total);
+        if (seed != null) {
+            json.put("r", seed);
+        }
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(json));
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 커서가 없으면 null
+    @SuppressWarnings("unchecked")
+    public static SearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            Map<String, Object> json = MAPPER.readValue(Base64.getUrlDecoder().decode(token), Map.class);
+            List<FieldValue> sortValues = ((List<Object>) json.get("s")).stream()
+                    .map(SearchCursor::fromJson)
+                    .toList();
+            Number seed = (Number) json.get("r");
+            return new SearchCursor((String) json.get("p"), sortValues, ((Number) json.get("t")).longValue(),
+                    seed == null ? null : seed.longValue());
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INVALID_SEARCH_CURSOR);
+        }
+    }
+
+    private static Object toJson(FieldValue value) {
+        if (value.isLong()) {
+            return value.longValue();
+        }
+        if (value.isDouble()) {
+            return value.doubleValue();
+        }
+        if (value.isBoolean()) {
+            return value.booleanValue();
+        }
+        if (value.isString()) {
+            return value.stringValue();
+        }
+        return null;
+    }
+
+    private static FieldValue fromJson(Object value) {
+        if (value == null) {
+            return FieldValue.NULL;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return FieldValue.of(((Number) value).doubleValue());
+        }
+        if (value instanceof Number number) {
+            return FieldValue.of(number.longValue());
+        }
+        if (value instanceof Boolean bool) {
+            return FieldValue.of(bool);
+        }
+        return FieldValue.of(value.toString());
+    }
+}
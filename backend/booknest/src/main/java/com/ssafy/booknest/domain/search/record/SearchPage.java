@@ -0,0 +1,20 @@
+package com.ssafy.booknest.domain.search.record;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// 검색 결과 한 페이지와 다음 페이지 커서 (마지막 페이지면 null)
+// facets: 필드 이름별 값 집계 (요청하지 않았으면 null)
+public record SearchPage<T>(Page<T> page, String nextCursor, Map<String, List<FacetCount>> facets) {
+
+    public SearchPage(Page<T> page, String nextCursor) {
+        this(page, nextCursor, null);
+    }
+
+    public <R> SearchPage<R> map(Function<? super T, ? extends R> converter) {
+        return new SearchPage<>(page.map(converter), nextCursor, facets);
+    }
+}
@@ -37,4 +37,12 @@ public class SearchedBook {
 
     @Field(type = FieldType.Keyword)
     private List<String> tags;
+
+    @Field(type = FieldType.Integer)
+    private Integer totalRatings;
+
+    // 평점 집계 테이블 기준 평점 개수로 교체한 복사본 반환
+    public SearchedBook withTotalRatings(Integer totalRatings) {
+        return new SearchedBook(bookId, title, imageURL, authors, tags, totalRatings);
+    }
 }
@@ -0,0 +1,19 @@
+package com.ssafy.booknest.domain.search.record;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// 색인용 유저 한 건 (users 인덱스의 SerachedUser와 같은 필드 이름)
+public record UserDocument(
+        Integer id,
+        String nickname,
+        @JsonProperty("profile_url")
+        String profileUrl
+) {
+    public SerachedUser toSearchedUser() {
+        return SerachedUser.builder()
+                .id(id)
+                .nickname(nickname)
+                .profileURL(profileUrl)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.ssafy.booknest.domain.search.repository;
+
+import com.ssafy.booknest.domain.search.record.BookDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.function.Consumer;
+
+// 색인용 도서 문서를 JDBC로 조회
+// 저자/태그는 도서별 GROUP_CONCAT 서브쿼리로 한 행에 모아 엔티티나 컬렉션 로딩 없이 문서를 바로 만듦
+@Repository
+@RequiredArgsConstructor
+public class BookDocumentStreamRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+    private static final int IN_CHUNK_SIZE = 1_000;
+    // 저자/태그 이름에 쓰이지 않는 구분자 (ASCII Unit Separator)
+    private static final String SEPARATOR = "\u001F";
+    // 기본값(1024)이면 태그가 많은 도서의 목록이 잘리므로 세션에서 늘려 둠
+    private static final String SET_GROUP_CONCAT_LENGTH = "SET SESSION group_concat_max_len = 1048576";
+
+    private static final String SELECT_DOCUMENT = """
+            SELECT b.id, b.title, b.image_url, b.published_date, COALESCE(s.rating_count, 0),
+                   (SELECT GROUP_CONCAT(a.name ORDER BY ba.id SEPARATOR '%1$s')
+                      FROM book_author ba JOIN author a ON a.id = ba.author_id
+                     WHERE ba.book_id = b.id),
+                   (SELECT GROUP_CONCAT(t.name ORDER BY bt.id SEPARATOR '%1$s')
+                      FROM book_tag bt JOIN tag t ON t.id = bt.tag_id
+                     WHERE bt.book_id = b.id)
+            FROM book b
+            LEFT JOIN book_rating_stat s ON s.book_id = b.id
+            """.formatted(SEPARATOR);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 도서 ID 구간을 ID 순으로 커서 스트리밍하고 처리한 문서 수 반환 (인덱스 재생성 시 구간별 병렬 적재용)
+    public long streamRange(int fromId, int toId, Consumer<BookDocument> handler) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(SET_GROUP_CONCAT_LENGTH);
+            }
+
+            long rows = 0;
+            try (PreparedStatement statement = connection.prepareStatement(
+                    SELECT_DOCUMENT + " WHERE b.id BETWEEN ? AND ? ORDER BY b.id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setInt(1, fromId);
+                statement.setInt(2, toId);
+                statement.setFetchSize(FETCH_SIZE);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        handler.accept(toDocument(rs));
+                        rows++;
+                    }
+                }
+            }
+            return rows;
+        });
+    }
+
+    public int findMaxId() {
+        Integer maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM book", Integer.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    // 도서 ID 목록의 문서 조회 (DB에 없는 도서는 결과에 없음)
+    public Map<Integer, BookDocument> findByIds(Collection<Integer> bookIds) {
+        Map<Integer, BookDocument> documents = new HashMap<>();
+        if (bookIds.isEmpty()) {
+            return documents;
+        }
+
+        List<Integer> idList = List.copyOf(bookIds);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(SET_GROUP_CONCAT_LENGTH);
+            }
+
+            for (int from = 0; from < idList.size(); from += IN_CHUNK_SIZE) {
+                List<Integer> chunk = idList.subList(from, Math.min(from + IN_CHUNK_SIZE, idList.size()));
+                String sql = SELECT_DOCUMENT + " WHERE b.id IN ("
+                        + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            BookDocument document = toDocument(rs);
+                            documents.put(document.bookId(), document);
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+        return documents;
+    }
+
+    private static BookDocument toDocument(ResultSet rs) throws SQLException {
+        return new BookDocument(
+                rs.getInt(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                split(rs.getString(6)),
+                split(rs.getString(7)),
+                rs.getInt(5));
+    }
+
+    private static List<String> split(String joined) {
+        if (joined == null || joined.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(joined.split(SEPARATOR)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.booknest.domain.search.repository;
+
+import com.ssafy.booknest.domain.search.entity.BookIndexOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BookIndexOutboxRepository extends JpaRepository<BookIndexOutbox, Integer> {
+
+    // 지금 색인할 수 있는 변경 이벤트를 오래된 순으로 조회
+    @Query("SELECT o FROM BookIndexOutbox o WHERE o.availableAt <= :now ORDER BY o.availableAt, o.id")
+    List<BookIndexOutbox> findReady(@Param("now") LocalDateTime now, Pageable pageable);
+}
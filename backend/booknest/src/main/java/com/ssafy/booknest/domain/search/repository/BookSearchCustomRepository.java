@@ -1,22 +1,24 @@
 package com.ssafy.booknest.domain.search.repository;
 
 import com.ssafy.booknest.domain.search.record.BookEval;
+import com.ssafy.booknest.domain.search.record.SearchPage;
 import com.ssafy.booknest.domain.search.record.SearchedBook;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface BookSearchCustomRepository {
 
-    // 새로운 도서 정보를 Elasticsearch에 저장
-    void save(SearchedBook book);
+    // 새로운 도서 정보를 Elasticsearch의 지정한 인덱스들에 저장 (재생성 중이면 빌드 중인 인덱스 포함)
+    void save(List<String> indices, SearchedBook book);
 
-    // 사용자의 도서 평가를 Elasticsearch에 저장
-    void saveBookEval(BookEval book);
+    // 사용자의 도서 평가를 Elasticsearch의 지정한 인덱스들에 저장
+    void saveBookEval(List<String> indices, BookEval book);
 
-    // 태그와 키워드에 기반하여 도서를 검색 (페이징 포함)
-    Page<SearchedBook> searchByTagsAndKeyword(List<String> tags, String keyword, Pageable pageable);
+    // 태그와 키워드에 기반하여 도서를 검색 (커서가 있으면 search_after, 없으면 페이지 번호로 조회)
+    // includeFacets면 첫 페이지에 태그별 도서 수를 함께 반환
+    SearchPage<SearchedBook> searchByTagsAndKeyword(List<String> tags, String keyword, String cursor,
+                                                    boolean includeFacets, Pageable pageable);
 
     // 사용자가 입력한 키워드로 도서 제목 자동완성 후보 리스트 반환
     List<String> autocompleteTitle(String keyword);
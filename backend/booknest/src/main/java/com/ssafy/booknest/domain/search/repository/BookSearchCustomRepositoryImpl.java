@@ -1,17 +1,20 @@
 package com.ssafy.booknest.domain.search.repository;
 
 import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
 import co.elastic.clients.elasticsearch._types.query_dsl.*;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import com.ssafy.booknest.domain.search.record.BookEval;
+import com.ssafy.booknest.domain.search.record.FacetCount;
+import com.ssafy.booknest.domain.search.record.SearchCursor;
+import com.ssafy.booknest.domain.search.record.SearchPage;
 import com.ssafy.booknest.domain.search.record.SearchedBook;
 import com.ssafy.booknest.global.error.ErrorCode;
 import com.ssafy.booknest.global.error.exception.CustomException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
@@ -24,7 +27,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BookSearchCustomRepositoryImpl implements BookSearchCustomRepository {
 
+    // 태그 집계 이름 (응답의 facets 키)
+    private static final String TAG_FACET = "tags";
+    private static final int FACET_SIZE = 20;
+
     private final ElasticsearchClient elasticsearchClient;
+    private final PointInTimeSearcher pointInTimeSearcher;
 
     @Override
     public List<String> autocompleteTitle(String keyword) {
@@ -91,33 +99,38 @@ public class BookSearchCustomRepositoryImpl implements BookSearchCustomRepositor
     }
 
     @Override
-    public void save(SearchedBook book) {
+    public void save(List<String> indices, SearchedBook book) {
         try {
-            elasticsearchClient.index(i -> i
-                    .index("book")
-                    .id(book.getBookId().toString())
-                    .document(book)
-            );
+            for (String index : indices) {
+                elasticsearchClient.index(i -> i
+                        .index(index)
+                        .id(book.getBookId().toString())
+                        .document(book)
+                );
+            }
         } catch (IOException e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
     @Override
-    public void saveBookEval(BookEval book) {
+    public void saveBookEval(List<String> indices, BookEval book) {
         try {
-            elasticsearchClient.index(i -> i
-                    .index("book_eval")
-                    .id(book.getBookId().toString())
-                    .document(book)
-            );
+            for (String index : indices) {
+                elasticsearchClient.index(i -> i
+                        .index(index)
+                        .id(book.getBookId().toString())
+                        .document(book)
+                );
+            }
         } catch (IOException e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
     @Override
-    public Page<SearchedBook> searchByTagsAndKeyword(List<String> tags, String keyword, Pageable pageable) {
+    public SearchPage<SearchedBook> searchByTagsAndKeyword(List<String> tags, String keyword, String cursor,
+                                                           boolean includeFacets, Pageable pageable) {
         try {
             boolean hasTags = tags != null && !tags.isEmpty();
             boolean hasKeyword = keyword != null && !keyword.isBlank();
@@ -131,33 +144,17 @@ public class BookSearchCustomRepositoryImpl implements BookSearchCustomRepositor
                         .should(s -> s.matchPhrase(mp -> mp.field("authors").query(keyword).boost(5.0f)))
                 ));
 
-                SearchRequest request = SearchRequest.of(s -> s
-                        .index("book")
-                        .query(keywordQuery)
-                        .from((int) pageable.getOffset())
-                        .size(pageable.getPageSize())
-                        .sort(so -> so
-                                .score(sc -> sc.order(SortOrder.Desc)) // score 기준 내림차순 정렬 추가
-                        )
-                );
-
-                SearchResponse<SearchedBook> response = elasticsearchClient.search(request, SearchedBook.class);
-
-                List<SearchedBook> content = response.hits().hits().stream()
-                        .map(Hit::source)
-                        .toList();
-
-                long total = response.hits().total() != null ? response.hits().total().value() : content.size();
-
-                return new PageImpl<>(content, pageable, total);
+                return searchPage(keywordQuery, cursor, includeFacets, List.of(), pageable);
             }
 
             // 태그만 있는 경우 또는 태그 + 키워드 둘 다 있는 경우
+            // 태그 조건은 점수에 영향이 없으므로 filter로 두어 ES 필터 캐시를 사용
+            List<Query> filterQueries = new ArrayList<>();
             List<Query> mustQueries = new ArrayList<>();
 
             if (hasTags) {
                 for (String tag : tags) {
-                    mustQueries.add(Query.of(q ->
+                    filterQueries.add(Query.of(q ->
                             q.term(t -> t.field("tags").value(tag))
                     ));
                 }
@@ -185,30 +182,71 @@ public class BookSearchCustomRepositoryImpl implements BookSearchCustomRepositor
                 mustQueries.add(keywordFunctionScore);
             }
 
-            Query finalQuery = Query.of(q -> q.bool(b -> b.must(mustQueries)));
+            Query finalQuery = Query.of(q -> q.bool(b -> b.filter(filterQueries).must(mustQueries)));
 
-            SearchRequest request = SearchRequest.of(s -> s
-                    .index("book")
-                    .query(finalQuery)
-                    .from((int) pageable.getOffset())
-                    .size(pageable.getPageSize())
-                    .sort(so -> so
-                            .score(sc -> sc.order(SortOrder.Desc)) // score 기준 내림차순 정렬 추가
-                    )
-            );
+            return searchPage(finalQuery, cursor, includeFacets, hasTags ? tags : List.of(), pageable);
+        } catch (IOException e) {
+            throw new RuntimeException("비상비상: ", e);
+        }
+    }
 
-            SearchResponse<SearchedBook> response = elasticsearchClient.search(request, SearchedBook.class);
+    // score 내림차순, 동점이면 book_id 오름차순으로 한 페이지 조회
+    // 커서가 없으면 from/size, 있으면 PIT + search_after로 이전 페이지 마지막 문서 다음부터 조회
+    // 태그 집계는 요청한 경우 첫 페이지에서만 같은 요청에 terms 집계로 함께 계산 (이어지는 페이지는 결과 집합이 같음)
+    private SearchPage<SearchedBook> searchPage(Query query, String cursor, boolean includeFacets,
+                                                List<String> selectedTags, Pageable pageable) throws IOException {
+        SearchCursor after = SearchCursor.decode(cursor);
+        int size = pageable.getPageSize();
+        boolean withFacets = includeFacets && after == null;
+
+        SearchRequest.Builder builder = new SearchRequest.Builder()
+                .query(query)
+                .sort(so -> so.score(sc -> sc.order(SortOrder.Desc)))
+                .sort(so -> so.field(f -> f.field("book_id").order(SortOrder.Asc)));
+        if (withFacets) {
+            // 이미 선택한 태그는 결과에서 빼므로 그만큼 더 가져옴
+            builder.aggregations(TAG_FACET, a -> a.terms(t -> t
+                    .field("tags")
+                    .size(FACET_SIZE + selectedTags.size())));
+        }
 
-            List<SearchedBook> content = response.hits().hits().stream()
-                    .map(Hit::source)
-                    .toList();
+        SearchResponse<SearchedBook> response = pointInTimeSearcher.search(
+                "book", after, (int) pageable.getOffset(), size, builder, SearchedBook.class);
 
-            long total = response.hits().total() != null ? response.hits().total().value() : content.size();
+        List<Hit<SearchedBook>> hits = response.hits().hits();
+        List<SearchedBook> content = hits.stream()
+                .map(Hit::source)
+                .toList();
 
-            return new PageImpl<>(content, pageable, total);
-        } catch (IOException e) {
-            throw new RuntimeException("비상비상: ", e);
+        long total;
+        if (after != null) {
+            total = after.total();
+        } else {
+            total = response.hits().total() != null ? response.hits().total().value() : content.size();
+        }
+
+        Hit<SearchedBook> lastHit = hits.isEmpty() ? null : hits.get(hits.size() - 1);
+        String nextCursor = pointInTimeSearcher.nextCursor(response, lastHit, total, hits.size() == size);
+
+        Map<String, List<FacetCount>> facets = withFacets
+                ? Map.of(TAG_FACET, tagFacets(response, selectedTags))
+                : null;
+
+        return new SearchPage<>(new PageImpl<>(content, pageable, total), nextCursor, facets);
+    }
+
+    // 선택한 태그를 제외한 태그별 도서 수 (많은 순)
+    private static List<FacetCount> tagFacets(SearchResponse<?> response, List<String> selectedTags) {
+        Aggregate aggregate = response.aggregations().get(TAG_FACET);
+        if (aggregate == null || !aggregate.isSterms()) {
+            return List.of();
         }
+        Set<String> selected = new HashSet<>(selectedTags);
+        return aggregate.sterms().buckets().array().stream()
+                .filter(bucket -> !selected.contains(bucket.key().stringValue()))
+                .limit(FACET_SIZE)
+                .map(bucket -> new FacetCount(bucket.key().stringValue(), bucket.docCount()))
+                .toList();
     }
 
 
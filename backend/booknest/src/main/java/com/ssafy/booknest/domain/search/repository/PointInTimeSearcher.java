@@ -0,0 +1,86 @@
+package com.ssafy.booknest.domain.search.repository;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.ssafy.booknest.domain.search.record.SearchCursor;
+import com.ssafy.booknest.global.error.ErrorCode;
+import com.ssafy.booknest.global.error.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// search_after 기반 페이지 조회
+// - 커서 없음: from/size로 조회 (index.max_result_window 10,000건까지)
+// - 커서 있음: point-in-time을 열거나 연장해 같은 스냅샷에서 이전 페이지 마지막 정렬 값 다음부터 조회
+// 정렬 조건은 호출하는 쪽에서 지정하고, 마지막은 book_id 같은 고유 필드로 끝나야 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointInTimeSearcher {
+
+    public static final int MAX_RESULT_WINDOW = 10_000;
+    // 다음 페이지 요청까지 PIT 유지 시간 (무한 스크롤 간격 기준)
+    private static final String KEEP_ALIVE = "2m";
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    // builder에는 쿼리와 정렬만 지정 (인덱스, 범위, PIT는 여기서 지정)
+    public <T> SearchResponse<T> search(String index, SearchCursor after, int from, int size,
+                                        SearchRequest.Builder builder, Class<T> type) throws IOException {
+        builder.size(size);
+        if (after == null) {
+            if (from + size > MAX_RESULT_WINDOW) {
+                throw new CustomException(ErrorCode.SEARCH_PAGE_TOO_DEEP);
+            }
+            return elasticsearchClient.search(builder.index(index).from(from).build(), type);
+        }
+
+        // 첫 페이지 커서에는 PIT가 없으므로 두 번째 페이지에서 열고 이후 페이지는 이어서 사용
+        String pitId = after.pitId() != null ? after.pitId() : elasticsearchClient
+                .openPointInTime(o -> o.index(index).keepAlive(k -> k.time(KEEP_ALIVE)))
+                .id();
+        builder.pit(p -> p.id(pitId).keepAlive(k -> k.time(KEEP_ALIVE)))
+                .searchAfter(after.sortValues())
+                .trackTotalHits(t -> t.enabled(false));
+        try {
+            return elasticsearchClient.search(builder.build(), type);
+        } catch (ElasticsearchException e) {
+            // PIT가 만료되었거나 잘못된 ID
+            if (e.status() == 404) {
+                throw new CustomException(ErrorCode.INVALID_SEARCH_CURSOR);
+            }
+            throw e;
+        }
+    }
+
+    // 다음 페이지 커서 (hit 다음부터 조회), 더 볼 결과가 없으면 PIT를 닫고 null
+    public String nextCursor(SearchResponse<?> response, Hit<?> lastHit, long total, boolean hasNext) {
+        return nextCursor(response, lastHit, total, hasNext, null);
+    }
+
+    // 무작위 정렬처럼 정렬 값이 시드에 따라 달라지면 시드도 커서에 담음
+    public String nextCursor(SearchResponse<?> response, Hit<?> lastHit, long total, boolean hasNext, Long seed) {
+        if (!hasNext || lastHit == null) {
+            close(response.pitId());
+            return null;
+        }
+        return new SearchCursor(response.pitId(), lastHit.sort(), total, seed).encode();
+    }
+
+    private void close(String pitId) {
+        if (pitId == null) {
+            return;
+        }
+        try {
+            elasticsearchClient.closePointInTime(c -> c.id(pitId));
+        } catch (Exception e) {
+            // 닫지 못해도 keep_alive가 지나면 만료됨
+            log.warn("[검색] PIT 닫기 실패 - 메시지: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.ssafy.booknest.domain.search.repository;
+
+import com.ssafy.booknest.domain.search.record.UserDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// 색인용 유저 문서를 JDBC 커서로 조회 (탈퇴했거나 닉네임을 정하지 않은 유저 제외)
+@Repository
+@RequiredArgsConstructor
+public class UserDocumentStreamRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String SELECT_DOCUMENT = """
+            SELECT u.id, u.nickname, u.profile_url
+            FROM user u
+            WHERE u.deleted_at IS NULL AND u.nickname IS NOT NULL AND u.id BETWEEN ? AND ?
+            ORDER BY u.id
+            """;
+
+    private static final String SELECT_ONE = """
+            SELECT u.id, u.nickname, u.profile_url
+            FROM user u
+            WHERE u.deleted_at IS NULL AND u.nickname IS NOT NULL AND u.id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 유저 ID 구간을 ID 순으로 스트리밍하고 처리한 문서 수 반환
+    public long streamRange(int fromId, int toId, Consumer<UserDocument> handler) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            long rows = 0;
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_DOCUMENT,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setInt(1, fromId);
+                statement.setInt(2, toId);
+                statement.setFetchSize(FETCH_SIZE);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        handler.accept(new UserDocument(rs.getInt(1), rs.getString(2), rs.getString(3)));
+                        rows++;
+                    }
+                }
+            }
+            return rows;
+        });
+    }
+
+    // 유저 한 명의 색인용 문서 (색인 대상이 아니면 empty)
+    public Optional<UserDocument> findById(int userId) {
+        return jdbcTemplate.query(SELECT_ONE, (rs, rowNum) ->
+                new UserDocument(rs.getInt(1), rs.getString(2), rs.getString(3)), userId).stream().findFirst();
+    }
+
+    public int findMaxId() {
+        Integer maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM user", Integer.class);
+        return maxId == null ? 0 : maxId;
+    }
+}
@@ -0,0 +1,11 @@
+package com.ssafy.booknest.domain.search.repository;
+
+import com.ssafy.booknest.domain.search.record.SerachedUser;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface UserSearchCustomRepository {
+
+    // 닉네임에 검색어가 포함된 유저를 페이징하여 검색 (정확히 일치, 앞부분 일치 순으로 위에)
+    Page<SerachedUser> searchByNickname(String nickname, Pageable pageable);
+}
@@ -0,0 +1,111 @@
+package com.ssafy.booknest.domain.search.repository;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.ssafy.booknest.domain.search.enums.SearchIndex;
+import com.ssafy.booknest.domain.search.record.SerachedUser;
+import com.ssafy.booknest.domain.search.record.UserDocument;
+import com.ssafy.booknest.global.error.ErrorCode;
+import com.ssafy.booknest.global.error.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.util.*;
+
+// 닉네임 부분 일치 검색
+// 닉네임은 1~2글자 조각(nickname.ngram)으로 색인되어 있으므로, 와일드카드 대신 검색어를 같은 조각으로 나눠 모두 포함하는지 term 쿼리로 확인
+@Repository
+@RequiredArgsConstructor
+public class UserSearchCustomRepositoryImpl implements UserSearchCustomRepository {
+
+    // nickname.prefix 색인 최대 길이
+    private static final int MAX_PREFIX_LENGTH = 20;
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    @Override
+    public Page<SerachedUser> searchByNickname(String nickname, Pageable pageable) {
+        List<String> segments = segments(nickname);
+        if (segments.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<Query> filters = new ArrayList<>();
+        for (String gram : grams(segments)) {
+            filters.add(Query.of(q -> q.term(t -> t.field("nickname.ngram").value(gram))));
+        }
+        String first = segments.get(0);
+
+        try {
+            SearchResponse<UserDocument> response = elasticsearchClient.search(s -> s
+                            .index(SearchIndex.USERS.getAlias())
+                            .query(q -> q.bool(b -> {
+                                b.filter(filters)
+                                        .should(sh -> sh.term(t -> t.field("nickname").value(nickname.trim()).boost(10.0f)));
+                                if (first.length() <= MAX_PREFIX_LENGTH) {
+                                    b.should(sh -> sh.term(t -> t.field("nickname.prefix").value(first).boost(3.0f)));
+                                }
+                                return b;
+                            }))
+                            .from((int) pageable.getOffset())
+                            .size(pageable.getPageSize())
+                            .sort(so -> so.score(sc -> sc.order(SortOrder.Desc)))
+                            .sort(so -> so.field(f -> f.field("id").order(SortOrder.Asc))),
+                    UserDocument.class);
+
+            List<SerachedUser> content = response.hits().hits().stream()
+                    .map(Hit::source)
+                    .filter(Objects::nonNull)
+                    .map(UserDocument::toSearchedUser)
+                    .toList();
+
+            long total = response.hits().total() != null ? response.hits().total().value() : content.size();
+            return new PageImpl<>(content, pageable, total);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.ELASTICSEARCH_ERROR);
+        }
+    }
+
+    // 색인 분석기와 같이 소문자로 맞추고 글자/숫자가 아닌 문자에서 나눔
+    private static List<String> segments(String nickname) {
+        List<String> segments = new ArrayList<>();
+        if (nickname == null) {
+            return segments;
+        }
+        StringBuilder current = new StringBuilder();
+        for (char c : nickname.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                segments.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            segments.add(current.toString());
+        }
+        return segments;
+    }
+
+    // 두 글자 이하 조각은 그대로, 그보다 길면 겹치는 두 글자 조각으로 나눔
+    private static Set<String> grams(List<String> segments) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String segment : segments) {
+            if (segment.length() <= 2) {
+                grams.add(segment);
+                continue;
+            }
+            for (int i = 0; i + 2 <= segment.length(); i++) {
+                grams.add(segment.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+}
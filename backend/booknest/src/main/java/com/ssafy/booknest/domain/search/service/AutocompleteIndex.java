@@ -0,0 +1,250 @@
+package com.ssafy.booknest.domain.search.service;
+
+import com.ssafy.booknest.global.common.util.HangulJamo;
+
+import java.util.*;
+
+// 자동완성 접두어 색인 (불변, 여러 스레드에서 잠금 없이 조회)
+// - 제목/저자 이름의 각 단어 시작 위치부터의 문자열을 자모 분해 키와 초성 키로 만들어 정렬
+// - 키는 char[] 하나에 이어 붙이고 오프셋 배열로 구분 (키마다 String 객체를 두지 않음)
+// - 접두어에 해당하는 키는 정렬 배열에서 연속 구간이므로 이진 탐색으로 찾고,
+//   구간 안의 가중치 상위 k개는 최대값 세그먼트 트리로 O(k log n)에 꺼냄
+public final class AutocompleteIndex {
+
+    // 긴 제목은 앞부분만 키로 사용 (자모 기준)
+    private static final int MAX_KEY_LENGTH = 48;
+
+    private final String[] texts;
+    private final long[] weights;
+    private final KeySpace jamoKeys;
+    private final KeySpace choseongKeys;
+
+    private AutocompleteIndex(String[] texts, long[] weights, KeySpace jamoKeys, KeySpace choseongKeys) {
+        this.texts = texts;
+        this.weights = weights;
+        this.jamoKeys = jamoKeys;
+        this.choseongKeys = choseongKeys;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return texts.length;
+    }
+
+    public int keyCount() {
+        return jamoKeys.ids.length + choseongKeys.ids.length;
+    }
+
+    // 입력을 접두어로 갖는 제목/저자를 가중치 순으로 최대 limit개 (자음만 입력하면 초성으로 검색)
+    public List<String> suggest(String keyword, int limit) {
+        boolean choseongOnly = HangulJamo.isChoseongOnly(keyword);
+        String prefix = choseongOnly ? HangulJamo.choseong(keyword) : HangulJamo.decompose(keyword);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (prefix.length() > MAX_KEY_LENGTH) {
+            prefix = prefix.substring(0, MAX_KEY_LENGTH);
+        }
+        return (choseongOnly ? choseongKeys : jamoKeys).top(prefix, limit);
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Long> weightByText = new HashMap<>();
+
+        private Builder() {
+        }
+
+        // 같은 문자열이 여러 번 들어오면 가중치를 합산 (여러 도서를 쓴 저자 등)
+        public Builder add(String text, long weight) {
+            if (text != null && !text.isBlank()) {
+                weightByText.merge(text.trim(), Math.max(weight, 0), Long::sum);
+            }
+            return this;
+        }
+
+        public AutocompleteIndex build() {
+            String[] texts = weightByText.keySet().toArray(new String[0]);
+            long[] weights = new long[texts.length];
+            for (int i = 0; i < texts.length; i++) {
+                weights[i] = weightByText.get(texts[i]);
+            }
+
+            List<KeyEntry> jamo = new ArrayList<>(texts.length * 3);
+            List<KeyEntry> choseong = new ArrayList<>(texts.length * 3);
+            for (int id = 0; id < texts.length; id++) {
+                String text = texts[id];
+                for (int start : wordStarts(text)) {
+                    String suffix = text.substring(start);
+                    addKey(jamo, HangulJamo.decompose(suffix), id);
+                    addKey(choseong, HangulJamo.choseong(suffix), id);
+                }
+            }
+            return new AutocompleteIndex(texts, weights, new KeySpace(jamo, texts, weights), new KeySpace(choseong, texts, weights));
+        }
+
+        private static void addKey(List<KeyEntry> entries, String key, int id) {
+            if (!key.isEmpty()) {
+                entries.add(new KeyEntry(key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key, id));
+            }
+        }
+
+        // 문자열 시작과 공백/기호 뒤 단어 시작 위치 ("해리 포터"는 "포터"로도 찾음)
+        private static List<Integer> wordStarts(String text) {
+            List<Integer> starts = new ArrayList<>();
+            boolean inWord = false;
+            for (int i = 0; i < text.length(); i++) {
+                boolean letter = Character.isLetterOrDigit(text.charAt(i));
+                if (letter && !inWord) {
+                    starts.add(i);
+                }
+                inWord = letter;
+            }
+            return starts;
+        }
+    }
+
+    private record KeyEntry(String key, int id) {
+    }
+
+    // 정렬된 키 집합 하나 (자모 또는 초성)
+    private static final class KeySpace {
+
+        private final char[] chars;
+        private final int[] offsets;
+        private final int[] ids;
+        private final long[] keyWeights;
+        private final String[] texts;
+        // tree[size + i] = i, 내부 노드는 자식 중 가중치가 큰 키의 위치
+        private final int[] tree;
+        private final int size;
+
+        private KeySpace(List<KeyEntry> entries, String[] texts, long[] weights) {
+            entries.sort(Comparator.comparing(KeyEntry::key));
+            int n = entries.size();
+            int totalLength = 0;
+            for (KeyEntry entry : entries) {
+                totalLength += entry.key().length();
+            }
+
+            this.texts = texts;
+            this.chars = new char[totalLength];
+            this.offsets = new int[n + 1];
+            this.ids = new int[n];
+            this.keyWeights = new long[n];
+            int position = 0;
+            for (int i = 0; i < n; i++) {
+                KeyEntry entry = entries.get(i);
+                entry.key().getChars(0, entry.key().length(), chars, position);
+                offsets[i] = position;
+                position += entry.key().length();
+                ids[i] = entry.id();
+                keyWeights[i] = weights[entry.id()];
+            }
+            offsets[n] = position;
+
+            this.size = Math.max(1, n);
+            this.tree = new int[size * 2];
+            for (int i = 0; i < size; i++) {
+                tree[size + i] = i;
+            }
+            for (int i = size - 1; i > 0; i--) {
+                tree[i] = better(tree[i * 2], tree[i * 2 + 1]);
+            }
+        }
+
+        private List<String> top(String prefix, int limit) {
+            int from = lowerBound(prefix, false);
+            int to = lowerBound(prefix, true);
+            if (from >= to) {
+                return List.of();
+            }
+
+            // 구간 최대값을 꺼내고 그 양쪽 구간을 다시 넣는 방식으로 가중치 순 순회 (같은 제목의 다른 키는 건너뜀)
+            PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> compareKeys(b[2], a[2]));
+            queue.add(new int[]{from, to - 1, argMax(from, to - 1)});
+            Set<Integer> seen = new HashSet<>();
+            List<String> result = new ArrayList<>(limit);
+            while (!queue.isEmpty() && result.size() < limit) {
+                int[] range = queue.poll();
+                int best = range[2];
+                if (seen.add(ids[best])) {
+                    result.add(texts[ids[best]]);
+                }
+                if (range[0] < best) {
+                    queue.add(new int[]{range[0], best - 1, argMax(range[0], best - 1)});
+                }
+                if (best < range[1]) {
+                    queue.add(new int[]{best + 1, range[1], argMax(best + 1, range[1])});
+                }
+            }
+            return result;
+        }
+
+        // upper가 false면 prefix 이상인 첫 키, true면 prefix로 시작하는 키들 다음 위치
+        private int lowerBound(String prefix, boolean upper) {
+            int lo = 0;
+            int hi = ids.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                int cmp = compareToPrefix(mid, prefix);
+                if (cmp < 0 || (upper && cmp == 0)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // prefix로 시작하면 0
+        private int compareToPrefix(int index, String prefix) {
+            int start = offsets[index];
+            int length = offsets[index + 1] - start;
+            int common = Math.min(length, prefix.length());
+            for (int i = 0; i < common; i++) {
+                int diff = chars[start + i] - prefix.charAt(i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return length >= prefix.length() ? 0 : -1;
+        }
+
+        // [from, to] 구간에서 가중치가 가장 큰 키의 위치
+        private int argMax(int from, int to) {
+            int best = from;
+            for (int l = from + size, r = to + size + 1; l < r; l >>= 1, r >>= 1) {
+                if ((l & 1) == 1) {
+                    best = better(best, tree[l++]);
+                }
+                if ((r & 1) == 1) {
+                    best = better(best, tree[--r]);
+                }
+            }
+            return best;
+        }
+
+        private int better(int a, int b) {
+            return compareKeys(a, b) >= 0 ? a : b;
+        }
+
+        // 가중치가 같으면 더 짧은 제목/이름 우선
+        private int compareKeys(int a, int b) {
+            if (a >= ids.length) {
+                return b >= ids.length ? 0 : -1;
+            }
+            if (b >= ids.length) {
+                return 1;
+            }
+            int byWeight = Long.compare(keyWeights[a], keyWeights[b]);
+            if (byWeight != 0) {
+                return byWeight;
+            }
+            return Integer.compare(texts[ids[b]].length(), texts[ids[a]].length());
+        }
+    }
+}
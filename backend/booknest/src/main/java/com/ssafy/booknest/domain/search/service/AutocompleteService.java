@@ -0,0 +1,62 @@
+package com.ssafy.booknest.domain.search.service;
+
+import com.ssafy.booknest.domain.search.repository.BookDocumentStreamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 메모리 자동완성
+// 도서 제목과 저자 이름을 평점 개수 가중치로 AutocompleteIndex에 올려 두고 입력마다 ES 요청 없이 응답
+// 서버 시작 직후와 book 인덱스 재생성 후, 그리고 주기적으로 DB에서 다시 만듦
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+    private final BookDocumentStreamRepository bookDocumentStreamRepository;
+
+    private volatile AutocompleteIndex index;
+
+    // 적재 전이면 null (호출하는 쪽에서 ES로 대체)
+    public List<String> suggest(String keyword, int limit) {
+        AutocompleteIndex current = index;
+        if (current == null) {
+            return null;
+        }
+        return current.suggest(keyword, limit);
+    }
+
+    // 서버 시작을 늦추지 않도록 백그라운드에서 적재 (그동안은 ES 사용)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelay = 1000 * 60 * 30, initialDelay = 1000 * 60 * 30) // 30분마다 실행
+    public void refresh() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            AutocompleteIndex.Builder builder = AutocompleteIndex.builder();
+            bookDocumentStreamRepository.streamRange(0, Integer.MAX_VALUE, document -> {
+                long weight = document.totalRatings() == null ? 0 : document.totalRatings();
+                builder.add(document.title(), weight);
+                document.authors().forEach(author -> builder.add(author, weight));
+            });
+
+            AutocompleteIndex loaded = builder.build();
+            index = loaded;
+            log.info("[자동완성 갱신] 제목/저자 {}개, 키 {}개 ({}ms)", loaded.size(), loaded.keyCount(),
+                    System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 갱신에 실패해도 이전 색인으로 계속 응답
+            log.error("[자동완성 갱신] 실패 - 메시지: {}", e.getMessage(), e);
+        }
+    }
+}
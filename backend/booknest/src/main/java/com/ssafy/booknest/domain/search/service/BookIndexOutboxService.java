@@ -0,0 +1,72 @@
+package com.ssafy.booknest.domain.search.service;
+
+import com.ssafy.booknest.domain.search.entity.BookIndexOutbox;
+import com.ssafy.booknest.domain.search.repository.BookIndexOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+// 검색 인덱스 변경 이벤트(book_index_outbox) 관리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookIndexOutboxService {
+
+    private static final long MAX_BACKOFF_SECONDS = 60 * 60;
+
+    private final BookIndexOutboxRepository bookIndexOutboxRepository;
+
+    @Value("${search.indexing.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${search.indexing.backoff-seconds:5}")
+    private long backoffSeconds;
+
+    // 평점 개수 변경과 같은 트랜잭션에서 재색인 대상으로 등록 (롤백되면 이벤트도 남지 않음)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Integer bookId) {
+        bookIndexOutboxRepository.save(BookIndexOutbox.of(bookId));
+    }
+
+    // 여러 도서의 평점 개수 변경을 한 번에 등록 (집계 복구용)
+    @Transactional
+    public void enqueueAll(Collection<Integer> bookIds) {
+        bookIndexOutboxRepository.saveAll(bookIds.stream().map(bookId -> BookIndexOutbox.of(bookId)).toList());
+    }
+
+    // 지금 색인할 이벤트 조회
+    @Transactional(readOnly = true)
+    public List<BookIndexOutbox> findReady(int limit) {
+        return bookIndexOutboxRepository.findReady(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    // 색인 결과 반영: 성공한 이벤트는 삭제하고, 실패한 도서의 이벤트는 지수 백오프로 재시도 예약
+    @Transactional
+    public void complete(List<BookIndexOutbox> events, Set<Integer> failedBookIds) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Integer> ids = events.stream().map(BookIndexOutbox::getId).toList();
+        for (BookIndexOutbox managed : bookIndexOutboxRepository.findAllById(ids)) {
+            if (!failedBookIds.contains(managed.getBookId())) {
+                bookIndexOutboxRepository.delete(managed);
+                continue;
+            }
+            if (managed.getAttempts() + 1 >= maxAttempts) {
+                log.error("[검색 색인] bookId {} {}회 실패로 재시도 중단", managed.getBookId(), maxAttempts);
+                bookIndexOutboxRepository.delete(managed);
+                continue;
+            }
+            long delay = Math.min(backoffSeconds << managed.getAttempts(), MAX_BACKOFF_SECONDS);
+            managed.retryAt(now.plusSeconds(delay));
+        }
+    }
+}
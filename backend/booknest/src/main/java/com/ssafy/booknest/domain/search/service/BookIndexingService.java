@@ -0,0 +1,82 @@
+package com.ssafy.booknest.domain.search.service;
+
+import com.ssafy.booknest.domain.search.entity.BookIndexOutbox;
+import com.ssafy.booknest.domain.search.enums.SearchIndex;
+import com.ssafy.booknest.domain.search.record.BookDocument;
+import com.ssafy.booknest.domain.search.repository.BookDocumentStreamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 변경된 도서의 검색 인덱스(book, book_eval) 색인
+// book_index_outbox 이벤트를 모아 DB에서 문서를 한 번에 읽고 BulkIngester로 묶어서 전송
+// 실패한 도서는 outbox에서 지수 백오프로 재시도하고, 인덱스 재생성 중이면 새 인덱스에도 함께 씀
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookIndexingService {
+
+    private final BookDocumentStreamRepository bookDocumentStreamRepository;
+    private final BookIndexOutboxService bookIndexOutboxService;
+    private final BulkIndexSessionFactory bulkIndexSessionFactory;
+    private final SearchIndexRebuildService searchIndexRebuildService;
+    private final SearchResultCache searchResultCache;
+
+    // 변경 색인 한 번에 꺼내는 이벤트 수
+    @Value("${search.indexing.poll-size:5000}")
+    private int pollSize;
+
+    @Scheduled(fixedDelayString = "${search.indexing.poll-interval-ms:5000}")
+    @SchedulerLock(name = "book-index-outbox", lockAtMostFor = "PT10M")
+    public void indexChanges() throws IOException {
+        List<BookIndexOutbox> events = bookIndexOutboxService.findReady(pollSize);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> bookIds = events.stream()
+                .map(BookIndexOutbox::getBookId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Integer, BookDocument> documents = bookDocumentStreamRepository.findByIds(bookIds);
+        List<String> bookIndices = searchIndexRebuildService.writeTargets(SearchIndex.BOOK);
+        List<String> evalIndices = searchIndexRebuildService.writeTargets(SearchIndex.BOOK_EVAL);
+
+        long deleted = bookIds.stream().filter(bookId -> !documents.containsKey(bookId)).count();
+        searchIndexRebuildService.recordConcurrentWrites(SearchIndex.BOOK, bookIndices, bookIds.size() - deleted, deleted);
+        searchIndexRebuildService.recordConcurrentWrites(SearchIndex.BOOK_EVAL, evalIndices, bookIds.size() - deleted, deleted);
+
+        BulkIndexSession session = bulkIndexSessionFactory.open();
+        try (session) {
+            for (Integer bookId : bookIds) {
+                BookDocument document = documents.get(bookId);
+                if (document != null) {
+                    bookIndices.forEach(index -> session.index(index, bookId, document.toSearchedBook()));
+                    evalIndices.forEach(index -> session.index(index, bookId, document.toBookEval()));
+                } else {
+                    // DB에서 삭제된 도서는 인덱스에서도 제거
+                    bookIndices.forEach(index -> session.delete(index, bookId));
+                    evalIndices.forEach(index -> session.delete(index, bookId));
+                }
+            }
+        }
+
+        bookIndexOutboxService.complete(events, session.getFailedIds());
+        // outbox 이벤트는 평점 개수 변경뿐이므로 검색 결과 캐시는 삭제된 도서가 반영되었을 때만 버림
+        // 평점 개수만 바뀐 도서는 캐시된 순서/개수가 캐시 만료 전까지 조금 어긋나는 것을 허용 (평점마다 전체 캐시가 비지 않도록)
+        // 도서 정보 변경은 saveBook과 인덱스 재생성에서 직접 무효화
+        boolean deletedApplied = bookIds.stream()
+                .filter(bookId -> !session.getFailedIds().contains(bookId))
+                .anyMatch(bookId -> !documents.containsKey(bookId));
+        if (deletedApplied) {
+            searchResultCache.bumpGeneration();
+        }
+        log.info("[검색 색인] 변경 도서 {}권 색인 (실패 {}권)", bookIds.size(), session.getFailedIds().size());
+    }
+}
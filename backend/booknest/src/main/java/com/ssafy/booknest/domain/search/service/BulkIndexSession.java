@@ -0,0 +1,98 @@
+package com.ssafy.booknest.domain.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// BulkIngester 한 번의 사용 단위 (여러 스레드에서 동시에 add 가능)
+// 문서 ID를 컨텍스트로 넘겨 문서 단위 오류와 요청 전체 실패를 ID로 모으고, close 시 남은 작업을 전송하고 응답까지 기다림
+@Slf4j
+public class BulkIndexSession implements AutoCloseable {
+
+    private static final int CONFLICT = 409;
+
+    private final BulkIngester<Integer> ingester;
+    private final Set<Integer> failedIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong failedOperations = new AtomicLong();
+
+    BulkIndexSession(ElasticsearchClient elasticsearchClient, int batchSize, long flushIntervalMs, int maxConcurrentRequests) {
+        this.ingester = BulkIngester.of(b -> b
+                .client(elasticsearchClient)
+                .maxOperations(batchSize)
+                .flushInterval(flushIntervalMs, TimeUnit.MILLISECONDS)
+                .maxConcurrentRequests(maxConcurrentRequests)
+                .listener(new FailureCollector()));
+    }
+
+    public void index(String index, Integer id, Object document) {
+        ingester.add(BulkOperation.of(op -> op.index(i -> i
+                .index(index).id(id.toString()).document(document))), id);
+    }
+
+    // 문서가 없을 때만 색인 (이미 있으면 409로 건너뜀)
+    public void create(String index, Integer id, Object document) {
+        ingester.add(BulkOperation.of(op -> op.create(c -> c
+                .index(index).id(id.toString()).document(document))), id);
+    }
+
+    public void delete(String index, Integer id) {
+        ingester.add(BulkOperation.of(op -> op.delete(d -> d.index(index).id(id.toString()))), id);
+    }
+
+    // close 이후에 확인해야 모든 응답이 반영됨
+    public Set<Integer> getFailedIds() {
+        return failedIds;
+    }
+
+    public long getFailedOperations() {
+        return failedOperations.get();
+    }
+
+    @Override
+    public void close() {
+        ingester.close();
+    }
+
+    // 없는 문서 삭제(not_found)와 이미 있는 문서 생성(409 version_conflict)은 오류가 아님
+    private class FailureCollector implements BulkListener<Integer> {
+
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request, List<Integer> contexts) {
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<Integer> contexts, BulkResponse response) {
+            if (!response.errors()) {
+                return;
+            }
+            List<BulkResponseItem> items = response.items();
+            for (int i = 0; i < items.size() && i < contexts.size(); i++) {
+                if (items.get(i).error() != null && items.get(i).status() != CONFLICT) {
+                    failedIds.add(contexts.get(i));
+                    if (failedOperations.getAndIncrement() == 0) {
+                        log.warn("[검색 색인] 문서 색인 실패 - id: {}, 인덱스: {}, 사유: {}",
+                                contexts.get(i), items.get(i).index(), items.get(i).error().reason());
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<Integer> contexts, Throwable failure) {
+            failedIds.addAll(contexts);
+            failedOperations.addAndGet(contexts.size());
+            log.error("[검색 색인] 벌크 요청 실패 - 작업 {}건, 메시지: {}", contexts.size(), failure.getMessage());
+        }
+    }
+}
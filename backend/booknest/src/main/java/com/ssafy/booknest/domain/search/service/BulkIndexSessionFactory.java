@@ -0,0 +1,29 @@
+package com.ssafy.booknest.domain.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 벌크 색인 설정(search.indexing.*)을 적용한 BulkIndexSession 생성
+@Component
+@RequiredArgsConstructor
+public class BulkIndexSessionFactory {
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    // 벌크 요청 하나에 담는 작업 수
+    @Value("${search.indexing.batch-size:1000}")
+    private int batchSize;
+
+    // 작업 수가 덜 찼어도 이 시간이 지나면 전송
+    @Value("${search.indexing.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${search.indexing.max-concurrent-requests:2}")
+    private int maxConcurrentRequests;
+
+    public BulkIndexSession open() {
+        return new BulkIndexSession(elasticsearchClient, batchSize, flushIntervalMs, maxConcurrentRequests);
+    }
+}
@@ -0,0 +1,182 @@
+package com.ssafy.booknest.domain.search.service;
+
+import java.util.*;
+
+// 검색어 빈도 근사 집계 (Count-Min Sketch + Space-Saving)
+// - Count-Min Sketch: DEPTH x WIDTH 카운터 배열, 검색어마다 행별로 한 칸씩 증가하고 추정치는 그 칸들의 최솟값
+//   추정치 >= 실제 값이며, 확률 1 - e^-DEPTH 이상으로 추정치 <= 실제 값 + (e / WIDTH) * 전체 검색 수
+//   칸 위치는 검색어만으로 정해지므로 서버마다 만든 스케치를 칸별로 더하면 (Redis HINCRBY) 합친 스케치가 됨
+// - Space-Saving: 최대 CAPACITY개 후보만 두고, 가득 차면 가장 작은 후보를 새 검색어로 교체 (이전 값은 오차로 기록)
+//   전체의 1/CAPACITY보다 자주 나온 검색어는 반드시 후보에 남음
+//   후보는 같은 값끼리 묶은 버킷의 오름차순 연결 리스트(stream-summary)로 두어 증가와 최솟값 교체가 O(1)
+// 메모리는 검색어 종류와 무관하게 고정이며, 동시 호출은 호출하는 쪽에서 막음
+public final class KeywordSketch {
+
+    public static final int DEPTH = 4;
+    public static final int WIDTH = 4096;
+    public static final int CAPACITY = 512;
+    // 추정 오차 비율 (전체 검색 수 대비)
+    public static final double EPSILON = Math.E / WIDTH;
+
+    private final long[] cells = new long[DEPTH * WIDTH];
+    private final Map<String, Candidate> candidates = new HashMap<>(CAPACITY * 2);
+    // 값이 가장 작은 버킷 (버킷은 값 오름차순으로 연결)
+    private Bucket minBucket;
+    private long total;
+
+    public void add(String keyword) {
+        for (int cell : cellIndices(keyword)) {
+            cells[cell]++;
+        }
+        total++;
+
+        Candidate candidate = candidates.get(keyword);
+        if (candidate != null) {
+            increment(candidate);
+            return;
+        }
+        if (candidates.size() < CAPACITY) {
+            // 값 1인 버킷이 있다면 항상 맨 앞
+            if (minBucket == null || minBucket.count != 1) {
+                Bucket bucket = new Bucket(1);
+                bucket.next = minBucket;
+                if (minBucket != null) {
+                    minBucket.prev = bucket;
+                }
+                minBucket = bucket;
+            }
+            candidate = new Candidate(keyword, 0, minBucket);
+            minBucket.members.add(candidate);
+            candidates.put(keyword, candidate);
+            return;
+        }
+
+        // 가장 작은 후보를 교체 (새 검색어는 그 값을 이어받아 실제보다 크게 잡힐 수 있으므로 오차로 남김)
+        Bucket bucket = minBucket;
+        Candidate min = bucket.members.iterator().next();
+        bucket.members.remove(min);
+        candidates.remove(min.keyword);
+
+        candidate = new Candidate(keyword, bucket.count, bucket);
+        bucket.members.add(candidate);
+        candidates.put(keyword, candidate);
+        increment(candidate);
+    }
+
+    // 후보를 다음 값 버킷으로 옮김 (없으면 바로 뒤에 만들고, 비게 된 버킷은 제거)
+    private void increment(Candidate candidate) {
+        Bucket bucket = candidate.bucket;
+        Bucket next = bucket.next;
+        if (next == null || next.count != bucket.count + 1) {
+            next = new Bucket(bucket.count + 1);
+            next.prev = bucket;
+            next.next = bucket.next;
+            if (bucket.next != null) {
+                bucket.next.prev = next;
+            }
+            bucket.next = next;
+        }
+
+        bucket.members.remove(candidate);
+        next.members.add(candidate);
+        candidate.bucket = next;
+
+        if (bucket.members.isEmpty()) {
+            if (bucket.prev != null) {
+                bucket.prev.next = bucket.next;
+            } else {
+                minBucket = bucket.next;
+            }
+            bucket.next.prev = bucket.prev;
+        }
+    }
+
+    public long estimate(String keyword) {
+        long estimate = Long.MAX_VALUE;
+        for (int cell : cellIndices(keyword)) {
+            estimate = Math.min(estimate, cells[cell]);
+        }
+        return estimate;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    // 값이 있는 칸의 [위치, 값] (Redis에 칸별로 더할 때 사용)
+    public Map<Integer, Long> nonZeroCells() {
+        Map<Integer, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] != 0) {
+                result.put(i, cells[i]);
+            }
+        }
+        return result;
+    }
+
+    // 후보 검색어 (빈도 내림차순)
+    public List<Candidate> candidates() {
+        return candidates.values().stream()
+                .sorted(Comparator.comparingLong(Candidate::count).reversed())
+                .toList();
+    }
+
+    // 검색어가 행마다 증가시키는 칸 위치 (모든 서버에서 같아야 하므로 JVM과 무관한 FNV-1a 해시 사용)
+    public static int[] cellIndices(String keyword) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < keyword.length(); i++) {
+            hash ^= keyword.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        int[] indices = new int[DEPTH];
+        for (int row = 0; row < DEPTH; row++) {
+            int column = Math.floorMod(h1 + row * h2, WIDTH);
+            indices[row] = row * WIDTH + column;
+        }
+        return indices;
+    }
+
+    // 값이 같은 후보 묶음 (삽입 순서를 유지해 같은 값이면 오래된 후보부터 교체)
+    private static final class Bucket {
+        private final long count;
+        private final Set<Candidate> members = new LinkedHashSet<>();
+        private Bucket prev;
+        private Bucket next;
+
+        private Bucket(long count) {
+            this.count = count;
+        }
+    }
+
+    public static final class Candidate {
+        private final String keyword;
+        private final long error;
+        private Bucket bucket;
+
+        private Candidate(String keyword, long error, Bucket bucket) {
+            this.keyword = keyword;
+            this.error = error;
+            this.bucket = bucket;
+        }
+
+        public String keyword() {
+            return keyword;
+        }
+
+        // 실제 값 <= count, 실제 값 >= count - error
+        public long count() {
+            return bucket.count;
+        }
+
+        public long error() {
+            return error;
+        }
+    }
+}
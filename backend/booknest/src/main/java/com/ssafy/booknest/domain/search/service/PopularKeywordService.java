@@ -1,14 +1,38 @@
 package com.ssafy.booknest.domain.search.service;
 
+import com.ssafy.booknest.domain.search.dto.response.KeywordCountResponse;
+import com.ssafy.booknest.domain.search.enums.KeywordWindow;
+import com.ssafy.booknest.global.common.util.KeywordNormalizer;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
+// 인기 검색어 집계
+// - 검색마다 Redis를 호출하지 않도록 서버마다 메모리의 KeywordSketch(Count-Min Sketch + Space-Saving)에 모았다가
+//   주기적으로 파이프라인 한 번에 반영 (메모리는 검색어 종류와 무관하게 고정)
+// - 스케치 칸은 시간/일 단위 Redis 해시에 더해 서버 간에 합치고, 후보 검색어만 합친 스케치의 추정치로 ZSET에 기록
+//   ZSET은 상위 MAX_MATERIALIZED개만 남기므로 크롤러나 오타가 많아도 크기가 늘지 않음
+// - 시간 버킷(popular_keywords:hour:yyyyMMddHH)을 ZUNIONSTORE로 합쳐 최근 1시간/24시간/7일 이동 구간을 만들고,
+//   가장 오래된 버킷은 구간에 걸친 비율만큼만 가중치를 줌
+// - 급상승 검색어는 최근 1시간 구간을 7일 구간의 시간당 평균과 비교
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PopularKeywordService {
@@ -17,20 +41,162 @@ public class PopularKeywordService {
 
     // 날짜 포맷: yyyyMMdd 형식으로 사용 (ex: 20250410)
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
 
-    // 오늘 날짜 기준 키워드 카운트를 1 증가시키고 TTL 2일 설정
+    private static final int MAX_KEYWORD_LENGTH = 50;
+    // 일/시간 ZSET에 남길 상위 검색어 수
+    private static final int MAX_MATERIALIZED = 1_000;
+    private static final Duration HOUR_BUCKET_TTL = Duration.ofDays(8);
+    private static final Duration HOUR_SKETCH_TTL = Duration.ofHours(2);
+    private static final Duration DAY_TTL = Duration.ofDays(2);
+    private static final Duration WINDOW_TTL = Duration.ofDays(1);
+    // 구간별로 남길 상위 검색어 수
+    private static final int MAX_WINDOW_SIZE = 1_000;
+
+    private static final int RISING_CANDIDATES = 200;
+    // 최근 1시간 검색 수가 이보다 적으면 급상승 후보에서 제외
+    private static final int MIN_RISING_COUNT = 5;
+    // 평소 검색이 거의 없던 검색어의 비율이 과하게 커지지 않도록 양쪽에 더하는 값
+    private static final double RISING_SMOOTHING = 5.0;
+
+    // 반영 주기마다 새 스케치로 교체 (증가와 교체가 겹쳐 카운트를 잃지 않도록 같은 락 사용)
+    private final Object sketchLock = new Object();
+    private KeywordSketch sketch = new KeywordSketch();
+
+    // 정규화한 검색어의 카운트를 1 증가 (Redis에는 flush 주기마다 반영)
     public void increaseKeywordCount(String keyword) {
-        String key = getTodayKey();
-        redisTemplate.opsForZSet().incrementScore(key, keyword, 1);
-        // key는 TTL 2일 정도로 설정 (자동 삭제)
-        redisTemplate.expire(key, Duration.ofDays(2));
+        String normalized = KeywordNormalizer.normalize(keyword);
+        if (normalized.isEmpty() || normalized.length() > MAX_KEYWORD_LENGTH) {
+            return;
+        }
+        synchronized (sketchLock) {
+            sketch.add(normalized);
+        }
+    }
+
+    // 모아 둔 스케치를 Redis의 시간/일 스케치에 더하고, 후보 검색어를 합친 추정치로 ZSET에 기록
+    @Scheduled(fixedDelayString = "${search.keyword.flush-interval-ms:5000}")
+    public void flush() {
+        KeywordSketch drained;
+        synchronized (sketchLock) {
+            if (sketch.isEmpty()) {
+                return;
+            }
+            drained = sketch;
+            sketch = new KeywordSketch();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String todayKey = getTodayKey();
+        String hourKey = getHourKey(now);
+        String daySketchKey = getDaySketchKey();
+        String hourSketchKey = getHourSketchKey(now);
+
+        try {
+            // 1. 칸별로 더하고 더한 뒤의 값을 받음 (시간, 일 순서)
+            List<Map.Entry<Integer, Long>> cells = new ArrayList<>(drained.nonZeroCells().entrySet());
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (Map.Entry<Integer, Long> cell : cells) {
+                        String field = String.valueOf(cell.getKey());
+                        operations.opsForHash().increment(hourSketchKey, field, cell.getValue());
+                        operations.opsForHash().increment(daySketchKey, field, cell.getValue());
+                    }
+                    operations.opsForValue().increment(getTotalKey(), drained.total());
+                    operations.expire(hourSketchKey, HOUR_SKETCH_TTL);
+                    operations.expire(daySketchKey, DAY_TTL);
+                    operations.expire(getTotalKey(), DAY_TTL);
+                    return null;
+                }
+            });
+
+            Map<Integer, Long> hourCells = new HashMap<>(cells.size() * 2);
+            Map<Integer, Long> dayCells = new HashMap<>(cells.size() * 2);
+            for (int i = 0; i < cells.size(); i++) {
+                hourCells.put(cells.get(i).getKey(), (Long) results.get(i * 2));
+                dayCells.put(cells.get(i).getKey(), (Long) results.get(i * 2 + 1));
+            }
+
+            // 2. 후보 검색어만 서버 간에 합친 추정치로 기록하고 하위 검색어는 버림
+            List<KeywordSketch.Candidate> candidates = drained.candidates();
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (KeywordSketch.Candidate candidate : candidates) {
+                        int[] indices = KeywordSketch.cellIndices(candidate.keyword());
+                        operations.opsForZSet().add(hourKey, candidate.keyword(), estimate(hourCells, indices));
+                        operations.opsForZSet().add(todayKey, candidate.keyword(), estimate(dayCells, indices));
+                    }
+                    operations.opsForZSet().removeRange(hourKey, 0, -(MAX_MATERIALIZED + 1));
+                    operations.opsForZSet().removeRange(todayKey, 0, -(MAX_MATERIALIZED + 1));
+                    operations.expire(todayKey, DAY_TTL);
+                    operations.expire(hourKey, HOUR_BUCKET_TTL);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 일시적인 Redis 장애로 잃는 카운트는 집계 정확도에 큰 영향이 없으므로 다시 쌓지 않음
+            log.error("[인기 검색어] 카운트 반영 실패 - 검색 {}건, 메시지: {}", drained.total(), e.getMessage());
+        }
+    }
+
+    // 종료 전에 남은 카운트 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 시간 버킷을 합쳐 이동 구간과 급상승 검색어 갱신
+    @Scheduled(fixedDelay = 1000 * 60) // 1분마다 실행
+    @SchedulerLock(name = "popular-keyword-windows", lockAtMostFor = "PT5M")
+    public void refreshWindows() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            for (KeywordWindow window : KeywordWindow.values()) {
+                mergeWindow(window, now);
+            }
+            refreshRising();
+        } catch (Exception e) {
+            log.error("[인기 검색어] 구간 갱신 실패 - 메시지: {}", e.getMessage());
+        }
     }
 
     // 오늘 날짜 기준 상위 5개 키워드 반환
     public List<String> getTodayPopularKeywords() {
-        String key = getTodayKey();
-        Set<String> keywords = redisTemplate.opsForZSet().reverseRange(key, 0, 4);
-        return new ArrayList<>(keywords);
+        return getTodayTopKeywords(5);
+    }
+
+    // 오늘 날짜 기준 상위 count개 키워드 반환
+    public List<String> getTodayTopKeywords(int count) {
+        return getTop(getTodayKey(), count);
+    }
+
+    // 최근 구간 기준 상위 count개 키워드 반환
+    public List<String> getPopularKeywords(KeywordWindow window, int count) {
+        return getTop(getWindowKey(window), count);
+    }
+
+    // 오늘 날짜 기준 상위 count개 키워드와 검색 수 (추정치의 최대 오차 포함)
+    public List<KeywordCountResponse> getTodayKeywordCounts(int count) {
+        Set<ZSetOperations.TypedTuple<String>> keywords = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(getTodayKey(), 0, count - 1);
+        if (keywords == null) {
+            return new ArrayList<>();
+        }
+        String total = redisTemplate.opsForValue().get(getTotalKey());
+        long errorBound = (long) Math.ceil(KeywordSketch.EPSILON * (total == null ? 0 : Long.parseLong(total)));
+        return keywords.stream()
+                .map(tuple -> KeywordCountResponse.of(tuple.getValue(),
+                        tuple.getScore() == null ? 0 : tuple.getScore().longValue(), errorBound))
+                .toList();
+    }
+
+    // 급상승 상위 count개 키워드 반환
+    public List<String> getRisingKeywords(int count) {
+        return getTop(getRisingKey(), count);
     }
 
     // 오늘의 상위 키워드 5개를 별도 키로 스냅샷 저장
@@ -49,15 +215,117 @@ public class PopularKeywordService {
         redisTemplate.expire(snapshotKey, Duration.ofDays(30));
     }
 
+    // 최근 hours개 시간 버킷 + 구간 시작에 걸친 가장 오래된 버킷 일부
+    // 예) 24시간 구간, 현재 14:20 -> 오늘 14시~어제 15시 버킷은 가중치 1, 어제 14시 버킷은 40/60
+    private void mergeWindow(KeywordWindow window, LocalDateTime now) {
+        List<String> keys = new ArrayList<>(window.getHours() + 1);
+        double[] weights = new double[window.getHours() + 1];
+        for (int i = 0; i <= window.getHours(); i++) {
+            keys.add(getHourKey(now.minusHours(i)));
+            weights[i] = 1.0;
+        }
+        weights[window.getHours()] = 1.0 - now.getMinute() / 60.0;
+
+        String windowKey = getWindowKey(window);
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        zSet.unionAndStore(keys.get(0), keys.subList(1, keys.size()), windowKey, Aggregate.SUM, Weights.of(weights));
+        // 하위 검색어는 버려 조회 비용과 메모리를 제한
+        zSet.removeRange(windowKey, 0, -(MAX_WINDOW_SIZE + 1));
+        redisTemplate.expire(windowKey, WINDOW_TTL);
+    }
+
+    // 급상승 점수 = (최근 1시간 + s) / (7일 시간당 평균 + s)
+    private void refreshRising() {
+        Set<ZSetOperations.TypedTuple<String>> recent = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(getWindowKey(KeywordWindow.HOUR), 0, RISING_CANDIDATES - 1);
+        if (recent == null || recent.isEmpty()) {
+            redisTemplate.delete(getRisingKey());
+            return;
+        }
+
+        List<ZSetOperations.TypedTuple<String>> candidates = recent.stream()
+                .filter(tuple -> tuple.getScore() != null && tuple.getScore() >= MIN_RISING_COUNT)
+                .toList();
+        if (candidates.isEmpty()) {
+            redisTemplate.delete(getRisingKey());
+            return;
+        }
+
+        Object[] keywords = candidates.stream().map(ZSetOperations.TypedTuple::getValue).toArray();
+        List<Double> baselines = redisTemplate.opsForZSet().score(getWindowKey(KeywordWindow.WEEK), keywords);
+
+        Set<ZSetOperations.TypedTuple<String>> rising = new HashSet<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Double baseline = baselines == null ? null : baselines.get(i);
+            double hourlyBaseline = (baseline == null ? 0.0 : baseline) / KeywordWindow.WEEK.getHours();
+            double score = (candidates.get(i).getScore() + RISING_SMOOTHING) / (hourlyBaseline + RISING_SMOOTHING);
+            if (score > 1.0) {
+                rising.add(new DefaultTypedTuple<>(candidates.get(i).getValue(), score));
+            }
+        }
+
+        // 새 키에 만든 뒤 이름을 바꿔 조회 중에 빈 목록이 보이지 않게 함
+        String risingKey = getRisingKey();
+        if (rising.isEmpty()) {
+            redisTemplate.delete(risingKey);
+            return;
+        }
+        String buildingKey = risingKey + ":building";
+        redisTemplate.delete(buildingKey);
+        redisTemplate.opsForZSet().add(buildingKey, rising);
+        redisTemplate.rename(buildingKey, risingKey);
+        redisTemplate.expire(risingKey, WINDOW_TTL);
+    }
+
+    // 합친 스케치의 추정치 (행별 칸 값의 최솟값)
+    private static long estimate(Map<Integer, Long> cells, int[] indices) {
+        long estimate = Long.MAX_VALUE;
+        for (int index : indices) {
+            estimate = Math.min(estimate, cells.getOrDefault(index, 0L));
+        }
+        return estimate;
+    }
+
+    private List<String> getTop(String key, int count) {
+        Set<String> keywords = redisTemplate.opsForZSet().reverseRange(key, 0, count - 1);
+        return keywords == null ? new ArrayList<>() : new ArrayList<>(keywords);
+    }
+
     // 오늘 날짜 기반 인기 키워드 키 생성
     private String getTodayKey() {
         return "popular_keywords:" + LocalDate.now().format(FORMATTER);
     }
 
+    // 시간 버킷 키 생성
+    private String getHourKey(LocalDateTime time) {
+        return "popular_keywords:hour:" + time.format(HOUR_FORMATTER);
+    }
+
+    // 서버 간에 합친 일/시간 스케치 키 생성 (필드: 칸 위치)
+    private String getDaySketchKey() {
+        return "popular_keywords:sketch:" + LocalDate.now().format(FORMATTER);
+    }
+
+    private String getHourSketchKey(LocalDateTime time) {
+        return "popular_keywords:sketch:hour:" + time.format(HOUR_FORMATTER);
+    }
+
+    // 오늘 전체 검색 수 키 생성 (추정 오차 계산용)
+    private String getTotalKey() {
+        return "popular_keywords:total:" + LocalDate.now().format(FORMATTER);
+    }
+
+    // 이동 구간 키 생성
+    private String getWindowKey(KeywordWindow window) {
+        return "popular_keywords:window:" + window.getKeySuffix();
+    }
+
+    private String getRisingKey() {
+        return "popular_keywords:rising";
+    }
 
     // 특정 날짜 기반 스냅샷 키 생성
     private String getSnapshotKey(String date) {
         return "daily_snapshot:" + date;
     }
 }
-
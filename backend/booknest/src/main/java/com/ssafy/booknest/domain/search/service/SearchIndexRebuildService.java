@@ -0,0 +1,451 @@
+package com.ssafy.booknest.domain.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.analysis.TokenChar;
+import co.elastic.clients.elasticsearch._types.mapping.Property;
+import co.elastic.clients.elasticsearch._types.mapping.TypeMapping;
+import co.elastic.clients.elasticsearch.indices.IndexSettings;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import co.elastic.clients.json.JsonData;
+import co.elastic.clients.util.ObjectBuilder;
+import com.ssafy.booknest.domain.search.dto.response.IndexRebuildStatusResponse;
+import com.ssafy.booknest.domain.search.enums.RebuildPhase;
+import com.ssafy.booknest.domain.search.enums.SearchIndex;
+import com.ssafy.booknest.domain.search.repository.BookDocumentStreamRepository;
+import com.ssafy.booknest.domain.search.repository.UserDocumentStreamRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 무중단 검색 인덱스 재생성
+// 1. {alias}_v{n} 인덱스를 새로 만들고 (적재 중에는 refresh 끔)
+// 2. DB를 ID 구간으로 나눠 병렬 커서 스트리밍으로 벌크 적재 (변경 색인은 {alias}_building 별칭으로 새 인덱스에도 함께 쓰고,
+//    적재는 op_type=create라 색인기가 먼저 쓴 최신 문서를 덮어쓰지 않음)
+// 3. 문서 수가 적재한 행 수와 같을 때만 별칭을 한 번의 요청으로 새 인덱스로 옮김 (실패하면 새 인덱스만 삭제)
+// 4. 이전 인덱스는 {alias}_retired 별칭과 매핑 _meta.retired_at을 붙여 두고, 조회 중인 요청이 끝날 시간을 두고 삭제
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexRebuildService {
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final BulkIndexSessionFactory bulkIndexSessionFactory;
+    private final BookDocumentStreamRepository bookDocumentStreamRepository;
+    private final UserDocumentStreamRepository userDocumentStreamRepository;
+    private final AutocompleteService autocompleteService;
+    private final SearchResultCache searchResultCache;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 병렬 적재 구간 수 (구간마다 DB 커넥션 1개 사용)
+    @Value("${search.rebuild.slices:4}")
+    private int slices;
+
+    // 별칭을 옮긴 뒤 이전 인덱스를 삭제하기까지 기다리는 시간
+    @Value("${search.rebuild.grace-period-minutes:10}")
+    private long gracePeriodMinutes;
+
+    // 이전 인덱스가 별칭에서 빠진 시각 (매핑 _meta에 epoch millis로 저장)
+    private static final String RETIRED_AT = "retired_at";
+    private static final Duration CONCURRENT_WRITES_TTL = Duration.ofDays(1);
+
+    private final Map<SearchIndex, RebuildProgress> progressMap = new ConcurrentHashMap<>();
+
+    private final ExecutorService rebuildExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 재생성을 백그라운드로 시작 (같은 인덱스를 이미 재생성 중이면 false)
+    public boolean start(SearchIndex target) {
+        RebuildProgress progress = new RebuildProgress(target);
+        RebuildProgress current = progressMap.compute(target,
+                (key, previous) -> previous != null && previous.phase.isRunning() ? previous : progress);
+        if (current != progress) {
+            return false;
+        }
+        rebuildExecutor.execute(() -> rebuild(progress));
+        return true;
+    }
+
+    // 인덱스별 마지막 재생성 진행 상황
+    public List<IndexRebuildStatusResponse> getStatuses() {
+        List<IndexRebuildStatusResponse> statuses = new ArrayList<>();
+        for (SearchIndex target : SearchIndex.values()) {
+            RebuildProgress progress = progressMap.get(target);
+            if (progress != null) {
+                statuses.add(progress.toResponse());
+            }
+        }
+        return statuses;
+    }
+
+    // 변경 색인이 써야 할 인덱스 (별칭 + 재생성 중인 새 인덱스)
+    public List<String> writeTargets(SearchIndex target) throws IOException {
+        List<String> targets = new ArrayList<>();
+        targets.add(target.getAlias());
+        targets.addAll(aliasedIndices(target.getBuildingAlias()));
+        return targets;
+    }
+
+    // 변경 색인이 writeTargets 중 빌드 중인 새 인덱스에 함께 쓴 문서 수 기록 (적재 중 추가/삭제된 문서만큼 검증 시 허용)
+    // 변경 색인은 재생성과 다른 서버에서 실행될 수 있으므로 Redis에 인덱스별로 누적
+    public void recordConcurrentWrites(SearchIndex target, List<String> writeTargets, long indexed, long deleted) {
+        for (String index : writeTargets) {
+            if (index.equals(target.getAlias())) {
+                continue;
+            }
+            try {
+                redisTemplate.opsForValue().increment(concurrentWritesKey(index, "indexed"), indexed);
+                redisTemplate.opsForValue().increment(concurrentWritesKey(index, "deleted"), deleted);
+                redisTemplate.expire(concurrentWritesKey(index, "indexed"), CONCURRENT_WRITES_TTL);
+                redisTemplate.expire(concurrentWritesKey(index, "deleted"), CONCURRENT_WRITES_TTL);
+            } catch (Exception e) {
+                log.warn("[인덱스 재생성] {} 적재 중 변경 기록 실패 - 메시지: {}", index, e.getMessage());
+            }
+        }
+    }
+
+    // 유예 시간이 지난 이전 인덱스 삭제 ({alias}_retired 별칭으로 찾으므로 재시작/다른 서버에서도 삭제됨)
+    @Scheduled(fixedDelay = 1000 * 60) // 1분마다 실행
+    @SchedulerLock(name = "search-index-retired-drop", lockAtMostFor = "PT5M")
+    public void dropRetiredIndices() {
+        long dropBefore = System.currentTimeMillis() - gracePeriodMinutes * 60_000;
+        for (SearchIndex target : SearchIndex.values()) {
+            List<String> retired;
+            try {
+                retired = aliasedIndices(target.getRetiredAlias());
+            } catch (Exception e) {
+                log.error("[인덱스 재생성] {} 이전 인덱스 조회 실패 - 메시지: {}", target.getAlias(), e.getMessage());
+                continue;
+            }
+            for (String index : retired) {
+                try {
+                    Long retiredAt = getRetiredAt(index);
+                    if (retiredAt == null) {
+                        // 표시를 남기기 전에 멈춘 경우 지금부터 유예 시간 시작
+                        markRetired(index);
+                        continue;
+                    }
+                    if (retiredAt > dropBefore) {
+                        continue;
+                    }
+                    deleteIfExists(index);
+                    log.info("[인덱스 재생성] 이전 인덱스 {} 삭제", index);
+                } catch (Exception e) {
+                    log.error("[인덱스 재생성] 이전 인덱스 {} 삭제 실패 - 메시지: {}", index, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void rebuild(RebuildProgress progress) {
+        SearchIndex target = progress.target;
+        String alias = target.getAlias();
+        log.info("[배치 시작] 검색 인덱스 재생성 ({})", alias);
+
+        try {
+            List<String> previousIndices = aliasedIndices(alias);
+            // 별칭 도입 전에 만든 같은 이름의 실제 인덱스는 별칭을 옮기는 요청에서 함께 삭제
+            boolean legacyIndex = previousIndices.isEmpty()
+                    && elasticsearchClient.indices().exists(e -> e.index(alias)).value();
+
+            progress.index = target.versionedName(nextVersion(target));
+            progress.phase = RebuildPhase.CREATING;
+            createIndex(target, progress.index);
+
+            progress.phase = RebuildPhase.LOADING;
+            long loaded = load(target, progress);
+            elasticsearchClient.indices().putSettings(p -> p
+                    .index(progress.index)
+                    .settings(s -> s.refreshInterval(t -> t.time("1s"))));
+            elasticsearchClient.indices().refresh(r -> r.index(progress.index));
+
+            progress.phase = RebuildPhase.VERIFYING;
+            progress.verifiedCount = elasticsearchClient.count(c -> c.index(progress.index)).count();
+            // 적재 중 변경 색인이 빌드 중 별칭으로 지우거나 추가한 문서만큼은 적재 수와 달라도 정상
+            long concurrentIndexed = getConcurrentWrites(progress.index, "indexed");
+            long concurrentDeleted = getConcurrentWrites(progress.index, "deleted");
+            if (progress.failed.get() > 0
+                    || progress.verifiedCount < loaded - concurrentDeleted
+                    || progress.verifiedCount > loaded + concurrentIndexed) {
+                throw new IllegalStateException("문서 수 불일치 - 적재 " + loaded + "건, 색인 "
+                        + progress.verifiedCount + "건, 적재 중 변경 색인 " + concurrentIndexed + "건, 삭제 "
+                        + concurrentDeleted + "건, 실패 " + progress.failed.get() + "건");
+            }
+
+            progress.phase = RebuildPhase.SWAPPING;
+            // 별칭을 옮기기 전에 표시를 남겨, 옮긴 직후 서버가 멈춰도 이전 인덱스가 삭제 대상으로 남음
+            for (String previous : previousIndices) {
+                markRetired(previous);
+            }
+            swapAlias(target, progress.index, previousIndices, legacyIndex);
+            if (target == SearchIndex.BOOK) {
+                searchResultCache.bumpGeneration();
+                autocompleteService.refresh();
+            }
+
+            progress.complete(RebuildPhase.COMPLETED, alias + " -> " + progress.index);
+            log.info("[배치 완료] 검색 인덱스 재생성 완료. {} -> {}, 총 {}건", alias, progress.index, loaded);
+        } catch (Exception e) {
+            progress.complete(RebuildPhase.FAILED, e.getMessage());
+            log.error("[인덱스 재생성] {} 재생성 실패, 기존 인덱스 유지 - 메시지: {}", alias, e.getMessage(), e);
+            if (progress.index != null) {
+                try {
+                    deleteIfExists(progress.index);
+                } catch (Exception deleteError) {
+                    log.error("[인덱스 재생성] 새 인덱스 {} 삭제 실패 - 메시지: {}", progress.index, deleteError.getMessage());
+                }
+            }
+        }
+        log.info("***********************************************************************************************");
+    }
+
+    // ID 범위를 slices개 구간으로 나눠 병렬 적재하고 적재한 행 수 반환
+    private long load(SearchIndex target, RebuildProgress progress) throws Exception {
+        int maxId = target == SearchIndex.USERS
+                ? userDocumentStreamRepository.findMaxId()
+                : bookDocumentStreamRepository.findMaxId();
+        int sliceCount = Math.max(1, slices);
+        int sliceSize = maxId / sliceCount + 1;
+
+        BulkIndexSession session = bulkIndexSessionFactory.open();
+        long loaded = 0;
+        try (session) {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < sliceCount; i++) {
+                int fromId = i * sliceSize;
+                // 적재 중 추가된 행도 마지막 구간에 포함
+                int toId = i == sliceCount - 1 ? Integer.MAX_VALUE : fromId + sliceSize - 1;
+                futures.add(rebuildExecutor.submit(() -> loadSlice(target, progress, session, fromId, toId)));
+            }
+            for (Future<Long> future : futures) {
+                loaded += future.get();
+            }
+        }
+        progress.failed.set(session.getFailedOperations());
+        return loaded;
+    }
+
+    // 이미 있는 문서는 덮어쓰지 않음 (커서가 먼저 읽은 행보다 적재 중에 색인기가 쓴 문서가 최신)
+    private long loadSlice(SearchIndex target, RebuildProgress progress, BulkIndexSession session, int fromId, int toId) {
+        String index = progress.index;
+        return switch (target) {
+            case BOOK -> bookDocumentStreamRepository.streamRange(fromId, toId, document -> {
+                session.create(index, document.bookId(), document.toSearchedBook());
+                progress.loaded.incrementAndGet();
+            });
+            case BOOK_EVAL -> bookDocumentStreamRepository.streamRange(fromId, toId, document -> {
+                session.create(index, document.bookId(), document.toBookEval());
+                progress.loaded.incrementAndGet();
+            });
+            case USERS -> userDocumentStreamRepository.streamRange(fromId, toId, document -> {
+                session.create(index, document.id(), document);
+                progress.loaded.incrementAndGet();
+            });
+        };
+    }
+
+    // 별칭 이동, 빌드 중 별칭 제거, (있다면) 예전 실제 인덱스 삭제를 한 번의 요청으로 처리
+    private void swapAlias(SearchIndex target, String newIndex, List<String> previousIndices, boolean legacyIndex) throws IOException {
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(a -> a.add(add -> add.index(newIndex).alias(target.getAlias()).isWriteIndex(true))));
+        actions.add(Action.of(a -> a.remove(remove -> remove.index(newIndex).alias(target.getBuildingAlias()))));
+        for (String previous : previousIndices) {
+            actions.add(Action.of(a -> a.remove(remove -> remove.index(previous).alias(target.getAlias()))));
+            actions.add(Action.of(a -> a.add(add -> add.index(previous).alias(target.getRetiredAlias()))));
+        }
+        if (legacyIndex) {
+            actions.add(Action.of(a -> a.removeIndex(remove -> remove.index(target.getAlias()))));
+        }
+        elasticsearchClient.indices().updateAliases(u -> u.actions(actions));
+    }
+
+    private void createIndex(SearchIndex target, String index) throws IOException {
+        elasticsearchClient.indices().create(c -> c
+                .index(index)
+                .settings(settings(target))
+                .mappings(mappings(target))
+                .aliases(target.getBuildingAlias(), a -> a));
+    }
+
+    // 적재 중에는 refresh를 끄고, 분석기는 기존 book 인덱스 설정(nori)을 그대로 사용
+    private IndexSettings settings(SearchIndex target) {
+        return IndexSettings.of(s -> s
+                .refreshInterval(t -> t.time("-1"))
+                .analysis(a -> a
+                        .analyzer("korean_analyzer", analyzer -> analyzer
+                                .custom(ca -> ca
+                                        .tokenizer("nori_tokenizer")
+                                        .filter("lowercase", "nori_part_of_speech", "nori_readingform")))
+                        .tokenizer("autocomplete_tokenizer", tokenizer -> tokenizer
+                                .definition(d -> d.edgeNgram(e -> e
+                                        .minGram(1)
+                                        .maxGram(20)
+                                        .tokenChars(TokenChar.Letter, TokenChar.Digit))))
+                        .analyzer("autocomplete_analyzer", analyzer -> analyzer
+                                .custom(ca -> ca.tokenizer("autocomplete_tokenizer").filter("lowercase")))
+                        .analyzer("autocomplete_search_analyzer", analyzer -> analyzer
+                                .custom(ca -> ca.tokenizer("standard").filter("lowercase")))
+                        // 닉네임 부분 일치: 1~2글자 조각을 색인하고 검색어 조각을 term 쿼리로 모두 포함하는지 확인
+                        .tokenizer("nickname_ngram_tokenizer", tokenizer -> tokenizer
+                                .definition(d -> d.ngram(n -> n
+                                        .minGram(1)
+                                        .maxGram(2)
+                                        .tokenChars(TokenChar.Letter, TokenChar.Digit))))
+                        .analyzer("nickname_ngram_analyzer", analyzer -> analyzer
+                                .custom(ca -> ca.tokenizer("nickname_ngram_tokenizer").filter("lowercase")))
+                        // 닉네임 앞부분 일치 (앞에서부터 일치하는 유저를 위로)
+                        .tokenizer("nickname_prefix_tokenizer", tokenizer -> tokenizer
+                                .definition(d -> d.edgeNgram(e -> e
+                                        .minGram(1)
+                                        .maxGram(20)
+                                        .tokenChars(TokenChar.Letter, TokenChar.Digit))))
+                        .analyzer("nickname_prefix_analyzer", analyzer -> analyzer
+                                .custom(ca -> ca.tokenizer("nickname_prefix_tokenizer").filter("lowercase")))));
+    }
+
+    // 문서 필드 이름은 SearchedBook, BookEval, UserDocument의 JSON 이름과 같음
+    private TypeMapping mappings(SearchIndex target) {
+        return switch (target) {
+            case BOOK -> TypeMapping.of(m -> m
+                    .properties("book_id", p -> p.integer(i -> i))
+                    .properties("title", koreanTextWithAutocomplete())
+                    .properties("image_url", p -> p.keyword(k -> k))
+                    .properties("authors", koreanTextWithAutocomplete())
+                    .properties("tags", p -> p.keyword(k -> k))
+                    .properties("totalRatings", p -> p.integer(i -> i)));
+            case BOOK_EVAL -> TypeMapping.of(m -> m
+                    .properties("book_id", p -> p.integer(i -> i))
+                    .properties("title", p -> p.text(t -> t.analyzer("korean_analyzer")))
+                    .properties("image_url", p -> p.keyword(k -> k))
+                    .properties("published_date", p -> p.keyword(k -> k))
+                    .properties("authors", p -> p.text(t -> t.analyzer("korean_analyzer")))
+                    .properties("total_ratings", p -> p.integer(i -> i)));
+            case USERS -> TypeMapping.of(m -> m
+                    .properties("id", p -> p.integer(i -> i))
+                    .properties("nickname", p -> p.keyword(k -> k
+                            .fields("ngram", f -> f.text(t -> t.analyzer("nickname_ngram_analyzer")))
+                            .fields("prefix", f -> f.text(t -> t.analyzer("nickname_prefix_analyzer")))))
+                    .properties("profile_url", p -> p.keyword(k -> k)));
+        };
+    }
+
+    private static Function<Property.Builder, ObjectBuilder<Property>> koreanTextWithAutocomplete() {
+        return p -> p.text(t -> t
+                .analyzer("korean_analyzer")
+                .fields("autocomplete", f -> f.text(ft -> ft
+                        .analyzer("autocomplete_analyzer")
+                        .searchAnalyzer("autocomplete_search_analyzer"))));
+    }
+
+    // 기존 {alias}_v{n} 중 가장 큰 n + 1
+    private int nextVersion(SearchIndex target) throws IOException {
+        String prefix = target.getAlias() + "_v";
+        Set<String> indices = elasticsearchClient.indices()
+                .get(g -> g.index(prefix + "*").allowNoIndices(true).ignoreUnavailable(true))
+                .result().keySet();
+
+        int max = 0;
+        for (String index : indices) {
+            try {
+                max = Math.max(max, Integer.parseInt(index.substring(prefix.length())));
+            } catch (NumberFormatException ignored) {
+                // 다른 이름 규칙의 인덱스는 무시
+            }
+        }
+        return max + 1;
+    }
+
+    // 별칭이 가리키는 실제 인덱스 목록 (별칭이 없으면 빈 목록)
+    private List<String> aliasedIndices(String alias) throws IOException {
+        if (!elasticsearchClient.indices().existsAlias(e -> e.name(alias)).value()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(elasticsearchClient.indices().getAlias(g -> g.name(alias)).result().keySet());
+    }
+
+    private long getConcurrentWrites(String index, String type) {
+        String value = redisTemplate.opsForValue().get(concurrentWritesKey(index, type));
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    private static String concurrentWritesKey(String index, String type) {
+        return "search:rebuild:" + index + ":" + type;
+    }
+
+    // 이전 인덱스의 매핑 _meta에 별칭에서 빠진 시각 기록 (문서/검색에는 영향 없음)
+    private void markRetired(String index) throws IOException {
+        elasticsearchClient.indices().putMapping(p -> p
+                .index(index)
+                .meta(RETIRED_AT, JsonData.of(System.currentTimeMillis())));
+    }
+
+    private Long getRetiredAt(String index) throws IOException {
+        TypeMapping mapping = elasticsearchClient.indices().getMapping(g -> g.index(index))
+                .result().get(index).mappings();
+        JsonData retiredAt = mapping.meta().get(RETIRED_AT);
+        return retiredAt == null ? null : retiredAt.to(Long.class);
+    }
+
+    private void deleteIfExists(String index) throws IOException {
+        if (elasticsearchClient.indices().exists(e -> e.index(index)).value()) {
+            elasticsearchClient.indices().delete(d -> d.index(index));
+        }
+    }
+
+    private static class RebuildProgress {
+        private final SearchIndex target;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong loaded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private volatile RebuildPhase phase = RebuildPhase.CREATING;
+        private volatile String index;
+        private volatile long verifiedCount;
+        private volatile String message;
+        private volatile LocalDateTime finishedAt;
+
+        private RebuildProgress(SearchIndex target) {
+            this.target = target;
+        }
+
+        private void complete(RebuildPhase phase, String message) {
+            this.message = message;
+            this.finishedAt = LocalDateTime.now();
+            this.phase = phase;
+        }
+
+        private IndexRebuildStatusResponse toResponse() {
+            return IndexRebuildStatusResponse.builder()
+                    .target(target)
+                    .alias(target.getAlias())
+                    .index(index)
+                    .phase(phase)
+                    .loaded(loaded.get())
+                    .failed(failed.get())
+                    .verifiedCount(verifiedCount)
+                    .message(message)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.ssafy.booknest.domain.search.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.booknest.domain.search.dto.response.BookSearchResponse;
+import com.ssafy.booknest.domain.search.enums.SearchQueryClass;
+import com.ssafy.booknest.domain.search.record.FacetCount;
+import com.ssafy.booknest.domain.search.record.SearchPage;
+import com.ssafy.booknest.global.common.util.KeywordNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 도서 검색 결과 2단계 캐시 (메모리 LRU -> Redis -> ES)
+// - 키: 정규화한 (키워드, 정렬한 태그, 페이지, 크기)와 book 인덱스 세대
+//   색인 파이프라인이 book 인덱스에 쓸 때마다 세대를 올리므로 이전 세대 결과는 지우지 않아도 더 이상 조회되지 않음
+// - 값: 페이지를 JSON으로 직렬화해 저장 (메모리 캐시도 직렬화된 바이트로 두어 객체 그래프를 붙잡지 않음)
+// - 오늘의 인기 검색어는 Redis 만료가 가까워지면 응답은 캐시로 하고 백그라운드에서 미리 다시 조회
+@Slf4j
+@Service
+public class SearchResultCache {
+
+    private static final String GENERATION_KEY = "search:book:generation";
+    private static final int LOCAL_CAPACITY = 2_000;
+    private static final long LOCAL_TTL_MILLIS = 60_000;
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+    // Redis 만료까지 남은 시간이 이보다 짧으면 인기 검색어를 미리 갱신
+    private static final long EARLY_REFRESH_MILLIS = 2 * 60_000;
+    // 다른 서버가 올린 세대도 이 시간 안에 반영
+    private static final long GENERATION_CACHE_MILLIS = 2_000;
+    private static final int POPULAR_KEYWORD_COUNT = 50;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PopularKeywordService popularKeywordService;
+
+    private final Map<String, byte[]> local = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                    return size() > LOCAL_CAPACITY;
+                }
+            });
+
+    // 같은 키를 동시에 미리 갱신하지 않도록
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "search-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Set<String> popularKeywords = Set.of();
+    private volatile CachedGeneration cachedGeneration;
+
+    private final Map<SearchQueryClass, Map<String, Counter>> requestCounters = new EnumMap<>(SearchQueryClass.class);
+    private final Map<SearchQueryClass, AtomicLong> hits = new EnumMap<>(SearchQueryClass.class);
+    private final Map<SearchQueryClass, AtomicLong> requests = new EnumMap<>(SearchQueryClass.class);
+
+    public SearchResultCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                             PopularKeywordService popularKeywordService, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.popularKeywordService = popularKeywordService;
+
+        for (SearchQueryClass queryClass : SearchQueryClass.values()) {
+            Map<String, Counter> counters = new HashMap<>();
+            for (String result : List.of("local_hit", "redis_hit", "miss")) {
+                counters.put(result, Counter.builder("search.cache.requests")
+                        .description("도서 검색 결과 캐시 조회 수")
+                        .tag("query_class", queryClass.getTagValue())
+                        .tag("result", result)
+                        .register(meterRegistry));
+            }
+            requestCounters.put(queryClass, counters);
+
+            AtomicLong hitCount = new AtomicLong();
+            AtomicLong requestCount = new AtomicLong();
+            hits.put(queryClass, hitCount);
+            requests.put(queryClass, requestCount);
+            Gauge.builder("search.cache.hit.ratio", () -> requestCount.get() == 0
+                            ? 0.0 : (double) hitCount.get() / requestCount.get())
+                    .description("도서 검색 결과 캐시 적중률 (서버 시작 이후)")
+                    .tag("query_class", queryClass.getTagValue())
+                    .register(meterRegistry);
+        }
+    }
+
+    // 캐시된 검색 결과를 반환하고, 없으면 loader로 ES를 조회해 저장
+    // loader에는 정규화한 키워드와 태그가 전달됨 (facets는 태그 집계를 포함한 결과인지 여부로 키에만 반영)
+    public SearchPage<BookSearchResponse> get(String keyword, List<String> tags, boolean facets, Pageable pageable,
+                                              Loader loader) {
+        String normalizedKeyword = normalizeKeyword(keyword);
+        List<String> normalizedTags = normalizeTags(tags);
+        SearchQueryClass queryClass = SearchQueryClass.of(!normalizedKeyword.isEmpty(), !normalizedTags.isEmpty());
+        String key = currentGeneration() + "|" + queryClass.name() + "|" + normalizedKeyword + "|"
+                + String.join("\u001F", normalizedTags) + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize()
+                + "|" + facets;
+        Supplier<CachedPage> load = () ->
+                CachedPage.of(loader.load(normalizedKeyword.isEmpty() ? null : normalizedKeyword, normalizedTags, pageable));
+
+        CachedPage cached = readLocal(key);
+        String result = "local_hit";
+        if (cached == null) {
+            cached = readRedis(key);
+            result = "redis_hit";
+        }
+        if (cached == null) {
+            cached = load.get();
+            write(key, cached);
+            result = "miss";
+        } else if (popularKeywords.contains(normalizedKeyword) && cached.isNearExpiry()) {
+            refreshAsync(key, load);
+        }
+
+        record(queryClass, result);
+        return new SearchPage<>(new PageImpl<>(cached.content(), pageable, cached.total()), cached.nextCursor(),
+                cached.facets());
+    }
+
+    // book 인덱스 내용이 바뀌었을 때 호출 (이전 세대 결과는 만료될 때까지 남지만 조회되지 않음)
+    public void bumpGeneration() {
+        try {
+            Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY);
+            cachedGeneration = new CachedGeneration(generation == null ? 0 : generation,
+                    System.currentTimeMillis() + GENERATION_CACHE_MILLIS);
+        } catch (Exception e) {
+            log.error("[검색 캐시] 세대 갱신 실패 - 메시지: {}", e.getMessage());
+            cachedGeneration = null;
+        }
+        local.clear();
+    }
+
+    // 미리 갱신할 인기 검색어 목록 갱신
+    @Scheduled(fixedDelay = 1000 * 60) // 1분마다 실행
+    public void refreshPopularKeywords() {
+        try {
+            popularKeywords = popularKeywordService.getTodayTopKeywords(POPULAR_KEYWORD_COUNT).stream()
+                    .map(SearchResultCache::normalizeKeyword)
+                    .collect(Collectors.toUnmodifiableSet());
+        } catch (Exception e) {
+            log.warn("[검색 캐시] 인기 검색어 조회 실패 - 메시지: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // 인기 검색어 집계와 같은 정규화 (분석기도 소문자로 맞추므로 결과는 같음)
+    public static String normalizeKeyword(String keyword) {
+        return KeywordNormalizer.normalize(keyword);
+    }
+
+    // 태그는 모두 포함(AND) 조건이므로 순서와 중복을 없앰
+    public static List<String> normalizeTags(List<String> tags) {
+        if (tags == null) {
+            return List.of();
+        }
+        return tags.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    private long currentGeneration() {
+        CachedGeneration cached = cachedGeneration;
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.generation;
+        }
+        long generation = 0;
+        try {
+            String value = redisTemplate.opsForValue().get(GENERATION_KEY);
+            generation = value == null ? 0 : Long.parseLong(value);
+        } catch (Exception e) {
+            log.warn("[검색 캐시] 세대 조회 실패 - 메시지: {}", e.getMessage());
+        }
+        cachedGeneration = new CachedGeneration(generation, System.currentTimeMillis() + GENERATION_CACHE_MILLIS);
+        return generation;
+    }
+
+    private CachedPage readLocal(String key) {
+        byte[] bytes = local.get(key);
+        if (bytes == null) {
+            return null;
+        }
+        CachedPage page = deserialize(bytes);
+        if (page == null || page.loadedAt() + LOCAL_TTL_MILLIS < System.currentTimeMillis()) {
+            local.remove(key);
+            return null;
+        }
+        return page;
+    }
+
+    private CachedPage readRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey(key));
+            if (json == null) {
+                return null;
+            }
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            CachedPage page = deserialize(bytes);
+            if (page != null) {
+                local.put(key, bytes);
+            }
+            return page;
+        } catch (Exception e) {
+            log.warn("[검색 캐시] Redis 조회 실패 - 메시지: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(String key, CachedPage page) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(page);
+            local.put(key, bytes);
+            redisTemplate.opsForValue().set(redisKey(key), new String(bytes, StandardCharsets.UTF_8), REDIS_TTL);
+        } catch (Exception e) {
+            log.warn("[검색 캐시] 저장 실패 - 메시지: {}", e.getMessage());
+        }
+    }
+
+    private void refreshAsync(String key, Supplier<CachedPage> load) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    write(key, load.get());
+                } catch (Exception e) {
+                    log.warn("[검색 캐시] 미리 갱신 실패 - 메시지: {}", e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (Exception e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private CachedPage deserialize(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, CachedPage.class);
+        } catch (Exception e) {
+            log.warn("[검색 캐시] 역직렬화 실패 - 메시지: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void record(SearchQueryClass queryClass, String result) {
+        requestCounters.get(queryClass).get(result).increment();
+        requests.get(queryClass).incrementAndGet();
+        if (!"miss".equals(result)) {
+            hits.get(queryClass).incrementAndGet();
+        }
+    }
+
+    // 키에 사용자 입력이 그대로 들어가므로 Redis 키는 해시로 길이를 고정
+    private static String redisKey(String key) {
+        return "search:result:" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        SearchPage<BookSearchResponse> load(String keyword, List<String> tags, Pageable pageable);
+    }
+
+    // nextCursor는 PIT 없이 정렬 값만 담고 있으므로 여러 사용자가 공유해도 됨
+    record CachedPage(List<BookSearchResponse> content, long total, String nextCursor,
+                      Map<String, List<FacetCount>> facets, long loadedAt) {
+
+        private static CachedPage of(SearchPage<BookSearchResponse> result) {
+            Page<BookSearchResponse> page = result.page();
+            return new CachedPage(page.getContent(), page.getTotalElements(), result.nextCursor(),
+                    result.facets(), System.currentTimeMillis());
+        }
+
+        private boolean isNearExpiry() {
+            return loadedAt + REDIS_TTL.toMillis() - System.currentTimeMillis() < EARLY_REFRESH_MILLIS;
+        }
+    }
+
+    private record CachedGeneration(long generation, long expiresAt) {
+    }
+}
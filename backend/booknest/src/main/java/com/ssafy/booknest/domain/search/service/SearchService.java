@@ -1,24 +1,29 @@
 package com.ssafy.booknest.domain.search.service;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.FieldValue;
-import co.elastic.clients.elasticsearch._types.ScriptSortType;
 import co.elastic.clients.elasticsearch._types.SortOrder;
-import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionBoostMode;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.JsonData;
 import com.ssafy.booknest.domain.book.dto.response.BookResponse;
 import com.ssafy.booknest.domain.book.enums.BookEvalType;
-import com.ssafy.booknest.domain.book.repository.evaluation.RatingRepository;
+import com.ssafy.booknest.domain.book.service.BookRatingStatService;
+import com.ssafy.booknest.domain.book.service.ExcludedBookService;
 import com.ssafy.booknest.domain.follow.repository.FollowRepository;
+import com.ssafy.booknest.domain.search.dto.response.BookSearchPageResponse;
 import com.ssafy.booknest.domain.search.dto.response.BookSearchResponse;
 import com.ssafy.booknest.domain.search.dto.response.UserSearchResponse;
+import com.ssafy.booknest.domain.search.enums.SearchIndex;
 import com.ssafy.booknest.domain.search.record.BookEval;
+import com.ssafy.booknest.domain.search.record.SearchCursor;
+import com.ssafy.booknest.domain.search.record.SearchPage;
 import com.ssafy.booknest.domain.search.record.SearchedBook;
 import com.ssafy.booknest.domain.search.record.SerachedUser;
 import com.ssafy.booknest.domain.search.repository.BookSearchCustomRepository;
+import com.ssafy.booknest.domain.search.repository.PointInTimeSearcher;
+import com.ssafy.booknest.domain.search.repository.UserSearchCustomRepository;
 import com.ssafy.booknest.domain.search.repository.UserSearchRepository;
 import com.ssafy.booknest.domain.user.entity.User;
 import com.ssafy.booknest.domain.user.repository.UserRepository;
@@ -26,6 +31,7 @@ import com.ssafy.booknest.global.common.CustomPage;
 import com.ssafy.booknest.global.error.ErrorCode;
 import com.ssafy.booknest.global.error.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -38,16 +44,31 @@ import java.util.*;
 @Service
 @RequiredArgsConstructor
 public class SearchService {
+
+    private static final int AUTOCOMPLETE_LIMIT = 7;
+
+    // 평가 목록 무작위 정렬 시드 교체 주기
+    @Value("${search.eval.random-seed-rotation-minutes:60}")
+    private long randomSeedRotationMinutes;
+
     private final BookSearchCustomRepository bookSearchRepository;
     private final UserSearchRepository userSearchRepository;
+    private final UserSearchCustomRepository userSearchCustomRepository;
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
     private final PopularKeywordService popularKeywordService;
-    private final RatingRepository ratingRepository;
-    private final ElasticsearchClient elasticsearchClient;
+    private final ExcludedBookService excludedBookService;
+    private final BookRatingStatService bookRatingStatService;
+    private final AutocompleteService autocompleteService;
+    private final SearchResultCache searchResultCache;
+    private final PointInTimeSearcher pointInTimeSearcher;
+    private final SearchIndexRebuildService searchIndexRebuildService;
 
     // 도서 검색 (태그/키워드 기반) + 인기 검색어 카운트 처리
-    public CustomPage<BookSearchResponse> searchBooks(Integer userId, String keyword, List<String> tags, Pageable pageable) {
+    // 첫 요청은 페이지 번호로, 이어지는 무한 스크롤은 응답의 nextCursor로 조회
+    // facets면 첫 페이지에 태그별 도서 수를 같은 ES 요청의 집계로 함께 반환
+    public CustomPage<BookSearchResponse> searchBooks(Integer userId, String keyword, List<String> tags, String cursor,
+                                                      boolean facets, Pageable pageable) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
@@ -56,20 +77,39 @@ public class SearchService {
             return new CustomPage<>(Page.empty());
         }
 
-        Page<SearchedBook> books = bookSearchRepository.searchByTagsAndKeyword(tags, keyword, pageable);
-
-        // 키워드 있을 때만 카운트 증가
-        if (keyword != null && !keyword.isBlank()) {
-            popularKeywordService.increaseKeywordCount(keyword);
+        SearchPage<BookSearchResponse> books;
+        if (cursor == null) {
+            // 같은 검색은 결과 캐시에서 응답 (ES에는 정규화한 키워드/태그로 조회)
+            books = searchResultCache.get(keyword, tags, facets, pageable,
+                    (normalizedKeyword, normalizedTags, page) -> bookSearchRepository
+                            .searchByTagsAndKeyword(normalizedTags, normalizedKeyword, null, facets, page)
+                            .map(BookSearchResponse::of));
+
+            // 키워드 있을 때만 카운트 증가 (커서로 이어 보는 요청은 같은 검색이므로 제외)
+            if (keyword != null && !keyword.isBlank()) {
+                popularKeywordService.increaseKeywordCount(keyword);
+            }
+        } else {
+            // 다음 페이지는 PIT 스냅샷을 이어서 조회하므로 캐시하지 않음 (정렬이 같도록 첫 페이지와 같은 정규화 적용)
+            String normalizedKeyword = SearchResultCache.normalizeKeyword(keyword);
+            books = bookSearchRepository.searchByTagsAndKeyword(SearchResultCache.normalizeTags(tags),
+                            normalizedKeyword.isEmpty() ? null : normalizedKeyword, cursor, false, pageable)
+                    .map(BookSearchResponse::of);
         }
 
-        return new CustomPage<>(books.map(BookSearchResponse::of));
+        if (books.facets() != null) {
+            return new BookSearchPageResponse(books.page(), books.nextCursor(), books.facets());
+        }
+        return new CustomPage<>(books.page(), books.nextCursor());
     }
 
     // 도서 정보를 Elasticsearch에 저장
     public SearchedBook saveBook(SearchedBook book) {
-        bookSearchRepository.save(book);
-        return book;
+        // 평점 개수 가중치는 평점 집계 테이블 값을 사용
+        SearchedBook indexed = book.withTotalRatings(bookRatingStatService.getRatingCount(book.getBookId()));
+        bookSearchRepository.save(writeTargets(SearchIndex.BOOK), indexed);
+        searchResultCache.bumpGeneration();
+        return indexed;
     }
 
     // 유저 정보를 Elasticsearch에 저장
@@ -84,7 +124,7 @@ public class SearchService {
             return new CustomPage<>(Page.empty());
         }
 
-        Page<SerachedUser> users = userSearchRepository.findByNicknameContaining(name, pageable);
+        Page<SerachedUser> users = userSearchCustomRepository.searchByNickname(name, pageable);
 
         // 검색된 유저 ID 리스트 추출
         List<Integer> userIds = users.getContent().stream()
@@ -105,67 +145,106 @@ public class SearchService {
         return new CustomPage<>(new PageImpl<>(responseList, pageable, users.getTotalElements()));
     }
 
-    // 도서 제목 자동완성 추천 키워드 리스트 반환
+    // 도서 제목 자동완성 추천 키워드 리스트 반환 (메모리 색인 우선, 적재 전이거나 결과가 없으면 ES)
     public List<String> autocompleteTitle(String keyword) {
+        List<String> suggestions = autocompleteService.suggest(keyword, AUTOCOMPLETE_LIMIT);
+        if (suggestions != null && !suggestions.isEmpty()) {
+            return suggestions;
+        }
         return bookSearchRepository.autocompleteTitle(keyword);
     }
 
-    // 도서 평가 페이지용 도서 리스트 조회 (랜덤, 인기순, 최신순)
-    public CustomPage<BookResponse> getEvalBookList(Integer userId, BookEvalType keyword, Pageable pageable) throws IOException {
-        List<Integer> evaluatedBookIds = ratingRepository.findBookIdsByUserId(userId);
-
-        Query excludeEvaluatedBooks = QueryBuilders.bool(b -> b
-                .mustNot(QueryBuilders.terms(t -> t
-                        .field("book_id")
-                        .terms(terms -> terms.value(
-                                evaluatedBookIds.stream().map(FieldValue::of).toList()
-                        ))
-                )));
+    // 도서 평가 페이지용 도서 리스트 조회 (랜덤, 인기순, 최신순), 이어지는 페이지는 nextCursor로 조회
+    public CustomPage<BookResponse> getEvalBookList(Integer userId, BookEvalType keyword, String cursor, Pageable pageable) throws IOException {
+        // 평가/관심없음 도서는 terms mustNot 대신 비트맵으로 결과에서만 걸러냄
+        // 넉넉한 구간을 가져와 앞쪽 한 페이지만 쓰고, 다음 페이지는 마지막으로 본 문서 다음부터 조회
+        // 커서 없이 페이지 번호로 조회하면 그 페이지 구간만 읽음 (제외 도서만큼 페이지가 짧아질 수 있음)
+        ExcludedBookService.ExcludedBooks excluded = excludedBookService.get(userId);
+        SearchCursor after = SearchCursor.decode(cursor);
+        boolean pageNumberOnly = after == null && pageable.getPageNumber() > 0;
+        int window = pageNumberOnly ? pageable.getPageSize() : excluded.windowSize(pageable.getPageSize());
+        Long seed = null;
 
-        SearchRequest.Builder builder = new SearchRequest.Builder()
-                .index("book_eval")
-                .size(pageable.getPageSize())
-                .from((int) pageable.getOffset())
-                .query(excludeEvaluatedBooks);
+        SearchRequest.Builder builder = new SearchRequest.Builder();
 
         if (keyword == BookEvalType.POPULAR) {
-            builder.sort(s -> s.field(f -> f.field("total_ratings").order(SortOrder.Desc)));
+            builder.query(QueryBuilders.matchAll(m -> m))
+                    .sort(s -> s.field(f -> f.field("total_ratings").order(SortOrder.Desc)));
         } else if (keyword == BookEvalType.RECENT) {
-            builder.sort(s -> s.field(f -> f.field("published_date").order(SortOrder.Desc)));
+            builder.query(QueryBuilders.matchAll(m -> m))
+                    .sort(s -> s.field(f -> f.field("published_date").order(SortOrder.Desc)));
         }  else {
-            builder.sort(s -> s
-                    .script(sc -> sc
-                            .type(ScriptSortType.Number)
-                            .script(script -> script.inline(inline -> inline.source("Math.random()")))
-                            .order(SortOrder.Asc)
-                    )
-            );
+            // 문서마다 스크립트를 실행하는 Math.random() 정렬 대신 시드 고정 random_score
+            // book_id 기준이라 같은 시드면 샤드/페이지/인덱스 재생성과 무관하게 같은 순서
+            long randomSeed = after != null && after.seed() != null ? after.seed() : getRandomSeed(userId);
+            seed = randomSeed;
+            builder.query(q -> q.functionScore(fs -> fs
+                            .query(QueryBuilders.matchAll(m -> m))
+                            .functions(fn -> fn.randomScore(r -> r.seed(String.valueOf(randomSeed)).field("book_id")))
+                            .boostMode(FunctionBoostMode.Replace)))
+                    .sort(s -> s.score(sc -> sc.order(SortOrder.Desc)));
+        }
+        // search_after가 같은 정렬 값에서 문서를 건너뛰거나 반복하지 않도록 고유 필드로 마무리
+        builder.sort(s -> s.field(f -> f.field("book_id").order(SortOrder.Asc)));
+
+        SearchResponse<JsonData> response = pointInTimeSearcher.search(
+                "book_eval", after, pageNumberOnly ? (int) pageable.getOffset() : 0, window, builder, JsonData.class);
+
+        // 다음 커서는 마지막으로 사용한 문서 기준 (걸러낸 뒤 남은 문서는 다음 페이지에서 다시 조회)
+        List<BookResponse> books = new ArrayList<>(pageable.getPageSize());
+        Hit<JsonData> lastHit = null;
+        for (Hit<JsonData> hit : response.hits().hits()) {
+            if (books.size() == pageable.getPageSize()) {
+                break;
+            }
+            lastHit = hit;
+            Map<String, Object> source = hit.source().to(Map.class);
+            BookResponse book = BookResponse.builder()
+                    .bookId(Optional.ofNullable((Integer) source.get("book_id")).orElse(-1))
+                    .title((String) source.get("title"))
+                    .imageUrl((String) source.get("image_url"))
+                    .publishedDate((String) source.get("published_date"))
+                    .authors((List<String>) source.get("authors"))
+                    .build();
+            if (!excluded.contains(book.getBookId())) {
+                books.add(book);
+            }
         }
 
-        SearchResponse<JsonData> response = elasticsearchClient.search(builder.build(), JsonData.class);
-
-        List<BookResponse> books = response.hits().hits().stream()
-                .map(hit -> {
-                    Map<String, Object> source = hit.source().to(Map.class);
-                    return BookResponse.builder()
-                            .bookId(Optional.ofNullable((Integer) source.get("book_id")).orElse(-1))
-                            .title((String) source.get("title"))
-                            .imageUrl((String) source.get("image_url"))
-                            .publishedDate((String) source.get("published_date"))
-                            .authors((List<String>) source.get("authors"))
-                            .build();
-                })
-                .toList();
+        long totalHits = after != null
+                ? after.total()
+                : Math.max(response.hits().total().value() - excluded.count(), 0);
 
-        long totalHits = response.hits().total().value();
+        // 가져온 구간을 다 쓰지 않았거나 구간이 가득 찼으면 뒤에 더 있음
+        boolean hasNext = lastHit != null && (response.hits().hits().size() == window
+                || lastHit != response.hits().hits().get(response.hits().hits().size() - 1));
+        String nextCursor = pointInTimeSearcher.nextCursor(response, lastHit, totalHits, hasNext, seed);
 
         Page<BookResponse> page = new PageImpl<>(books, pageable, totalHits);
-        return new CustomPage<>(page);
+        return new CustomPage<>(page, nextCursor);
+    }
+
+    // 유저별 무작위 정렬 시드 (교체 주기마다 바뀌어 평가 목록이 새로 섞임)
+    private long getRandomSeed(Integer userId) {
+        long rotation = System.currentTimeMillis() / (randomSeedRotationMinutes * 60_000);
+        return (userId * 0x9E3779B97F4A7C15L) ^ rotation;
     }
 
     // 도서 평가 결과 Elasticsearch에 저장
     public BookEval saveBookEval(BookEval book) {
-        bookSearchRepository.saveBookEval(book);
+        book.setTotalRatings(bookRatingStatService.getRatingCount(book.getBookId()));
+        bookSearchRepository.saveBookEval(writeTargets(SearchIndex.BOOK_EVAL), book);
         return book;
     }
+
+    // 별칭과 빌드 중인 새 인덱스 (재생성 중에 저장한 문서가 별칭 교체 후에도 남도록 함께 씀)
+    private List<String> writeTargets(SearchIndex target) {
+        try {
+            List<String> indices = searchIndexRebuildService.writeTargets(target);
+            searchIndexRebuildService.recordConcurrentWrites(target, indices, 1, 0);
+            return indices;
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.ELASTICSEARCH_ERROR);
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package com.ssafy.booknest.domain.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.ssafy.booknest.domain.search.enums.SearchIndex;
+import com.ssafy.booknest.domain.search.record.UserDocument;
+import com.ssafy.booknest.domain.search.repository.UserDocumentStreamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+// 유저 가입/수정/탈퇴를 users 인덱스에 반영
+// 커밋된 뒤 DB에서 다시 읽어 색인하고, 탈퇴했거나 닉네임이 없는 유저는 인덱스에서 제거
+// 인덱스 재생성 중이면 새 인덱스에도 함께 씀 (실패한 변경은 다음 재생성 때 반영)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserIndexingService {
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final UserDocumentStreamRepository userDocumentStreamRepository;
+    private final SearchIndexRebuildService searchIndexRebuildService;
+
+    public void reindex(Integer userId) {
+        afterCommit(() -> index(userId));
+    }
+
+    private void index(Integer userId) {
+        try {
+            Optional<UserDocument> document = userDocumentStreamRepository.findById(userId);
+            List<String> indices = searchIndexRebuildService.writeTargets(SearchIndex.USERS);
+            searchIndexRebuildService.recordConcurrentWrites(SearchIndex.USERS, indices,
+                    document.isPresent() ? 1 : 0, document.isPresent() ? 0 : 1);
+            for (String index : indices) {
+                if (document.isPresent()) {
+                    elasticsearchClient.index(i -> i
+                            .index(index)
+                            .id(userId.toString())
+                            .document(document.get()));
+                } else {
+                    elasticsearchClient.delete(d -> d
+                            .index(index)
+                            .id(userId.toString()));
+                }
+            }
+        } catch (Exception e) {
+            log.error("[검색 색인] 유저 색인 실패 - userId: {}, 메시지: {}", userId, e.getMessage());
+        }
+    }
+
+    // 유저 변경이 커밋된 뒤에 반영 (롤백된 변경이 남지 않도록)
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
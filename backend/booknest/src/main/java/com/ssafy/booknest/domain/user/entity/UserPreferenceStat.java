@@ -0,0 +1,56 @@
+package com.ssafy.booknest.domain.user.entity;
+
+import com.ssafy.booknest.domain.user.enums.PreferenceType;
+import com.ssafy.booknest.global.common.Entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+// 유저별 태그/카테고리/작가 평점 누적값 (평점 등록/수정/삭제 시 갱신, 평균 = 합계 / 개수)
+@Entity
+@Table(name = "user_preference_stat",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "type", "name"}))
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserPreferenceStat extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 20, nullable = false)
+    private PreferenceType type;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Double ratingSum;
+
+    @Column(name = "rating_count", nullable = false)
+    private Integer ratingCount;
+
+    public static UserPreferenceStat empty(Integer userId, PreferenceType type, String name) {
+        return UserPreferenceStat.builder()
+                .userId(userId)
+                .type(type)
+                .name(name)
+                .ratingSum(0.0)
+                .ratingCount(0)
+                .build();
+    }
+
+    public void apply(double sumDelta, int countDelta) {
+        this.ratingSum += sumDelta;
+        this.ratingCount += countDelta;
+    }
+
+    public double getAverage() {
+        return ratingCount == 0 ? 0.0 : ratingSum / ratingCount;
+    }
+}
@@ -5,6 +5,8 @@ import com.ssafy.booknest.domain.user.entity.User;
 import com.ssafy.booknest.global.common.Entity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -17,7 +19,8 @@ import org.springframework.data.annotation.LastModifiedDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_category_recommendation")
+@Table(name = "user_category_recommendation",
+        indexes = @Index(name = "idx_user_category_rec_generation_user", columnList = "generation, user_id"))
 @Getter
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -29,7 +32,11 @@ public class UserCategoryRecommendation extends BaseEntity {
     @Column(name = "user_id", nullable = false)
     private Integer userId;
 
-    @ManyToOne
+    // 배치 실행 ID (recommendation_generation에 공개된 세대만 조회)
+    @Column(name = "generation", nullable = false)
+    private Integer generation;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     private Book book;
 
     @LastModifiedDate
@@ -0,0 +1,8 @@
+package com.ssafy.booknest.domain.user.enums;
+
+// 유저 선호 분석 대상
+public enum PreferenceType {
+    TAG,
+    CATEGORY,
+    AUTHOR
+}
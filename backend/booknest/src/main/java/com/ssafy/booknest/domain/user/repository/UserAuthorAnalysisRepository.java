@@ -3,6 +3,7 @@ package com.ssafy.booknest.domain.user.repository;
 import com.ssafy.booknest.domain.user.entity.User;
 import com.ssafy.booknest.domain.user.entity.UserAuthorAnalysis;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,4 +24,9 @@ public interface UserAuthorAnalysisRepository extends JpaRepository<UserAuthorAn
     // 특정 userId에 해당하는 작가 분석 데이터를 삭제합니다.
     void deleteByUserId(Integer userId);
 
+    // 배치 파티션(유저 ID 구간)의 작가 분석 데이터를 삭제합니다.
+    @Modifying
+    @Query("DELETE FROM UserAuthorAnalysis u WHERE u.userId BETWEEN :fromId AND :toId")
+    void deleteByUserIdBetween(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
 }
@@ -0,0 +1,51 @@
+package com.ssafy.booknest.domain.user.repository;
+
+import com.ssafy.booknest.domain.user.entity.UserPreferenceStat;
+import com.ssafy.booknest.domain.user.enums.PreferenceType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserPreferenceStatRepository extends JpaRepository<UserPreferenceStat, Integer> {
+
+    // 평점 변경 시 동시 갱신을 막기 위해 행 잠금 후 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserPreferenceStat s WHERE s.userId = :userId AND s.type = :type AND s.name IN :names")
+    List<UserPreferenceStat> findForUpdate(@Param("userId") Integer userId,
+                                           @Param("type") PreferenceType type,
+                                           @Param("names") Collection<String> names);
+
+    // 누적값 행이 없으면 0으로 생성 (동시에 첫 평점이 들어와도 중복 삽입 없이 한 행만 남음)
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_preference_stat (user_id, type, name, rating_sum, rating_count, created_at)
+        VALUES (:userId, :type, :name, 0, 0, NOW())
+        ON DUPLICATE KEY UPDATE user_id = user_id
+    """, nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Integer userId,
+                        @Param("type") String type,
+                        @Param("name") String name);
+
+    // 유저의 분석 대상별 누적값 전체
+    List<UserPreferenceStat> findByUserIdAndType(Integer userId, PreferenceType type);
+
+    // 전체 재집계 전 해당 분석 대상의 누적값 삭제
+    @Modifying
+    @Query("DELETE FROM UserPreferenceStat s WHERE s.type = :type")
+    void deleteByTypeInBatch(@Param("type") PreferenceType type);
+
+    // 파티션 단위 재집계 전 해당 유저 구간의 누적값 삭제
+    @Modifying
+    @Query("DELETE FROM UserPreferenceStat s WHERE s.type = :type AND s.userId BETWEEN :fromId AND :toId")
+    void deleteByTypeAndUserIdBetween(@Param("type") PreferenceType type,
+                                      @Param("fromId") Integer fromId,
+                                      @Param("toId") Integer toId);
+}
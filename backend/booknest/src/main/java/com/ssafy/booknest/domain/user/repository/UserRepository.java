@@ -3,6 +3,7 @@ package com.ssafy.booknest.domain.user.repository;
 import com.ssafy.booknest.domain.user.entity.User;
 import com.ssafy.booknest.domain.user.enums.Provider;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -19,5 +20,9 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     // 닉네임이 중복되는지(탈퇴하지 않은 사용자 기준) 확인합니다.
     boolean existsByNicknameAndDeletedAtIsNull(String nickname);
 
+    // 배치 파티션 구간 계산용 최대 사용자 ID
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    int findMaxId();
+
 
 }
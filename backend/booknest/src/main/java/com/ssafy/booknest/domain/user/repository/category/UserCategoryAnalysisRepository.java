@@ -3,6 +3,7 @@ package com.ssafy.booknest.domain.user.repository.category;
 import com.ssafy.booknest.domain.user.entity.User;
 import com.ssafy.booknest.domain.user.entity.category.UserCategoryAnalysis;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,4 +20,12 @@ public interface UserCategoryAnalysisRepository extends JpaRepository<UserCatego
     @Query("SELECT u.favoriteCategory FROM UserCategoryAnalysis u WHERE u.userId = :userId")
     List<String> findTopCategoryNamesByUserId(@Param("userId") Integer userId);
 
+    // 배치 파티션(유저 ID 구간)의 카테고리 분석 데이터를 조회합니다.
+    List<UserCategoryAnalysis> findByUserIdBetween(Integer fromId, Integer toId);
+
+    // 배치 파티션(유저 ID 구간)의 카테고리 분석 데이터를 삭제합니다.
+    @Modifying
+    @Query("DELETE FROM UserCategoryAnalysis u WHERE u.userId BETWEEN :fromId AND :toId")
+    void deleteByUserIdBetween(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
 }
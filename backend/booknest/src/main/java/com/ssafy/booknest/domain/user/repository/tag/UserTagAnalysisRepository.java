@@ -3,6 +3,7 @@ package com.ssafy.booknest.domain.user.repository.tag;
 import com.ssafy.booknest.domain.user.entity.User;
 import com.ssafy.booknest.domain.user.entity.tag.UserTagAnalysis;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,5 +21,13 @@ public interface UserTagAnalysisRepository extends JpaRepository<UserTagAnalysis
     @Query("SELECT u.favoriteTag FROM UserTagAnalysis u WHERE u.userId = :userId")
     List<String> findTopTagsByUserId(@Param("userId") Integer userId);
 
+    // 배치 파티션(유저 ID 구간)의 태그 분석 데이터 조회
+    List<UserTagAnalysis> findByUserIdBetween(Integer fromId, Integer toId);
+
+    // 배치 파티션(유저 ID 구간)의 태그 분석 데이터 삭제
+    @Modifying
+    @Query("DELETE FROM UserTagAnalysis u WHERE u.userId BETWEEN :fromId AND :toId")
+    void deleteByUserIdBetween(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
 
 }
@@ -10,7 +10,8 @@ import java.util.List;
 @Repository
 public interface UserTagRecommendationRepository extends JpaRepository<UserTagRecommendation, Integer> {
 
-    List<UserTagRecommendation> findByUserId(Integer userId);
+    // 공개된 세대의 유저 추천 도서
+    List<UserTagRecommendation> findByUserIdAndGeneration(Integer userId, Integer generation);
 
 
 }
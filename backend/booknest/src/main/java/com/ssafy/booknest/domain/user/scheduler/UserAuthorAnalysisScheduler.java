@@ -1,80 +1,31 @@
 package com.ssafy.booknest.domain.user.scheduler;
 
-import com.ssafy.booknest.domain.book.entity.BookAuthor;
-import com.ssafy.booknest.domain.book.entity.evaluation.Rating;
-import com.ssafy.booknest.domain.book.repository.evaluation.RatingRepository;
-import com.ssafy.booknest.domain.user.entity.User;
-import com.ssafy.booknest.domain.user.entity.UserAuthorAnalysis;
-import com.ssafy.booknest.domain.user.repository.UserAuthorAnalysisRepository;
+import com.ssafy.booknest.domain.user.enums.PreferenceType;
+import com.ssafy.booknest.domain.user.service.UserPreferenceService;
+import com.ssafy.booknest.global.batch.BatchJobRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.time.Duration;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class UserAuthorAnalysisScheduler {
 
-    private final RatingRepository ratingRepository;
-    private final UserAuthorAnalysisRepository userAuthorAnalysisRepository;
+    private static final String JOB_NAME = "user-author-analysis";
+    private static final int PARTITION_SIZE = 5_000; // 파티션 하나가 맡는 유저 ID 구간 크기
 
-    @Transactional
-    @Scheduled(fixedRate = 1000 * 60 * 60 * 3) // 3시간마다 실행
-    public void runUserAuthorAnalysisBatch() {
-        log.info("[작가 배치 시작] 유저 선호 분석");
-
-        List<Rating> allRatings = ratingRepository.findAllWithBookAndAuthor();
-
-        Map<Integer, Map<String, List<Double>>> userAuthorRatings = new HashMap<>();
-
-        // 1. 유저별 작가별 평점 수집
-        for (Rating rating : allRatings) {
-            Integer userId = rating.getUser().getId(); // User -> userId
-            userAuthorRatings.putIfAbsent(userId, new HashMap<>());
-
-            for (BookAuthor bookAuthor : rating.getBook().getBookAuthors()) {
-                String authorName = bookAuthor.getAuthor().getName();
-                userAuthorRatings.get(userId)
-                        .computeIfAbsent(authorName, k -> new ArrayList<>())
-                        .add(rating.getRating());
-            }
-        }
+    private final UserPreferenceService userPreferenceService;
+    private final BatchJobRunner batchJobRunner;
 
-        // 2. 유저별 평균 평점 기준 상위 작가 5명 저장
-        for (Map.Entry<Integer, Map<String, List<Double>>> entry : userAuthorRatings.entrySet()) {
-            Integer userId = entry.getKey();
-            Map<String, List<Double>> authorRatings = entry.getValue();
-
-            List<String> topAuthors = authorRatings.entrySet().stream()
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            e -> e.getValue().stream().mapToDouble(Double::doubleValue).average().orElse(0.0)
-                    ))
-                    .entrySet().stream()
-                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
-                    .limit(5)
-                    .map(Map.Entry::getKey)
-                    .toList();
-
-            // 기존 분석 데이터 삭제
-            userAuthorAnalysisRepository.deleteByUserId(userId);
-
-            // 새로 저장
-            for (String author : topAuthors) {
-                UserAuthorAnalysis analysis = UserAuthorAnalysis.builder()
-                        .userId(userId) // User -> userId
-                        .favoriteAuthor(author)
-                        .build();
-                userAuthorAnalysisRepository.save(analysis);
-            }
-        }
-
-        log.info("[작가 배치 완료] 유저 분석 테이블 갱신 완료");
-        log.info("********************************************");
+    // 평점 변경 시 누적값이 갱신되고 dirty 유저만 다시 계산되므로, 전체 재집계는 정합성 확인용으로 하루 한 번만 실행
+    // 10분마다 확인해 24시간이 지났거나 중단된 실행이 있으면 유저 ID 구간 파티션으로 나누어 여러 서버에서 처리
+    @Scheduled(fixedDelay = 1000 * 60 * 10, initialDelay = 1000 * 60)
+    public void runUserAuthorAnalysisBatch() {
+        batchJobRunner.runPartitioned(JOB_NAME, Duration.ofHours(24), PARTITION_SIZE,
+                (runId, fromId, toId) -> userPreferenceService.rebuildRange(PreferenceType.AUTHOR, fromId, toId));
     }
 }
@@ -0,0 +1,50 @@
+package com.ssafy.booknest.domain.user.scheduler;
+
+import com.ssafy.booknest.domain.user.service.UserPreferenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPreferenceDirtyScheduler {
+
+    private static final int POP_SIZE = 500;
+
+    private final UserPreferenceService userPreferenceService;
+
+    // 평점이 바뀐 유저만 선호 태그/카테고리/작가 상위 5개를 다시 계산
+    @Scheduled(fixedDelay = 1000 * 60 * 5) // 5분마다 실행
+    public void runUserPreferenceDirtyBatch() {
+        int recomputed = 0;
+        List<Integer> userIds;
+        // 실패한 유저는 바로 다시 넣으면 이번 실행에서 계속 다시 꺼내므로 끝난 뒤에 다음 주기용으로 되돌림
+        List<Integer> failedUserIds = new ArrayList<>();
+
+        while (!(userIds = userPreferenceService.popDirtyUsers(POP_SIZE)).isEmpty()) {
+            for (Integer userId : userIds) {
+                try {
+                    userPreferenceService.recomputeUser(userId);
+                    recomputed++;
+                } catch (Exception e) {
+                    log.error("유저 선호 분석 갱신 실패 - userId: {}, 메시지: {}", userId, e.getMessage());
+                    failedUserIds.add(userId);
+                }
+            }
+        }
+
+        if (!failedUserIds.isEmpty()) {
+            userPreferenceService.markDirty(failedUserIds);
+            log.warn("[배치 보류] 유저 선호 분석 갱신 실패 {}명은 다음 주기에 재시도", failedUserIds.size());
+        }
+
+        if (recomputed > 0) {
+            log.info("[배치 완료] 유저 선호 분석 갱신. 총 {}명", recomputed);
+        }
+    }
+}
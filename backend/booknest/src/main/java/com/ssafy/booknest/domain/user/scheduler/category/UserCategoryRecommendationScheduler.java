@@ -1,18 +1,20 @@
 package com.ssafy.booknest.domain.user.scheduler.category;
 
-import com.ssafy.booknest.domain.book.entity.Book;
-import com.ssafy.booknest.domain.book.repository.BookRepository;
+import com.ssafy.booknest.domain.book.service.RandomBookSampler;
 import com.ssafy.booknest.domain.user.entity.category.UserCategoryAnalysis;
-import com.ssafy.booknest.domain.user.entity.category.UserCategoryRecommendation;
 import com.ssafy.booknest.domain.user.repository.category.UserCategoryAnalysisRepository;
-import com.ssafy.booknest.domain.user.repository.category.UserCategoryRecommendationRepository;
+import com.ssafy.booknest.global.batch.BatchJobRunner;
+import com.ssafy.booknest.global.batch.BulkInsertWriter;
+import com.ssafy.booknest.global.batch.RecommendationGenerationService;
+import com.ssafy.booknest.global.batch.enums.RecommendationTable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -20,40 +22,44 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserCategoryRecommendationScheduler {
 
+    private static final String JOB_NAME = "user-category-recommendation";
+    private static final int PARTITION_SIZE = 5_000; // 파티션 하나가 맡는 유저 ID 구간 크기
+
     private final UserCategoryAnalysisRepository analysisRepository;
-    private final UserCategoryRecommendationRepository recommendationRepository;
-    private final BookRepository bookRepository;
+    private final RandomBookSampler randomBookSampler;
+    private final BatchJobRunner batchJobRunner;
+    private final BulkInsertWriter bulkInsertWriter;
+    private final RecommendationGenerationService recommendationGenerationService;
 
-    @Transactional
-    @Scheduled(fixedRate = 1000 * 60 * 60 * 1, initialDelay = 1000 * 60 * 3) // 1시간마다 실행
+    // 10분마다 확인해 1시간이 지났거나 중단된 실행이 있으면 유저 ID 구간 파티션으로 나누어 처리
+    @Scheduled(fixedDelay = 1000 * 60 * 10, initialDelay = 1000 * 60 * 3)
     public void runCategoryRecommendationBatch() {
-        log.info("[카테고리 추천 배치 시작] 유저 선호 카테고리 기반 추천 도서 저장");
-
-        // 1. 기존 추천 모두 삭제
-        recommendationRepository.deleteAllInBatch();
-
-        // 2. 유저별 선호 카테고리 분석 결과 가져오기
-        List<UserCategoryAnalysis> allAnalyses = analysisRepository.findAll();
-        int saved = 0;
+        batchJobRunner.runPartitioned(JOB_NAME, Duration.ofHours(1), PARTITION_SIZE, this::recommendRange,
+                runId -> recommendationGenerationService.publish(RecommendationTable.USER_CATEGORY_RECOMMENDATION, runId));
+    }
 
-        for (UserCategoryAnalysis analysis : allAnalyses) {
-            String categoryName = analysis.getFavoriteCategory();
-            Integer userId = analysis.getUserId();
+    // 유저 ID 구간 하나의 추천 도서를 새 세대(runId)로 저장 (조회 중인 현재 세대는 그대로 유지, 모든 파티션이 끝나면 공개)
+    private long recommendRange(int runId, int fromId, int toId) {
+        // 1. 구간 유저의 선호 카테고리 분석 결과 가져오기
+        List<UserCategoryAnalysis> analyses = analysisRepository.findByUserIdBetween(fromId, toId);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long saved;
 
-            List<Book> books = bookRepository.findRandomBooksByCategory(categoryName, PageRequest.of(0, 15));
+        // 2. 추천 도서 조회 후 JDBC 배치로 일괄 저장
+        try (BulkInsertWriter.Batch batch = bulkInsertWriter.open("user_category_recommendation", "generation", "user_id", "category", "book_id", "updated_at")) {
+            for (UserCategoryAnalysis analysis : analyses) {
+                String categoryName = analysis.getFavoriteCategory();
+                Integer userId = analysis.getUserId();
 
-            for (Book book : books) {
-                UserCategoryRecommendation recommendation = UserCategoryRecommendation.builder()
-                        .userId(userId)
-                        .category(categoryName)
-                        .book(book)
-                        .build();
-                recommendationRepository.save(recommendation);
-                saved++;
+                List<Integer> bookIds = randomBookSampler.sampleByCategory(categoryName, 15);
+                for (Integer bookId : bookIds) {
+                    batch.add(runId, userId, categoryName, bookId, now);
+                }
             }
+            saved = batch.getRows();
         }
 
-        log.info("[카테고리 추천 배치 완료] 총 저장된 추천 도서 수: {}", saved);
-        log.info("*********************************************************");
+        log.info("[카테고리 추천 배치] 유저 {}~{} 저장된 추천 도서 수: {}", fromId, toId, saved);
+        return saved;
     }
 }
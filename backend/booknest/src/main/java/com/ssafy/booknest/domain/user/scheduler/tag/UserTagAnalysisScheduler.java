@@ -1,83 +1,31 @@
 package com.ssafy.booknest.domain.user.scheduler.tag;
 
-import com.ssafy.booknest.domain.book.entity.BookTag;
-import com.ssafy.booknest.domain.book.entity.evaluation.Rating;
-import com.ssafy.booknest.domain.book.repository.evaluation.RatingRepository;
-import com.ssafy.booknest.domain.user.entity.tag.UserTagAnalysis;
-import com.ssafy.booknest.domain.user.repository.tag.UserTagAnalysisRepository;
+import com.ssafy.booknest.domain.user.enums.PreferenceType;
+import com.ssafy.booknest.domain.user.service.UserPreferenceService;
+import com.ssafy.booknest.global.batch.BatchJobRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.time.Duration;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class UserTagAnalysisScheduler {
 
-    private final RatingRepository ratingRepository;
-    private final UserTagAnalysisRepository userTagAnalysisRepository;
+    private static final String JOB_NAME = "user-tag-analysis";
+    private static final int PARTITION_SIZE = 5_000; // 파티션 하나가 맡는 유저 ID 구간 크기
 
-    @Transactional
-    @Scheduled(fixedRate = 1000 * 60 * 90) // 1시간 30분마다 실행
-    public void runUserTagAnalysisBatch() {
-        log.info("[태그 배치 시작] 유저 선호 분석");
-
-        // 1. 모든 평점 데이터를 가져옴
-        List<Rating> allRatings = ratingRepository.findAllWithBookAndTags();
-
-        // 2. 유저별 태그 → 평점 리스트 맵핑
-        Map<Integer, Map<String, List<Double>>> userTagRatings = new HashMap<>();
-
-        for (Rating rating : allRatings) {
-            Integer userId = rating.getUser().getId();
-            List<BookTag> bookTags = rating.getBook().getBookTags();
-
-            userTagRatings.putIfAbsent(userId, new HashMap<>());
-
-            if (bookTags != null) {
-                for (BookTag bookTag : bookTags) {
-                    String tagName = bookTag.getTag().getName();
-                    userTagRatings.get(userId)
-                            .computeIfAbsent(tagName, k -> new ArrayList<>())
-                            .add(rating.getRating());
-                }
-            }
-        }
+    private final UserPreferenceService userPreferenceService;
+    private final BatchJobRunner batchJobRunner;
 
-        // 3. 유저별 상위 5개 태그 분석
-        for (Map.Entry<Integer, Map<String, List<Double>>> entry : userTagRatings.entrySet()) {
-            Integer userId = entry.getKey();
-            Map<String, List<Double>> tagMap = entry.getValue();
-
-            List<String> topTags = tagMap.entrySet().stream()
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            e -> e.getValue().stream().mapToDouble(Double::doubleValue).average().orElse(0.0)
-                    ))
-                    .entrySet().stream()
-                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
-                    .limit(5)
-                    .map(Map.Entry::getKey)
-                    .toList();
-
-            // 4. 기존 기록 삭제 후 재삽입
-            userTagAnalysisRepository.deleteByUserId(userId);
-
-            for (String tag : topTags) {
-                UserTagAnalysis analysis = UserTagAnalysis.builder()
-                        .userId(userId)
-                        .favoriteTag(tag)
-                        .build();
-                userTagAnalysisRepository.save(analysis);
-            }
-        }
-
-        log.info("[태그 배치 완료] 유저 분석 테이블 갱신 완료");
-        log.info("***************************************************************************************************");
+    // 평점 변경 시 누적값이 갱신되고 dirty 유저만 다시 계산되므로, 전체 재집계는 정합성 확인용으로 하루 한 번만 실행
+    // 10분마다 확인해 24시간이 지났거나 중단된 실행이 있으면 유저 ID 구간 파티션으로 나누어 여러 서버에서 처리
+    @Scheduled(fixedDelay = 1000 * 60 * 10, initialDelay = 1000 * 60)
+    public void runUserTagAnalysisBatch() {
+        batchJobRunner.runPartitioned(JOB_NAME, Duration.ofHours(24), PARTITION_SIZE,
+                (runId, fromId, toId) -> userPreferenceService.rebuildRange(PreferenceType.TAG, fromId, toId));
     }
 }
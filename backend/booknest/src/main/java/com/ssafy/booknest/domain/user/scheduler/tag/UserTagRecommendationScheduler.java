@@ -1,18 +1,20 @@
 package com.ssafy.booknest.domain.user.scheduler.tag;
 
-import com.ssafy.booknest.domain.book.entity.Book;
-import com.ssafy.booknest.domain.book.repository.BookRepository;
+import com.ssafy.booknest.domain.book.service.RandomBookSampler;
 import com.ssafy.booknest.domain.user.entity.tag.UserTagAnalysis;
-import com.ssafy.booknest.domain.user.entity.tag.UserTagRecommendation;
 import com.ssafy.booknest.domain.user.repository.tag.UserTagAnalysisRepository;
-import com.ssafy.booknest.domain.user.repository.tag.UserTagRecommendationRepository;
+import com.ssafy.booknest.global.batch.BatchJobRunner;
+import com.ssafy.booknest.global.batch.BulkInsertWriter;
+import com.ssafy.booknest.global.batch.RecommendationGenerationService;
+import com.ssafy.booknest.global.batch.enums.RecommendationTable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -20,43 +22,44 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserTagRecommendationScheduler {
 
+    private static final String JOB_NAME = "user-tag-recommendation";
+    private static final int PARTITION_SIZE = 5_000; // 파티션 하나가 맡는 유저 ID 구간 크기
+
     private final UserTagAnalysisRepository userTagAnalysisRepository;
-    private final UserTagRecommendationRepository recommendationRepository;
-    private final BookRepository bookRepository;
+    private final RandomBookSampler randomBookSampler;
+    private final BatchJobRunner batchJobRunner;
+    private final BulkInsertWriter bulkInsertWriter;
+    private final RecommendationGenerationService recommendationGenerationService;
 
-    @Transactional
-    @Scheduled(fixedRate = 1000 * 60 * 90, initialDelay = 1000 * 60 * 3) // 1시간 30분 마다 실행
+    // 10분마다 확인해 1시간 30분이 지났거나 중단된 실행이 있으면 유저 ID 구간 파티션으로 나누어 처리
+    @Scheduled(fixedDelay = 1000 * 60 * 10, initialDelay = 1000 * 60 * 3)
     public void runUserTagRecommendationBatch() {
-        log.info("[추천 배치 시작] 유저 선호 태그 기반 추천 도서 저장 시작");
-
-        // 1. 기존 추천 모두 삭제
-        recommendationRepository.deleteAllInBatch();
-
-        // 2. 유저의 태그 분석 정보 가져오기
-        List<UserTagAnalysis> analyses = userTagAnalysisRepository.findAll();
-        int saved = 0;
-
-        for (UserTagAnalysis analysis : analyses) {
-            String tag = analysis.getFavoriteTag();
-            Integer userId = analysis.getUserId(); // userId로 변경
+        batchJobRunner.runPartitioned(JOB_NAME, Duration.ofMinutes(90), PARTITION_SIZE, this::recommendRange,
+                runId -> recommendationGenerationService.publish(RecommendationTable.USER_TAG_RECOMMENDATION, runId));
+    }
 
-            // 3. 추천 도서 조회
-            List<Book> recommendedBooks = bookRepository.findRandomBooksByTag(tag, PageRequest.of(0, 15));
+    // 유저 ID 구간 하나의 추천 도서를 새 세대(runId)로 저장 (조회 중인 현재 세대는 그대로 유지, 모든 파티션이 끝나면 공개)
+    private long recommendRange(int runId, int fromId, int toId) {
+        // 1. 구간 유저의 태그 분석 정보 가져오기
+        List<UserTagAnalysis> analyses = userTagAnalysisRepository.findByUserIdBetween(fromId, toId);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long saved;
 
-            // 4. 추천 도서 저장
-            for (Book book : recommendedBooks) {
-                UserTagRecommendation recommendation = UserTagRecommendation.builder()
-                        .userId(userId) // userId로 저장
-                        .tag(tag)
-                        .book(book)
-                        .build();
+        // 2. 추천 도서 조회 후 JDBC 배치로 일괄 저장
+        try (BulkInsertWriter.Batch batch = bulkInsertWriter.open("user_tag_recommendation", "generation", "user_id", "tag", "book_id", "updated_at")) {
+            for (UserTagAnalysis analysis : analyses) {
+                String tag = analysis.getFavoriteTag();
+                Integer userId = analysis.getUserId();
 
-                recommendationRepository.save(recommendation);
-                saved++;
+                List<Integer> recommendedBookIds = randomBookSampler.sampleByTag(tag, 15);
+                for (Integer bookId : recommendedBookIds) {
+                    batch.add(runId, userId, tag, bookId, now);
+                }
             }
+            saved = batch.getRows();
         }
 
-        log.info("[추천 배치 완료] 총 추천 저장 건수: {}", saved);
-        log.info("***************************************************************************************************");
+        log.info("[추천 배치] 유저 {}~{} 추천 저장 건수: {}", fromId, toId, saved);
+        return saved;
     }
 }
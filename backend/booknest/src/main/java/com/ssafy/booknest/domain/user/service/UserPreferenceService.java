@@ -0,0 +1,285 @@
+package com.ssafy.booknest.domain.user.service;
+
+import com.ssafy.booknest.domain.book.repository.BookRepository;
+import com.ssafy.booknest.domain.book.repository.evaluation.RatingStreamRepository;
+import com.ssafy.booknest.domain.user.entity.UserAuthorAnalysis;
+import com.ssafy.booknest.domain.user.entity.UserPreferenceStat;
+import com.ssafy.booknest.domain.user.entity.category.UserCategoryAnalysis;
+import com.ssafy.booknest.domain.user.entity.tag.UserTagAnalysis;
+import com.ssafy.booknest.domain.user.enums.PreferenceType;
+import com.ssafy.booknest.domain.user.repository.UserAuthorAnalysisRepository;
+import com.ssafy.booknest.domain.user.repository.UserPreferenceStatRepository;
+import com.ssafy.booknest.domain.user.repository.category.UserCategoryAnalysisRepository;
+import com.ssafy.booknest.domain.user.repository.tag.UserTagAnalysisRepository;
+import com.ssafy.booknest.global.common.util.PairAccumulator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+// 유저 선호 태그/카테고리/작가 분석
+// 평점 변경 시 누적값만 갱신하고 유저를 dirty로 표시, 상위 5개는 dirty 유저만 주기적으로 다시 계산
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserPreferenceService {
+
+    private static final String DIRTY_USERS_KEY = "user:preference:dirty";
+    private static final int TOP_N = 5;
+    private static final int FLUSH_INTERVAL = 1_000;
+
+    private final UserPreferenceStatRepository userPreferenceStatRepository;
+    private final UserTagAnalysisRepository userTagAnalysisRepository;
+    private final UserCategoryAnalysisRepository userCategoryAnalysisRepository;
+    private final UserAuthorAnalysisRepository userAuthorAnalysisRepository;
+    private final RatingStreamRepository ratingStreamRepository;
+    private final BookRepository bookRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 평점 등록 반영 (평점 저장과 같은 트랜잭션에서 호출)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyCreate(Integer userId, Integer bookId, double score) {
+        apply(userId, bookId, score, 1);
+    }
+
+    // 평점 수정 반영
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyUpdate(Integer userId, Integer bookId, double oldScore, double newScore) {
+        apply(userId, bookId, newScore - oldScore, 0);
+    }
+
+    // 평점 삭제 반영
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDelete(Integer userId, Integer bookId, double score) {
+        apply(userId, bookId, -score, -1);
+    }
+
+    // dirty 유저 목록을 최대 count명 꺼냄
+    public List<Integer> popDirtyUsers(long count) {
+        List<String> members = redisTemplate.opsForSet().pop(DIRTY_USERS_KEY, count);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Integer::valueOf).toList();
+    }
+
+    public void markDirty(Integer userId) {
+        redisTemplate.opsForSet().add(DIRTY_USERS_KEY, String.valueOf(userId));
+    }
+
+    // 다시 계산하지 못한 유저는 다음 주기에 재시도 (배치 실행이 끝난 뒤 호출)
+    public void markDirty(Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(DIRTY_USERS_KEY, userIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    // 유저 한 명의 상위 5개 태그/카테고리/작가를 누적값 기준으로 다시 계산
+    @Transactional
+    public void recomputeUser(Integer userId) {
+        for (PreferenceType type : PreferenceType.values()) {
+            List<String> top = topNames(userPreferenceStatRepository.findByUserIdAndType(userId, type));
+            writeAnalysis(type, userId, top);
+        }
+    }
+
+    // 원본 평점 테이블 기준으로 유저 ID 구간의 누적값과 분석 테이블 재생성 (정합성 확인용, 배치 파티션 단위로 호출)
+    // 평점은 튜플 스트리밍으로 (유저, 태그/카테고리/작가) 단위 누적기에만 모으므로 평점 수와 무관하게 메모리 사용량 유지
+    @Transactional
+    public int rebuildRange(PreferenceType type, int fromUserId, int toUserId) {
+        RatingStreamRepository.Dimension dimension = switch (type) {
+            case TAG -> RatingStreamRepository.Dimension.TAG;
+            case CATEGORY -> RatingStreamRepository.Dimension.CATEGORY;
+            case AUTHOR -> RatingStreamRepository.Dimension.AUTHOR;
+        };
+
+        PairAccumulator accumulator = new PairAccumulator();
+        long rows = ratingStreamRepository.stream(dimension, fromUserId, toUserId,
+                (userId, bookId, dimensionId, rating) -> accumulator.add(userId, dimensionId, rating));
+
+        Set<Integer> dimensionIds = new HashSet<>();
+        accumulator.forEachSorted((userId, dimensionId, sum, count) -> dimensionIds.add(dimensionId));
+        Map<Integer, String> names = ratingStreamRepository.findNames(dimension, dimensionIds);
+
+        userPreferenceStatRepository.deleteByTypeAndUserIdBetween(type, fromUserId, toUserId);
+        deleteAnalysis(type, fromUserId, toUserId);
+
+        // 유저 ID 순으로 전달되므로 유저가 바뀔 때마다 해당 유저의 누적값과 상위 5개 저장
+        UserStatBuffer buffer = new UserStatBuffer(type);
+        accumulator.forEachSorted((userId, dimensionId, sum, count) -> {
+            String name = names.get(dimensionId);
+            if (name == null) {
+                return;
+            }
+            if (buffer.userId != null && buffer.userId != userId) {
+                flushUser(buffer);
+            }
+            buffer.add(userId, name, sum, count);
+        });
+        flushUser(buffer);
+
+        log.info("[유저 선호 재집계] {} 유저 {}~{} 평점 튜플 {}건, 유저 {}명", type, fromUserId, toUserId, rows, buffer.users);
+        return buffer.users;
+    }
+
+    private void flushUser(UserStatBuffer buffer) {
+        if (buffer.userId == null) {
+            return;
+        }
+
+        List<UserPreferenceStat> stats = new ArrayList<>(buffer.stats.values());
+        userPreferenceStatRepository.saveAll(stats);
+        insertAnalysis(buffer.type, buffer.userId, topNames(stats));
+
+        buffer.written += stats.size();
+        buffer.users++;
+        buffer.userId = null;
+        buffer.stats.clear();
+
+        // 저장한 엔티티가 영속성 컨텍스트에 계속 쌓이지 않도록 주기적으로 비움
+        if (buffer.written >= FLUSH_INTERVAL) {
+            entityManager.flush();
+            entityManager.clear();
+            buffer.written = 0;
+        }
+    }
+
+    // 재집계 중 한 유저분의 누적값 (같은 이름의 작가 등은 합산)
+    private static class UserStatBuffer {
+        private final PreferenceType type;
+        private final Map<String, UserPreferenceStat> stats = new LinkedHashMap<>();
+        private Integer userId;
+        private int users;
+        private int written;
+
+        private UserStatBuffer(PreferenceType type) {
+            this.type = type;
+        }
+
+        private void add(int userId, String name, double sum, int count) {
+            this.userId = userId;
+            stats.computeIfAbsent(name, key -> UserPreferenceStat.empty(userId, type, key))
+                    .apply(sum, count);
+        }
+    }
+
+    private void apply(Integer userId, Integer bookId, double sumDelta, int countDelta) {
+        for (PreferenceType type : PreferenceType.values()) {
+            Set<String> names = findBookNames(type, bookId);
+            if (names.isEmpty()) {
+                continue;
+            }
+
+            Map<String, UserPreferenceStat> stats = findForUpdate(userId, type, names);
+            // 없는 행은 먼저 만들고 다시 잠금 조회 (같은 유저의 첫 평점이 동시에 들어와도 한쪽이 기다렸다가 이어서 반영)
+            // 누적값이 없는 상태에서의 수정/삭제는 전체 재집계에서 맞춰짐
+            if (countDelta > 0 && stats.size() < names.size()) {
+                for (String name : names) {
+                    if (!stats.containsKey(name)) {
+                        userPreferenceStatRepository.insertIfAbsent(userId, type.name(), name);
+                    }
+                }
+                stats = findForUpdate(userId, type, names);
+            }
+
+            for (UserPreferenceStat stat : stats.values()) {
+                stat.apply(sumDelta, countDelta);
+                if (stat.getRatingCount() <= 0) {
+                    userPreferenceStatRepository.delete(stat);
+                }
+            }
+        }
+
+        markDirtyAfterCommit(userId);
+    }
+
+    private Map<String, UserPreferenceStat> findForUpdate(Integer userId, PreferenceType type, Set<String> names) {
+        Map<String, UserPreferenceStat> stats = new HashMap<>();
+        for (UserPreferenceStat stat : userPreferenceStatRepository.findForUpdate(userId, type, names)) {
+            stats.put(stat.getName(), stat);
+        }
+        return stats;
+    }
+
+    // 커밋 전에 배치가 먼저 읽어 변경을 놓치지 않도록 커밋 후에 dirty 표시
+    private void markDirtyAfterCommit(Integer userId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markDirty(userId);
+            }
+        });
+    }
+
+    private Set<String> findBookNames(PreferenceType type, Integer bookId) {
+        List<Integer> bookIds = List.of(bookId);
+        List<Object[]> rows = switch (type) {
+            case TAG -> bookRepository.findTagNamesByBookIdIn(bookIds);
+            case CATEGORY -> bookRepository.findCategoryNamesByBookIdIn(bookIds);
+            case AUTHOR -> bookRepository.findAuthorNamesByBookIdIn(bookIds);
+        };
+
+        Set<String> names = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                names.add((String) row[1]);
+            }
+        }
+        return names;
+    }
+
+    // 평균 평점 내림차순 (같으면 평점 개수가 많은 순, 이름순) 상위 5개
+    private List<String> topNames(List<UserPreferenceStat> stats) {
+        return stats.stream()
+                .filter(stat -> stat.getRatingCount() > 0)
+                .sorted(Comparator.comparingDouble(UserPreferenceStat::getAverage).reversed()
+                        .thenComparing(Comparator.comparingInt(UserPreferenceStat::getRatingCount).reversed())
+                        .thenComparing(UserPreferenceStat::getName))
+                .limit(TOP_N)
+                .map(UserPreferenceStat::getName)
+                .toList();
+    }
+
+    private void writeAnalysis(PreferenceType type, Integer userId, List<String> names) {
+        switch (type) {
+            case TAG -> userTagAnalysisRepository.deleteByUserId(userId);
+            case CATEGORY -> userCategoryAnalysisRepository.deleteByUserId(userId);
+            case AUTHOR -> userAuthorAnalysisRepository.deleteByUserId(userId);
+        }
+        insertAnalysis(type, userId, names);
+    }
+
+    private void insertAnalysis(PreferenceType type, Integer userId, List<String> names) {
+        switch (type) {
+            case TAG -> userTagAnalysisRepository.saveAll(names.stream()
+                    .map(name -> UserTagAnalysis.builder().userId(userId).favoriteTag(name).build())
+                    .toList());
+            case CATEGORY -> userCategoryAnalysisRepository.saveAll(names.stream()
+                    .map(name -> UserCategoryAnalysis.builder().userId(userId).favoriteCategory(name).build())
+                    .toList());
+            case AUTHOR -> userAuthorAnalysisRepository.saveAll(names.stream()
+                    .map(name -> UserAuthorAnalysis.builder().userId(userId).favoriteAuthor(name).build())
+                    .toList());
+        }
+    }
+
+    private void deleteAnalysis(PreferenceType type, int fromUserId, int toUserId) {
+        switch (type) {
+            case TAG -> userTagAnalysisRepository.deleteByUserIdBetween(fromUserId, toUserId);
+            case CATEGORY -> userCategoryAnalysisRepository.deleteByUserIdBetween(fromUserId, toUserId);
+            case AUTHOR -> userAuthorAnalysisRepository.deleteByUserIdBetween(fromUserId, toUserId);
+        }
+    }
+}
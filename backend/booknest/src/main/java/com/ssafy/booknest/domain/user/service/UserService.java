@@ -5,6 +5,7 @@ import com.ssafy.booknest.domain.book.repository.AuthorRepository;
 import com.ssafy.booknest.domain.book.repository.evaluation.RatingRepository;
 import com.ssafy.booknest.domain.book.repository.evaluation.ReviewRepository;
 import com.ssafy.booknest.domain.follow.repository.FollowRepository;
+import com.ssafy.booknest.domain.search.service.UserIndexingService;
 import com.ssafy.booknest.domain.user.dto.request.UserUpdateImgRequest;
 import com.ssafy.booknest.domain.user.dto.response.FavoriteAuthorDto;
 import com.ssafy.booknest.domain.user.dto.response.UserInfoResponse;
@@ -43,6 +44,7 @@ public class UserService {
     private final UserCategoryAnalysisRepository userCategoryAnalysisRepository;
     private final UserAuthorAnalysisRepository userAuthorAnalysisRepository;
     private final AuthorRepository authorRepository;
+    private final UserIndexingService userIndexingService;
 
     @Transactional
     public void deleteUser(Integer userId) {
@@ -53,6 +55,9 @@ public class UserService {
 
         user.updateDeletedAt(LocalDateTime.now());
         userRepository.save(user);
+
+        // 탈퇴한 유저는 유저 검색에서 제외
+        userIndexingService.reindex(userId);
     }
 
     public Boolean existsById(Integer userId) {
@@ -68,6 +73,7 @@ public class UserService {
         // 닉네임
         if (dto.getNickname() != null && !dto.getNickname().isEmpty()) {
             user.updateNickname(dto.getNickname());
+            userIndexingService.reindex(userId);
         }
 
         // 성별
@@ -223,5 +229,6 @@ public class UserService {
                 : dto.getImgurl();
 
         user.updatedProfileUrl(imgUrl);
+        userIndexingService.reindex(userId);
     }
 }
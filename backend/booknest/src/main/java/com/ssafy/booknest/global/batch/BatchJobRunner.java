@@ -0,0 +1,261 @@
+package com.ssafy.booknest.global.batch;
+
+import com.ssafy.booknest.domain.user.repository.UserRepository;
+import com.ssafy.booknest.global.batch.entity.BatchJobRun;
+import com.ssafy.booknest.global.batch.entity.BatchPartition;
+import com.ssafy.booknest.global.batch.enums.BatchStatus;
+import com.ssafy.booknest.global.batch.repository.BatchJobRunRepository;
+import com.ssafy.booknest.global.batch.repository.BatchPartitionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+// 유저 ID 구간 파티션 단위 배치 실행기
+// - 실행 계획(파티션 생성)은 배치 이름 잠금을 잡은 노드 하나만 수행
+// - 파티션은 각각 ShedLock 잠금으로 점유하므로 여러 노드와 로컬 워커 스레드에 나뉘어 처리
+// - 진행 상황은 batch_job_run / batch_partition에 기록되고, 노드 장애로 끝나지 않은 실행은 다음 호출에서 이어서 처리
+@Slf4j
+@Component
+public class BatchJobRunner {
+
+    private static final int WORKER_THREADS = 4;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration PLAN_LOCK_AT_MOST = Duration.ofMinutes(5);
+    // 파티션 하나의 최대 처리 시간 (노드 장애 시 이 시간이 지나면 다른 노드가 이어서 처리)
+    private static final Duration PARTITION_LEASE = Duration.ofMinutes(30);
+
+    private final LockProvider lockProvider;
+    private final BatchJobRunRepository batchJobRunRepository;
+    private final BatchPartitionRepository batchPartitionRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate partitionTransactionTemplate;
+    private final ExecutorService workerPool = Executors.newFixedThreadPool(WORKER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "batch-partition-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final String nodeName = resolveNodeName();
+
+    public BatchJobRunner(LockProvider lockProvider,
+                          BatchJobRunRepository batchJobRunRepository,
+                          BatchPartitionRepository batchPartitionRepository,
+                          UserRepository userRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.lockProvider = lockProvider;
+        this.batchJobRunRepository = batchJobRunRepository;
+        this.batchPartitionRepository = batchPartitionRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 유저 ID를 partitionSize 구간으로 나누어 실행 (마지막 실행 후 interval이 지나지 않았고 진행 중인 실행도 없으면 건너뜀)
+    public void runPartitioned(String jobName, Duration interval, int partitionSize, PartitionWorker worker) {
+        run(jobName, interval, partitionSize, worker, runId -> { });
+    }
+
+    // 모든 파티션이 성공하고 처리 건수가 있을 때만 onCompleted(runId) 호출 (새 세대 공개 등)
+    public void runPartitioned(String jobName, Duration interval, int partitionSize, PartitionWorker worker,
+                               IntConsumer onCompleted) {
+        run(jobName, interval, partitionSize, worker, onCompleted);
+    }
+
+    // 구간 없이 한 번에 처리하는 배치 (파티션 1개, 클러스터에서 한 노드만 실행)
+    public void runSingle(String jobName, Duration interval, PartitionWorker worker, IntConsumer onCompleted) {
+        run(jobName, interval, 0, worker, onCompleted);
+    }
+
+    private void run(String jobName, Duration interval, int partitionSize, PartitionWorker worker,
+                     IntConsumer onCompleted) {
+        Optional<BatchJobRun> run = planOrResume(jobName, interval, partitionSize);
+        if (run.isEmpty()) {
+            return;
+        }
+
+        Integer runId = run.get().getId();
+        List<BatchPartition> partitions = batchPartitionRepository.findByRunIdOrderByPartitionNo(runId);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (BatchPartition partition : partitions) {
+            if (!partition.isFinished()) {
+                futures.add(workerPool.submit(() -> processPartition(jobName, partition.getId(), worker)));
+            }
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[{}] 파티션 처리 대기 실패: {}", jobName, e.getMessage());
+            }
+        }
+
+        finishIfDone(jobName, runId, onCompleted);
+    }
+
+    // 진행 중인 실행이 있으면 이어서, 없으면 주기가 지났을 때만 새 실행 생성
+    private Optional<BatchJobRun> planOrResume(String jobName, Duration interval, int partitionSize) {
+        Optional<SimpleLock> lock = lockProvider.lock(
+                new LockConfiguration(Instant.now(), jobName, PLAN_LOCK_AT_MOST, Duration.ZERO));
+        if (lock.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(transactionTemplate.execute(status -> {
+                Optional<BatchJobRun> last = batchJobRunRepository.findFirstByJobNameOrderByIdDesc(jobName);
+                if (last.isPresent() && last.get().isRunning()) {
+                    log.info("[{}] 진행 중인 실행 #{} 이어서 처리", jobName, last.get().getId());
+                    return last.get();
+                }
+                if (last.isPresent() && last.get().getCreatedAt().isAfter(LocalDateTime.now().minus(interval))) {
+                    return null;
+                }
+                return createRun(jobName, partitionSize);
+            }));
+        } finally {
+            lock.get().unlock();
+        }
+    }
+
+    private BatchJobRun createRun(String jobName, int partitionSize) {
+        List<int[]> ranges = new ArrayList<>();
+        if (partitionSize <= 0) {
+            ranges.add(new int[]{0, Integer.MAX_VALUE});
+        } else {
+            int maxId = userRepository.findMaxId();
+            for (long from = 0; from <= maxId; from += partitionSize) {
+                ranges.add(new int[]{(int) from, (int) Math.min(from + partitionSize - 1, Integer.MAX_VALUE)});
+            }
+            // 마지막 구간은 실행 중 가입한 유저까지 포함
+            ranges.get(ranges.size() - 1)[1] = Integer.MAX_VALUE;
+        }
+
+        BatchJobRun run = batchJobRunRepository.save(BatchJobRun.builder()
+                .jobName(jobName)
+                .status(BatchStatus.RUNNING)
+                .totalPartitions(ranges.size())
+                .build());
+
+        List<BatchPartition> partitions = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            partitions.add(BatchPartition.builder()
+                    .runId(run.getId())
+                    .partitionNo(i)
+                    .fromId(ranges.get(i)[0])
+                    .toId(ranges.get(i)[1])
+                    .status(BatchStatus.PENDING)
+                    .attempts(0)
+                    .build());
+        }
+        batchPartitionRepository.saveAll(partitions);
+
+        log.info("[배치 시작] {} 실행 #{}. 파티션 {}개", jobName, run.getId(), ranges.size());
+        return run;
+    }
+
+    private void processPartition(String jobName, Integer partitionId, PartitionWorker worker) {
+        Optional<SimpleLock> lock = lockProvider.lock(
+                new LockConfiguration(Instant.now(), jobName + ":" + partitionId, PARTITION_LEASE, Duration.ZERO));
+        if (lock.isEmpty()) {
+            // 다른 노드(또는 스레드)가 처리 중
+            return;
+        }
+
+        try {
+            BatchPartition partition = transactionTemplate.execute(status -> {
+                BatchPartition p = batchPartitionRepository.findById(partitionId).orElseThrow();
+                if (p.isFinished()) {
+                    return null;
+                }
+                p.start(nodeName);
+                return p;
+            });
+            if (partition == null) {
+                return;
+            }
+
+            try {
+                Long processed = partitionTransactionTemplate.execute(
+                        status -> worker.process(partition.getRunId(), partition.getFromId(), partition.getToId()));
+                updatePartition(partitionId, p -> p.complete(processed == null ? 0 : processed));
+            } catch (Exception e) {
+                log.error("[{}] 파티션 {} ({}~{}) 실패: {}", jobName, partition.getPartitionNo(),
+                        partition.getFromId(), partition.getToId(), e.getMessage());
+                updatePartition(partitionId, p -> p.fail(e.getMessage(), MAX_ATTEMPTS));
+            }
+        } finally {
+            lock.get().unlock();
+        }
+    }
+
+    private void updatePartition(Integer partitionId, Consumer<BatchPartition> update) {
+        transactionTemplate.executeWithoutResult(status ->
+                batchPartitionRepository.findById(partitionId).ifPresent(update));
+    }
+
+    // 모든 파티션이 끝났으면 실행 이력 마감 (다른 노드의 파티션이 남아 있으면 그 노드가 마감)
+    // 성공 시 onCompleted를 같은 트랜잭션에서 호출하므로, 실패하면 실행이 RUNNING으로 남아 다음 호출에서 다시 시도
+    private void finishIfDone(String jobName, Integer runId, IntConsumer onCompleted) {
+        transactionTemplate.executeWithoutResult(status -> {
+            BatchJobRun run = batchJobRunRepository.findById(runId).orElseThrow();
+            if (!run.isRunning()) {
+                return;
+            }
+
+            List<BatchPartition> partitions = batchPartitionRepository.findByRunIdOrderByPartitionNo(runId);
+            if (!partitions.stream().allMatch(BatchPartition::isFinished)) {
+                return;
+            }
+
+            long processed = partitions.stream()
+                    .mapToLong(p -> p.getProcessed() == null ? 0 : p.getProcessed())
+                    .sum();
+            boolean failed = partitions.stream().anyMatch(p -> p.getStatus() == BatchStatus.FAILED);
+            // 결과가 없는 실행은 공개하지 않고 이전 세대 유지
+            if (!failed && processed > 0) {
+                onCompleted.accept(runId);
+            }
+            run.finish(failed ? BatchStatus.FAILED : BatchStatus.COMPLETED, processed);
+
+            log.info("[배치 완료] {} 실행 #{} {}. 처리 {}건", jobName, runId, failed ? "실패 파티션 포함 종료" : "완료", processed);
+            log.info("***********************************************************************************************");
+        });
+    }
+
+    private static String resolveNodeName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+    }
+}
@@ -0,0 +1,80 @@
+package com.ssafy.booknest.global.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 배치 결과 테이블 일괄 저장
+// IDENTITY 키 엔티티는 Hibernate가 INSERT를 묶지 못하므로 JdbcTemplate.batchUpdate로 CHUNK_SIZE 행씩 전송
+// 호출하는 쪽 트랜잭션(배치 파티션)에 참여하며, 커밋은 파티션 단위로 이루어짐
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkInsertWriter {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // created_at은 자동으로 현재 시각이 채워지므로 columns에는 나머지 컬럼만 지정
+    public Batch open(String table, String... columns) {
+        return new Batch(table, columns);
+    }
+
+    public class Batch implements AutoCloseable {
+
+        private final String table;
+        private final String sql;
+        private final Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        private final List<Object[]> buffer = new ArrayList<>(CHUNK_SIZE);
+        private final long startedAt = System.nanoTime();
+        private long rows;
+
+        private Batch(String table, String[] columns) {
+            this.table = table;
+            this.sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ", created_at) VALUES ("
+                    + String.join(", ", Collections.nCopies(columns.length + 1, "?")) + ")";
+        }
+
+        public void add(Object... values) {
+            Object[] row = new Object[values.length + 1];
+            System.arraycopy(values, 0, row, 0, values.length);
+            row[values.length] = createdAt;
+            buffer.add(row);
+
+            if (buffer.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        public void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, buffer);
+            rows += buffer.size();
+            buffer.clear();
+        }
+
+        public long getRows() {
+            return rows + buffer.size();
+        }
+
+        // 남은 행을 저장하고 처리량 기록
+        @Override
+        public void close() {
+            flush();
+
+            double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+            log.info("[일괄 저장] {} {}건, {}초 ({}건/초)", table, rows,
+                    String.format("%.2f", seconds), Math.round(rows / seconds));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.ssafy.booknest.global.batch;
+
+// 유저 ID 구간 하나를 처리하고 처리 건수 반환 (BatchJobRunner가 파티션마다 새 트랜잭션에서 호출)
+// runId는 같은 실행의 파티션끼리 공유하므로 결과 테이블의 세대 번호로 사용할 수 있음
+@FunctionalInterface
+public interface PartitionWorker {
+    long process(int runId, int fromId, int toId);
+}
@@ -0,0 +1,102 @@
+package com.ssafy.booknest.global.batch;
+
+import com.ssafy.booknest.global.batch.entity.RecommendationGeneration;
+import com.ssafy.booknest.global.batch.enums.RecommendationTable;
+import com.ssafy.booknest.global.batch.repository.RecommendationGenerationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 추천 테이블 세대 관리
+// - 배치는 배치 실행 ID를 새 세대 번호로 써서 기존 세대를 건드리지 않고 채움
+// - 모든 파티션이 끝나면 recommendation_generation 한 행만 바꿔 새 세대를 공개 (조회는 항상 공개된 세대만 읽음)
+// - 공개가 끝난 이전 세대는 조회 중인 요청이 끝날 시간을 두고 백그라운드에서 나누어 삭제
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationGenerationService {
+
+    // 공개 세대 캐시 유지 시간 (다른 서버에서 공개한 세대도 이 시간 안에 반영)
+    private static final long CACHE_TTL_MILLIS = 5_000;
+    // 새 세대 공개 후 이전 세대를 삭제하기까지 기다리는 시간
+    private static final long GC_GRACE_MINUTES = 1;
+    private static final int GC_CHUNK_SIZE = 5_000;
+
+    private final RecommendationGenerationRepository recommendationGenerationRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<RecommendationTable, CachedGeneration> cache = new ConcurrentHashMap<>();
+
+    // 현재 조회 대상 세대 (공개된 적이 없으면 0)
+    public int active(RecommendationTable table) {
+        CachedGeneration cached = cache.get(table);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.generation;
+        }
+
+        int generation = recommendationGenerationRepository.findByTarget(table)
+                .map(RecommendationGeneration::getActiveGeneration)
+                .orElse(0);
+        cache.put(table, new CachedGeneration(generation, System.currentTimeMillis() + CACHE_TTL_MILLIS));
+        return generation;
+    }
+
+    // 새 세대 공개 (포인터 한 행 갱신)
+    @Transactional
+    public void publish(RecommendationTable table, int generation) {
+        Optional<RecommendationGeneration> pointer = recommendationGenerationRepository.findForUpdate(table);
+        if (pointer.isEmpty()) {
+            recommendationGenerationRepository.save(RecommendationGeneration.builder()
+                    .target(table)
+                    .activeGeneration(generation)
+                    .publishedAt(LocalDateTime.now())
+                    .build());
+        } else if (!pointer.get().publish(generation)) {
+            log.warn("[세대 공개] {} 세대 {}는 현재 세대 {}보다 오래되어 공개하지 않음",
+                    table.getTableName(), generation, pointer.get().getActiveGeneration());
+            return;
+        }
+
+        cache.remove(table);
+        log.info("[세대 공개] {} 세대 {} 공개", table.getTableName(), generation);
+    }
+
+    // 공개된 세대보다 오래된 행 삭제 (잠금을 오래 잡지 않도록 GC_CHUNK_SIZE 행씩 자동 커밋)
+    @Scheduled(fixedDelay = 1000 * 60 * 10, initialDelay = 1000 * 60 * 5) // 10분마다 실행
+    @SchedulerLock(name = "recommendation-generation-gc", lockAtMostFor = "PT30M")
+    public void collectGarbage() {
+        LocalDateTime graceLimit = LocalDateTime.now().minusMinutes(GC_GRACE_MINUTES);
+
+        for (RecommendationTable table : RecommendationTable.values()) {
+            Optional<RecommendationGeneration> pointer = recommendationGenerationRepository.findByTarget(table);
+            if (pointer.isEmpty() || pointer.get().getPublishedAt().isAfter(graceLimit)) {
+                continue;
+            }
+
+            String sql = "DELETE FROM " + table.getTableName() + " WHERE generation < ? LIMIT " + GC_CHUNK_SIZE;
+            int active = pointer.get().getActiveGeneration();
+            long deleted = 0;
+            int chunk;
+            do {
+                chunk = jdbcTemplate.update(sql, active);
+                deleted += chunk;
+            } while (chunk == GC_CHUNK_SIZE);
+
+            if (deleted > 0) {
+                log.info("[세대 정리] {} 세대 {} 이전 데이터 {}건 삭제", table.getTableName(), active, deleted);
+            }
+        }
+    }
+
+    private record CachedGeneration(int generation, long expiresAt) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.ssafy.booknest.global.batch.entity;
+
+import com.ssafy.booknest.global.batch.enums.BatchStatus;
+import com.ssafy.booknest.global.common.Entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+// 배치 실행 이력 (실행 1회 = 파티션 여러 개)
+@Entity
+@Table(name = "batch_job_run", indexes = @Index(name = "idx_batch_job_run_job", columnList = "job_name, id"))
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchJobRun extends BaseEntity {
+
+    @Column(name = "job_name", length = 64, nullable = false)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private BatchStatus status;
+
+    @Column(name = "total_partitions", nullable = false)
+    private Integer totalPartitions;
+
+    @Column(name = "processed")
+    private Long processed;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public boolean isRunning() {
+        return status == BatchStatus.RUNNING;
+    }
+
+    public void finish(BatchStatus status, long processed) {
+        this.status = status;
+        this.processed = processed;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,81 @@
+package com.ssafy.booknest.global.batch.entity;
+
+import com.ssafy.booknest.global.batch.enums.BatchStatus;
+import com.ssafy.booknest.global.common.Entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+// 배치 실행의 유저 ID 구간별 진행 상황
+@Entity
+@Table(name = "batch_partition", uniqueConstraints = @UniqueConstraint(columnNames = {"run_id", "partition_no"}))
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchPartition extends BaseEntity {
+
+    @Column(name = "run_id", nullable = false)
+    private Integer runId;
+
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+
+    // 처리 대상 유저 ID 구간 (양 끝 포함)
+    @Column(name = "from_id", nullable = false)
+    private Integer fromId;
+
+    @Column(name = "to_id", nullable = false)
+    private Integer toId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private BatchStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "processed")
+    private Long processed;
+
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public boolean isFinished() {
+        return status == BatchStatus.COMPLETED || status == BatchStatus.FAILED;
+    }
+
+    public void start(String owner) {
+        this.status = BatchStatus.RUNNING;
+        this.owner = owner;
+        this.attempts++;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void complete(long processed) {
+        this.status = BatchStatus.COMPLETED;
+        this.processed = processed;
+        this.finishedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    public void fail(String error, int maxAttempts) {
+        this.status = attempts >= maxAttempts ? BatchStatus.FAILED : BatchStatus.PENDING;
+        this.lastError = error == null ? null : error.substring(0, Math.min(error.length(), 500));
+        this.finishedAt = LocalDateTime.now();
+    }
+}
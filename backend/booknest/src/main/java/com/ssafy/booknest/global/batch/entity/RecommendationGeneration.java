@@ -0,0 +1,42 @@
+package com.ssafy.booknest.global.batch.entity;
+
+import com.ssafy.booknest.global.batch.enums.RecommendationTable;
+import com.ssafy.booknest.global.common.Entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+// 추천 테이블별 현재 조회 대상 세대 (테이블당 1행, 이 행만 바꿔서 새 세대를 한 번에 공개)
+@Entity
+@Table(name = "recommendation_generation", uniqueConstraints = @UniqueConstraint(columnNames = "target"))
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RecommendationGeneration extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target", length = 40, nullable = false)
+    private RecommendationTable target;
+
+    @Column(name = "active_generation", nullable = false)
+    private Integer activeGeneration;
+
+    @Column(name = "published_at", nullable = false)
+    private LocalDateTime publishedAt;
+
+    // 더 최신 세대만 공개 (늦게 끝난 이전 실행이 되돌리지 않도록)
+    public boolean publish(int generation) {
+        if (generation <= activeGeneration) {
+            return false;
+        }
+        this.activeGeneration = generation;
+        this.publishedAt = LocalDateTime.now();
+        return true;
+    }
+}
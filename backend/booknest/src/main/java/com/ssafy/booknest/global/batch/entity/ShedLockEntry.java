@@ -0,0 +1,29 @@
+package com.ssafy.booknest.global.batch.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// ShedLock(JdbcTemplateLockProvider)이 사용하는 잠금 테이블 (스키마 생성용 매핑, 애플리케이션에서 직접 사용하지 않음)
+@Entity
+@Table(name = "shedlock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShedLockEntry {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "lock_until", nullable = false, columnDefinition = "TIMESTAMP(3)")
+    private LocalDateTime lockUntil;
+
+    @Column(name = "locked_at", nullable = false, columnDefinition = "TIMESTAMP(3)")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+}
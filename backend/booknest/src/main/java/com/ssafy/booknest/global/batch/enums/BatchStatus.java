@@ -0,0 +1,8 @@
+package com.ssafy.booknest.global.batch.enums;
+
+public enum BatchStatus {
+    PENDING,    // 대기
+    RUNNING,    // 실행 중 (노드 장애 시 이 상태로 남아 다음 실행에서 이어서 처리)
+    COMPLETED,  // 완료
+    FAILED      // 재시도 횟수 초과
+}
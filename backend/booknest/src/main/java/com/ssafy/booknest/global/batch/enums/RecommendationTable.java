@@ -0,0 +1,16 @@
+package com.ssafy.booknest.global.batch.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 세대(generation) 단위로 교체되는 추천 결과 테이블
+@Getter
+@RequiredArgsConstructor
+public enum RecommendationTable {
+    USER_TAG_RECOMMENDATION("user_tag_recommendation"),
+    USER_CATEGORY_RECOMMENDATION("user_category_recommendation"),
+    TAG_RANDOM_BOOK("tag_random_book"),
+    POPULAR_AUTHOR_BOOK("popular_author_book");
+
+    private final String tableName;
+}
@@ -0,0 +1,14 @@
+package com.ssafy.booknest.global.batch.repository;
+
+import com.ssafy.booknest.global.batch.entity.BatchJobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BatchJobRunRepository extends JpaRepository<BatchJobRun, Integer> {
+
+    // 배치의 가장 최근 실행
+    Optional<BatchJobRun> findFirstByJobNameOrderByIdDesc(String jobName);
+}
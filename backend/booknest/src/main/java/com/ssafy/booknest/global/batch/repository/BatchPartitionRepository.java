@@ -0,0 +1,14 @@
+package com.ssafy.booknest.global.batch.repository;
+
+import com.ssafy.booknest.global.batch.entity.BatchPartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BatchPartitionRepository extends JpaRepository<BatchPartition, Integer> {
+
+    // 실행의 파티션 목록
+    List<BatchPartition> findByRunIdOrderByPartitionNo(Integer runId);
+}
@@ -0,0 +1,23 @@
+package com.ssafy.booknest.global.batch.repository;
+
+import com.ssafy.booknest.global.batch.entity.RecommendationGeneration;
+import com.ssafy.booknest.global.batch.enums.RecommendationTable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RecommendationGenerationRepository extends JpaRepository<RecommendationGeneration, Integer> {
+
+    Optional<RecommendationGeneration> findByTarget(RecommendationTable target);
+
+    // 세대 공개 시 동시 갱신 방지
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM RecommendationGeneration g WHERE g.target = :target")
+    Optional<RecommendationGeneration> findForUpdate(@Param("target") RecommendationTable target);
+}
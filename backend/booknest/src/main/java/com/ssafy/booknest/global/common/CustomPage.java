@@ -14,8 +14,14 @@ public class CustomPage<T> {
     private final int pageSize;
     private final boolean first;
     private final boolean last;
+    // 커서 기반 다음 페이지 조회용 (지원하지 않거나 마지막 페이지면 null)
+    private final String nextCursor;
 
     public CustomPage(Page<T> page) {
+        this(page, null);
+    }
+
+    public CustomPage(Page<T> page, String nextCursor) {
         this.content = page.getContent();
         this.pageNumber = page.getNumber() + 1;  // 0-> 1 based
         this.totalPages = page.getTotalPages();
@@ -23,5 +29,6 @@ public class CustomPage<T> {
         this.pageSize = page.getSize();
         this.first = page.isFirst();
         this.last = page.isLast();
+        this.nextCursor = nextCursor;
     }
 }
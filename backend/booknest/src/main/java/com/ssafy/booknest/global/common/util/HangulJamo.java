@@ -0,0 +1,90 @@
+package com.ssafy.booknest.global.common.util;
+
+// 한글 자모 분해
+// 완성형 음절은 초성/중성/종성 호환 자모로 풀고, 겹받침과 이중모음은 입력 순서대로 한 번 더 나눔 (닭 -> ㄷㅏㄹㄱ, 과 -> ㄱㅗㅏ)
+// 그래서 입력 중인 음절("달ㄱ", "해리퐅")도 완성된 단어의 앞부분과 같은 문자열이 됨
+// 공백과 기호는 버리고 영문은 소문자로 맞춤
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final char COMPAT_CONSONANT_BEGIN = 'ㄱ';
+    private static final char COMPAT_CONSONANT_END = 'ㅎ';
+    private static final char COMPAT_JAMO_BEGIN = 'ㄱ';
+    private static final char COMPAT_JAMO_END = 'ㅣ';
+
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    // 호환 자모 U+3131 ~ U+3163 중 겹자모의 분해 (나머지는 그대로)
+    private static final String[] COMPAT_SPLIT = new String[COMPAT_JAMO_END - COMPAT_JAMO_BEGIN + 1];
+
+    static {
+        String[][] pairs = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"},
+                {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}};
+        for (String[] pair : pairs) {
+            COMPAT_SPLIT[pair[0].charAt(0) - COMPAT_JAMO_BEGIN] = pair[1];
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    // 자모 분해 문자열 (해리 포터 -> ㅎㅐㄹㅣㅍㅗㅌㅓ)
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                int offset = c - SYLLABLE_BEGIN;
+                sb.append(INITIALS.charAt(offset / (MEDIAL_COUNT * FINAL_COUNT)));
+                sb.append(MEDIALS[offset % (MEDIAL_COUNT * FINAL_COUNT) / FINAL_COUNT]);
+                sb.append(FINALS[offset % FINAL_COUNT]);
+            } else if (c >= COMPAT_JAMO_BEGIN && c <= COMPAT_JAMO_END) {
+                String split = COMPAT_SPLIT[c - COMPAT_JAMO_BEGIN];
+                sb.append(split != null ? split : String.valueOf(c));
+            } else if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 초성 문자열 (해리 포터 -> ㅎㄹㅍㅌ, 한글이 아닌 글자는 그대로)
+    public static String choseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                sb.append(INITIALS.charAt((c - SYLLABLE_BEGIN) / (MEDIAL_COUNT * FINAL_COUNT)));
+            } else if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 한글 부분이 자음만으로 이루어진 입력인지 (ㅎㄹㅍ 처럼 초성으로 검색하는 경우)
+    public static boolean isChoseongOnly(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= COMPAT_CONSONANT_BEGIN && c <= COMPAT_CONSONANT_END) {
+                hasConsonant = true;
+            } else if ((c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) || (c >= COMPAT_JAMO_BEGIN && c <= COMPAT_JAMO_END)) {
+                return false;
+            }
+        }
+        return hasConsonant;
+    }
+}
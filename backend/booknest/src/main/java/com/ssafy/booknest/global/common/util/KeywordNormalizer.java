@@ -0,0 +1,40 @@
+package com.ssafy.booknest.global.common.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+// 검색어 정규화 (인기 검색어 집계, 검색 결과 캐시 키)
+// - 유니코드 NFC: 조합형 자모로 들어온 입력(ᄒ+ᅢ)을 완성형 음절(해)로 합침
+// - 앞뒤 공백 제거, 연속 공백은 하나로, 영문은 소문자
+// - 입력 도중 끝에 남은 자음/모음(해리포ㅌ)은 제거 (자모만으로 된 검색어는 그대로 둠)
+public final class KeywordNormalizer {
+
+    private static final char COMPAT_JAMO_BEGIN = 'ㄱ';
+    private static final char COMPAT_JAMO_END = 'ㅣ';
+
+    private KeywordNormalizer() {
+    }
+
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+
+        int end = normalized.length();
+        while (end > 0 && isCompatJamo(normalized.charAt(end - 1))) {
+            end--;
+        }
+        if (end == 0 || end == normalized.length()) {
+            return normalized;
+        }
+        return normalized.substring(0, end).trim();
+    }
+
+    private static boolean isCompatJamo(char c) {
+        return c >= COMPAT_JAMO_BEGIN && c <= COMPAT_JAMO_END;
+    }
+}
@@ -0,0 +1,116 @@
+package com.ssafy.booknest.global.common.util;
+
+import java.util.Arrays;
+
+// (int, int) 키별 평점 합계/개수 누적기
+// 배치에서 Map<Integer, Map<Integer, List<Double>>> 대신 사용 (키당 long 1개 + double 1개 + int 1개만 사용, 박싱 없음)
+public class PairAccumulator {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private double[] sums;
+    private int[] counts;
+    private int size;
+
+    public PairAccumulator() {
+        this(1 << 12);
+    }
+
+    public PairAccumulator(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(16, initialCapacity) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public void add(int first, int second, double value) {
+        if (size + 1 > keys.length * LOAD_FACTOR) {
+            resize();
+        }
+
+        long key = pack(first, second);
+        int slot = findSlot(keys, key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        sums[slot] += value;
+        counts[slot]++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 첫 번째 키 오름차순으로 순회 (같은 첫 번째 키끼리 연속으로 전달)
+    public void forEachSorted(PairConsumer consumer) {
+        long[] sorted = new long[size];
+        int index = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                sorted[index++] = key;
+            }
+        }
+        Arrays.sort(sorted);
+
+        for (long key : sorted) {
+            int slot = findSlot(keys, key);
+            consumer.accept(first(key), second(key), sums[slot], counts[slot]);
+        }
+    }
+
+    @FunctionalInterface
+    public interface PairConsumer {
+        void accept(int first, int second, double sum, int count);
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        double[] oldSums = sums;
+        int[] oldCounts = counts;
+
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = findSlot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                sums[slot] = oldSums[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        sums = new double[capacity];
+        counts = new int[capacity];
+    }
+
+    // 선형 탐사로 키가 있는 슬롯 또는 비어 있는 슬롯 반환
+    private static int findSlot(long[] table, long key) {
+        int mask = table.length - 1;
+        int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+        while (table[slot] != EMPTY && table[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // 첫 번째 키가 정렬 순서를 결정하도록 상위 32비트에 배치 (ID는 양수)
+    private static long pack(int first, int second) {
+        return ((long) first << 32) | (second & 0xFFFFFFFFL);
+    }
+
+    private static int first(long key) {
+        return (int) (key >>> 32);
+    }
+
+    private static int second(long key) {
+        return (int) key;
+    }
+}
@@ -1,28 +1,147 @@
 package com.ssafy.booknest.global.common.util;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+// 사용자 태그 벡터 (Redis ZSet) 갱신
+// 요청마다 ZINCRBY를 보내지 않고 (유저, 태그) 단위로 잠시 모았다가 파이프라인으로 한 번에 반영
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class TagVectorService {
 
+    // 버퍼에 쌓아둘 수 있는 최대 (유저, 태그) 개수 (초과 시 호출 스레드에서 즉시 반영)
+    private static final int MAX_PENDING = 50_000;
+
     private final RedisTemplate<String, String> redisTemplate;
 
+    private final ReentrantReadWriteLock bufferLock = new ReentrantReadWriteLock();
+    private ConcurrentHashMap<Integer, Map<String, Double>> buffer = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Timer flushTimer;
+    private final Counter flushFailures;
+
+    public TagVectorService(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.flushTimer = Timer.builder("tag_vector.flush")
+                .description("태그 벡터 버퍼를 Redis에 반영하는 시간")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("tag_vector.flush.failures")
+                .description("태그 벡터 반영 실패 횟수")
+                .register(meterRegistry);
+        meterRegistry.gauge("tag_vector.buffer.size", pending);
+    }
+
     private String getUserTagVectorKey(Integer userId) {
         return "user:" + userId + ":tag_vector";
     }
 
-    // 태그 점수 증가
-    @Async
-    public void increaseTagScore(Integer userId, String tag, double score) {
-        String key = getUserTagVectorKey(userId);
-        redisTemplate.opsForZSet().incrementScore(key, tag, score);
+    // 태그 점수 증감 (같은 유저/태그의 변화량은 다음 반영 전까지 합산)
+    public void applyDelta(Integer userId, Map<String, Double> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        enqueue(userId, deltas);
+
+        if (pending.get() > MAX_PENDING) {
+            flush();
+        }
+    }
+
+    // 도서의 모든 태그에 같은 가중치 적용
+    public void applyDelta(Integer userId, Collection<String> tags, double delta) {
+        Map<String, Double> deltas = new HashMap<>();
+        for (String tag : tags) {
+            deltas.merge(tag, delta, Double::sum);
+        }
+        applyDelta(userId, deltas);
+    }
+
+    private void enqueue(Integer userId, Map<String, Double> deltas) {
+        bufferLock.readLock().lock();
+        try {
+            buffer.compute(userId, (id, scores) -> {
+                Map<String, Double> merged = scores != null ? scores : new HashMap<>();
+                deltas.forEach((tag, delta) -> {
+                    if (!merged.containsKey(tag)) {
+                        pending.incrementAndGet();
+                    }
+                    merged.merge(tag, delta, Double::sum);
+                });
+                return merged;
+            });
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+
+    // 모아둔 변화량을 파이프라인으로 반영
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        Map<Integer, Map<String, Double>> batch;
+
+        bufferLock.writeLock().lock();
+        try {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            batch = buffer;
+            buffer = new ConcurrentHashMap<>();
+            pending.set(0);
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    batch.forEach((userId, scores) -> {
+                        String key = getUserTagVectorKey(userId);
+                        scores.forEach((tag, delta) -> {
+                            if (delta != 0.0) {
+                                operations.opsForZSet().incrementScore(key, tag, delta);
+                            }
+                        });
+                    });
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            flushFailures.increment();
+            log.error("태그 벡터 반영 실패 - 유저 {}명, 메시지: {}", batch.size(), e.getMessage());
+            // 버퍼 여유가 있으면 다음 주기에 재시도
+            if (pending.get() < MAX_PENDING) {
+                batch.forEach(this::enqueue);
+            }
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    // 종료 시 남은 변화량 반영
+    @PreDestroy
+    public void drain() {
+        flush();
     }
 
     public double getScoreWeight(double score) {
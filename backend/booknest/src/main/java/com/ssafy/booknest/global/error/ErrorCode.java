@@ -70,7 +70,9 @@ public enum ErrorCode {
     CRITIC_BOOK_NOT_FOUND(404, "C102", "해당 평론가의 추천 도서를 찾을 수 없습니다."),
 
     // ELASTICSEARCH
-    ELASTICSEARCH_ERROR(500, "E001", "엘라스틱서치 오류 발생");
+    ELASTICSEARCH_ERROR(500, "E001", "엘라스틱서치 오류 발생"),
+    SEARCH_PAGE_TOO_DEEP(400, "E002", "페이지 번호로 조회할 수 있는 범위를 넘었습니다. 커서로 조회해 주세요."),
+    INVALID_SEARCH_CURSOR(400, "E003", "만료되었거나 잘못된 검색 커서입니다.");
 
 
 
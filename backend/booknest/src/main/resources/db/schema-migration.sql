@@ -0,0 +1,176 @@
+-- 운영 DB 스키마 변경 (prod는 ddl-auto: none이므로 배포 전에 한 번 수동 실행)
+-- 엔티티 매핑과 같은 테이블/컬럼/인덱스를 만들고 기존 데이터를 새 구조에 맞게 채움
+-- IF NOT EXISTS / INSERT IGNORE로 작성해 두 번 실행해도 안전함 (MariaDB 10.5 이상)
+
+-- ✅ 배치 실행 잠금 (ShedLock, JdbcTemplateLockProvider 기본 테이블)
+CREATE TABLE IF NOT EXISTS shedlock (
+    name       VARCHAR(64)  NOT NULL,
+    lock_until TIMESTAMP(3) NOT NULL,
+    locked_at  TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    locked_by  VARCHAR(255) NOT NULL,
+    PRIMARY KEY (name)
+);
+
+-- ✅ 파티션 배치 실행 기록
+CREATE TABLE IF NOT EXISTS batch_job_run (
+    id               INT         NOT NULL AUTO_INCREMENT,
+    created_at       DATETIME(6) NOT NULL,
+    job_name         VARCHAR(64) NOT NULL,
+    status           VARCHAR(20) NOT NULL,
+    total_partitions INT         NOT NULL,
+    processed        BIGINT,
+    finished_at      DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_batch_job_run_job (job_name, id)
+);
+
+CREATE TABLE IF NOT EXISTS batch_partition (
+    id           INT          NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6)  NOT NULL,
+    run_id       INT          NOT NULL,
+    partition_no INT          NOT NULL,
+    from_id      INT          NOT NULL,
+    to_id        INT          NOT NULL,
+    status       VARCHAR(20)  NOT NULL,
+    attempts     INT          NOT NULL,
+    processed    BIGINT,
+    owner        VARCHAR(100),
+    started_at   DATETIME(6),
+    finished_at  DATETIME(6),
+    last_error   VARCHAR(500),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_batch_partition_run_partition (run_id, partition_no)
+);
+
+-- ✅ 추천 결과 세대(generation) 포인터와 세대 컬럼
+CREATE TABLE IF NOT EXISTS recommendation_generation (
+    id                INT         NOT NULL AUTO_INCREMENT,
+    created_at        DATETIME(6) NOT NULL,
+    target            VARCHAR(40) NOT NULL,
+    active_generation INT         NOT NULL,
+    published_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_recommendation_generation_target (target)
+);
+
+-- 기존 행은 세대 0으로 채우고 (ADD COLUMN ... DEFAULT 0), 이후 값은 항상 배치가 지정하므로 기본값은 제거
+ALTER TABLE user_tag_recommendation ADD COLUMN IF NOT EXISTS generation INT NOT NULL DEFAULT 0;
+ALTER TABLE user_tag_recommendation ALTER COLUMN generation DROP DEFAULT;
+CREATE INDEX IF NOT EXISTS idx_user_tag_rec_generation_user ON user_tag_recommendation (generation, user_id);
+
+ALTER TABLE user_category_recommendation ADD COLUMN IF NOT EXISTS generation INT NOT NULL DEFAULT 0;
+ALTER TABLE user_category_recommendation ALTER COLUMN generation DROP DEFAULT;
+CREATE INDEX IF NOT EXISTS idx_user_category_rec_generation_user ON user_category_recommendation (generation, user_id);
+
+ALTER TABLE tag_random_book ADD COLUMN IF NOT EXISTS generation INT NOT NULL DEFAULT 0;
+ALTER TABLE tag_random_book ALTER COLUMN generation DROP DEFAULT;
+CREATE INDEX IF NOT EXISTS idx_tag_random_book_generation_tag ON tag_random_book (generation, tag);
+
+ALTER TABLE popular_author_book ADD COLUMN IF NOT EXISTS generation INT NOT NULL DEFAULT 0;
+ALTER TABLE popular_author_book ALTER COLUMN generation DROP DEFAULT;
+CREATE INDEX IF NOT EXISTS idx_popular_author_book_generation_rank ON popular_author_book (generation, `rank`);
+
+-- 기존 행(세대 0)을 그대로 공개 (다음 배치가 새 세대를 공개할 때까지 이전 추천이 보임)
+INSERT IGNORE INTO recommendation_generation (created_at, target, active_generation, published_at)
+VALUES (NOW(), 'USER_TAG_RECOMMENDATION', 0, NOW()),
+       (NOW(), 'USER_CATEGORY_RECOMMENDATION', 0, NOW()),
+       (NOW(), 'TAG_RANDOM_BOOK', 0, NOW()),
+       (NOW(), 'POPULAR_AUTHOR_BOOK', 0, NOW());
+
+-- ✅ 도서 평점 집계 (histogram: 0.5점 단위 10칸, 칸 = ROUND(평점 * 2) - 1)
+CREATE TABLE IF NOT EXISTS book_rating_stat (
+    book_id      INT          NOT NULL,
+    rating_count INT          NOT NULL,
+    rating_sum   DOUBLE       NOT NULL,
+    histogram    VARCHAR(100) NOT NULL,
+    updated_at   DATETIME(6),
+    PRIMARY KEY (book_id)
+);
+
+-- 원본 평점으로 채움 (평점 등록/수정/삭제는 이 값에 더해지므로 비어 있으면 새벽 복구 배치 전까지 틀린 값이 됨)
+INSERT IGNORE INTO book_rating_stat (book_id, rating_count, rating_sum, histogram, updated_at)
+SELECT b.book_id, b.rating_count, b.rating_sum,
+       CONCAT_WS(',', b.h1, b.h2, b.h3, b.h4, b.h5, b.h6, b.h7, b.h8, b.h9, b.h10), NOW()
+FROM (SELECT r.book_id,
+             COUNT(*)          AS rating_count,
+             SUM(r.rating)     AS rating_sum,
+             SUM(r.bucket = 0) AS h1,
+             SUM(r.bucket = 1) AS h2,
+             SUM(r.bucket = 2) AS h3,
+             SUM(r.bucket = 3) AS h4,
+             SUM(r.bucket = 4) AS h5,
+             SUM(r.bucket = 5) AS h6,
+             SUM(r.bucket = 6) AS h7,
+             SUM(r.bucket = 7) AS h8,
+             SUM(r.bucket = 8) AS h9,
+             SUM(r.bucket = 9) AS h10
+      FROM (SELECT book_id, rating, LEAST(GREATEST(ROUND(rating * 2) - 1, 0), 9) AS bucket FROM rating) r
+      GROUP BY r.book_id) b;
+
+-- ✅ 도서 인기 순위 (score = (평점 개수 + 최근 30일 평점 개수 * 2) * 베이지안 평균 / 5, 사전 개수 10)
+CREATE TABLE IF NOT EXISTS book_popularity (
+    book_id          INT         NOT NULL,
+    rating_count     INT         NOT NULL,
+    rating_sum       DOUBLE      NOT NULL,
+    recent_count     INT         NOT NULL,
+    bayesian_average DOUBLE      NOT NULL,
+    score            DOUBLE      NOT NULL,
+    updated_at       DATETIME(6),
+    PRIMARY KEY (book_id),
+    INDEX idx_book_popularity_score (score, book_id)
+);
+
+-- 평점 집계로 채움 (사전 평균은 전체 평점 평균, 평점이 없으면 3.5)
+INSERT IGNORE INTO book_popularity (book_id, rating_count, rating_sum, recent_count, bayesian_average, score, updated_at)
+SELECT p.book_id, p.rating_count, p.rating_sum, p.recent_count, p.bayesian_average,
+       (p.rating_count + p.recent_count * 2) * p.bayesian_average / 5, NOW()
+FROM (SELECT s.book_id, s.rating_count, s.rating_sum,
+             COALESCE(recent.cnt, 0)                                  AS recent_count,
+             (10 * prior.mean + s.rating_sum) / (10 + s.rating_count) AS bayesian_average
+      FROM book_rating_stat s
+      CROSS JOIN (SELECT COALESCE(SUM(rating_sum) / NULLIF(SUM(rating_count), 0), 3.5) AS mean
+                  FROM book_rating_stat) prior
+      LEFT JOIN (SELECT book_id, COUNT(*) AS cnt
+                 FROM rating
+                 WHERE created_at >= NOW() - INTERVAL 30 DAY
+                 GROUP BY book_id) recent ON recent.book_id = s.book_id
+      WHERE s.rating_count > 0) p;
+
+-- ✅ 유저별 태그/카테고리/작가 평점 누적값 (분석 배치의 첫 전체 재집계에서 채워짐)
+CREATE TABLE IF NOT EXISTS user_preference_stat (
+    id           INT          NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6)  NOT NULL,
+    user_id      INT          NOT NULL,
+    type         VARCHAR(20)  NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    rating_sum   DOUBLE       NOT NULL,
+    rating_count INT          NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_user_preference_stat_user_type_name (user_id, type, name)
+);
+
+-- ✅ 검색 색인 outbox
+CREATE TABLE IF NOT EXISTS book_index_outbox (
+    id           INT         NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6) NOT NULL,
+    book_id      INT         NOT NULL,
+    attempts     INT         NOT NULL,
+    available_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_book_index_outbox_available (available_at, id)
+);
+
+-- ✅ 서점별 구매 링크 캐시
+CREATE TABLE IF NOT EXISTS purchase_link (
+    id         INT          NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6)  NOT NULL,
+    isbn       VARCHAR(20)  NOT NULL,
+    store      VARCHAR(20)  NOT NULL,
+    url        VARCHAR(500),
+    expires_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_purchase_link_isbn_store (isbn, store)
+);
+
+-- ✅ 도서 상세 리뷰 커서 조회 인덱스
+CREATE INDEX IF NOT EXISTS idx_review_book_updated ON review (book_id, updated_at, id);
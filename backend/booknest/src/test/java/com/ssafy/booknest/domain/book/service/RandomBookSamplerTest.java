@@ -0,0 +1,69 @@
+package com.ssafy.booknest.domain.book.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 부분 Fisher-Yates 추출 (배열을 복사하지 않고 교환 위치만 기록)
+class RandomBookSamplerTest {
+
+    private static final int[] POOL = IntStream.rangeClosed(1, 100).toArray();
+
+    @Test
+    @DisplayName("제외 대상이 아닌 도서를 중복 없이 k개 추출")
+    void samplesDistinctNonExcludedIds() {
+        for (int trial = 0; trial < 200; trial++) {
+            List<Integer> sampled = RandomBookSampler.sample(POOL, 20, id -> id % 3 == 0);
+
+            assertThat(sampled).hasSize(20);
+            assertThat(new HashSet<>(sampled)).hasSize(20);
+            assertThat(sampled).allSatisfy(id -> {
+                assertThat(id).isBetween(1, 100);
+                assertThat(id % 3).isNotZero();
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("남은 도서가 k개보다 적으면 남은 도서를 모두 반환")
+    void returnsAllRemainingWhenPoolIsSmallerThanK() {
+        List<Integer> sampled = RandomBookSampler.sample(POOL, 1_000, id -> id > 10);
+
+        assertThat(sampled).containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, 10).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("모두 제외되었거나 k가 0이거나 도서가 없으면 빈 목록")
+    void returnsEmptyForDegenerateInputs() {
+        assertThat(RandomBookSampler.sample(POOL, 10, id -> true)).isEmpty();
+        assertThat(RandomBookSampler.sample(POOL, 0, id -> false)).isEmpty();
+        assertThat(RandomBookSampler.sample(new int[0], 10, id -> false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제외한 도서가 앞쪽에 몰려 있어도 나머지 도서가 고르게 뽑힘")
+    void samplesUniformlyWithExclusions() {
+        int[] pool = IntStream.rangeClosed(1, 20).toArray();
+        int[] counts = new int[21];
+        int trials = 4_000;
+        for (int trial = 0; trial < trials; trial++) {
+            for (int id : RandomBookSampler.sample(pool, 3, id -> id <= 10)) {
+                counts[id]++;
+            }
+        }
+
+        // 남은 10권 중 3권이므로 도서마다 기대값 trials * 0.3 (표준편차 약 29)
+        for (int id = 1; id <= 20; id++) {
+            if (id <= 10) {
+                assertThat(counts[id]).isZero();
+            } else {
+                assertThat(counts[id]).isBetween(1_000, 1_400);
+            }
+        }
+    }
+}
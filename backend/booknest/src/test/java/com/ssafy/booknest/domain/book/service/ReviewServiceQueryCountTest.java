@@ -0,0 +1,171 @@
+package com.ssafy.booknest.domain.book.service;
+
+import com.ssafy.booknest.domain.book.dto.response.evaluation.ReviewCursorResponse;
+import com.ssafy.booknest.domain.book.dto.response.evaluation.ReviewResponse;
+import com.ssafy.booknest.domain.book.entity.Book;
+import com.ssafy.booknest.domain.book.entity.evaluation.Review;
+import com.ssafy.booknest.domain.book.entity.evaluation.ReviewLike;
+import com.ssafy.booknest.domain.user.entity.User;
+import com.ssafy.booknest.domain.user.enums.Provider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한줄평 목록의 myLiked 계산이 좋아요 행을 엔티티로 읽지 않고 페이지당 IN 쿼리 1번으로 끝나는지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReviewService.class)
+class ReviewServiceQueryCountTest {
+
+    private static final String LIKED_REVIEW_IDS_QUERY =
+            "SELECT rl.review.id FROM ReviewLike rl WHERE rl.user.id = :userId AND rl.review.id IN :reviewIds";
+    private static final int REVIEWERS = 12;
+    private static final int LIKERS = 30;
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    // 한줄평 개수는 withCount=false로 조회하므로 사용하지 않음
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    private User viewer;
+    private Book book;
+    private final List<Review> reviews = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        viewer = em.persist(user("viewer"));
+        book = em.persist(Book.builder().title("테스트 도서").createdAt(now).build());
+
+        for (int i = 0; i < REVIEWERS; i++) {
+            User reviewer = em.persist(user("reviewer" + i));
+            reviews.add(em.persist(Review.builder()
+                    .user(reviewer)
+                    .book(book)
+                    .content("한줄평 " + i)
+                    .rating(4.0)
+                    .updatedAt(now.minusMinutes(i))
+                    .createdAt(now.minusMinutes(i))
+                    .build()));
+        }
+
+        // 한줄평마다 다른 유저의 좋아요를 여러 개 두고, 보는 유저는 짝수 번째 한줄평에만 좋아요
+        for (int i = 0; i < LIKERS; i++) {
+            User liker = em.persist(user("liker" + i));
+            for (Review review : reviews) {
+                em.persist(ReviewLike.builder().user(liker).review(review).createdAt(now).build());
+            }
+        }
+        for (int i = 0; i < REVIEWERS; i += 2) {
+            em.persist(ReviewLike.builder().user(viewer).review(reviews.get(i)).createdAt(now).build());
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("한줄평 페이지마다 좋아요 조회는 IN 쿼리 한 번이고 좋아요 엔티티는 읽지 않음")
+    void likedReviewIdsAreFetchedOncePerPage() {
+        Statistics statistics = statistics();
+
+        String cursor = null;
+        int pages = 0;
+        do {
+            statistics.clear();
+            ReviewCursorResponse response = reviewService.getBookReviews(
+                    viewer.getId(), book.getId(), cursor, PAGE_SIZE, false);
+            pages++;
+
+            assertThat(statistics.getQueryStatistics(LIKED_REVIEW_IDS_QUERY).getExecutionCount()).isEqualTo(1);
+            assertThat(statistics.getEntityStatistics(ReviewLike.class.getName()).getLoadCount()).isZero();
+            assertThat(statistics.getCollectionFetchCount()).isZero();
+            assertMyLiked(response.getContent());
+
+            cursor = response.getNextCursor();
+            em.clear();
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo((REVIEWERS + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 늘어도 한 페이지의 쿼리 수는 같음")
+    void queryCountDoesNotGrowWithLikes() {
+        Statistics statistics = statistics();
+
+        statistics.clear();
+        reviewService.getBookReviews(viewer.getId(), book.getId(), null, PAGE_SIZE, false);
+        long before = statistics.getPrepareStatementCount();
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < LIKERS; i++) {
+            User liker = em.persist(user("extra" + i));
+            for (Review review : reviews) {
+                em.persist(ReviewLike.builder().user(liker).review(em.find(Review.class, review.getId())).createdAt(now).build());
+            }
+        }
+        em.flush();
+        em.clear();
+
+        statistics.clear();
+        reviewService.getBookReviews(viewer.getId(), book.getId(), null, PAGE_SIZE, false);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(before);
+    }
+
+    private void assertMyLiked(List<ReviewResponse> page) {
+        Map<Integer, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < reviews.size(); i++) {
+            indexById.put(reviews.get(i).getId(), i);
+        }
+        Map<Integer, Boolean> liked = page.stream()
+                .collect(Collectors.toMap(ReviewResponse::getReviewId, ReviewResponse::getMyLiked));
+        liked.forEach((reviewId, myLiked) -> assertThat(myLiked).isEqualTo(indexById.get(reviewId) % 2 == 0));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        return statistics;
+    }
+
+    private static User user(String nickname) {
+        return User.builder()
+                .provider(Provider.KAKAO)
+                .providerId(nickname)
+                .archeType("테스트")
+                .nickname(nickname)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ssafy.booknest.domain.search.record;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.ssafy.booknest.global.error.ErrorCode;
+import com.ssafy.booknest.global.error.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 검색 다음 페이지 커서
+class SearchCursorTest {
+
+    @Test
+    @DisplayName("정수 정렬 값은 long, 실수 정렬 값은 double로 복원 (정수로 떨어지는 실수 포함)")
+    void keepsLongAndDoubleSortValuesApart() {
+        SearchCursor cursor = new SearchCursor("pit-1",
+                List.of(FieldValue.of(1.0), FieldValue.of(5L), FieldValue.of(12.75),
+                        FieldValue.of(Long.MAX_VALUE), FieldValue.of("해리 포터")),
+                1_234L, null);
+
+        SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+        List<FieldValue> sortValues = decoded.sortValues();
+        assertThat(sortValues).hasSize(5);
+        assertThat(sortValues.get(0).isDouble()).isTrue();
+        assertThat(sortValues.get(0).doubleValue()).isEqualTo(1.0);
+        assertThat(sortValues.get(1).isLong()).isTrue();
+        assertThat(sortValues.get(1).longValue()).isEqualTo(5L);
+        assertThat(sortValues.get(2).isDouble()).isTrue();
+        assertThat(sortValues.get(2).doubleValue()).isEqualTo(12.75);
+        assertThat(sortValues.get(3).isLong()).isTrue();
+        assertThat(sortValues.get(3).longValue()).isEqualTo(Long.MAX_VALUE);
+        assertThat(sortValues.get(4).isString()).isTrue();
+        assertThat(sortValues.get(4).stringValue()).isEqualTo("해리 포터");
+    }
+
+    @Test
+    @DisplayName("PIT ID, 전체 건수, 시드를 그대로 복원하고 PIT/시드가 없으면 null")
+    void roundTripsPitTotalAndSeed() {
+        SearchCursor withSeed = SearchCursor.decode(
+                new SearchCursor("pit-2", List.of(FieldValue.of(3L)), 42L, -7_000_000_000L).encode());
+        SearchCursor withoutSeed = SearchCursor.decode(
+                new SearchCursor(null, List.of(FieldValue.of(3L)), 0L, null).encode());
+
+        assertThat(withSeed.pitId()).isEqualTo("pit-2");
+        assertThat(withSeed.total()).isEqualTo(42L);
+        assertThat(withSeed.seed()).isEqualTo(-7_000_000_000L);
+        assertThat(withoutSeed.pitId()).isNull();
+        assertThat(withoutSeed.total()).isZero();
+        assertThat(withoutSeed.seed()).isNull();
+    }
+
+    @Test
+    @DisplayName("URL에 그대로 넣을 수 있는 문자열로 인코딩")
+    void encodesUrlSafely() {
+        String token = new SearchCursor("pit/+=", List.of(FieldValue.of("??>>")), 1L, 1L).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 null")
+    void decodesMissingCursorAsNull() {
+        assertThat(SearchCursor.decode(null)).isNull();
+        assertThat(SearchCursor.decode("")).isNull();
+        assertThat(SearchCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 INVALID_SEARCH_CURSOR")
+    void rejectsMalformedCursor() {
+        String notJson = Base64.getUrlEncoder().encodeToString("not json".getBytes(StandardCharsets.UTF_8));
+        String missingFields = Base64.getUrlEncoder().encodeToString("{\"p\":null}".getBytes(StandardCharsets.UTF_8));
+
+        for (String token : List.of("!!!", notJson, missingFields)) {
+            assertThatThrownBy(() -> SearchCursor.decode(token))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.INVALID_SEARCH_CURSOR);
+        }
+    }
+}
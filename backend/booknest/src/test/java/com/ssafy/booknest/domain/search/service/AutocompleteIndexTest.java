@@ -0,0 +1,108 @@
+package com.ssafy.booknest.domain.search.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 자동완성 접두어 색인
+class AutocompleteIndexTest {
+
+    @Test
+    @DisplayName("빈 색인은 어떤 입력에도 빈 목록")
+    void emptyIndexReturnsNothing() {
+        AutocompleteIndex index = AutocompleteIndex.builder().build();
+
+        assertThat(index.size()).isZero();
+        assertThat(index.keyCount()).isZero();
+        assertThat(index.suggest("해리", 10)).isEmpty();
+        assertThat(index.suggest("ㅎㄹ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자음만 입력하면 초성으로, 단어 시작 위치에서도 찾음")
+    void choseongPrefix() {
+        AutocompleteIndex index = AutocompleteIndex.builder()
+                .add("해리 포터", 10)
+                .add("하루 한 권", 5)
+                .build();
+
+        assertThat(index.suggest("ㅎㄹ", 10)).containsExactly("해리 포터", "하루 한 권");
+        assertThat(index.suggest("ㅍㅌ", 10)).containsExactly("해리 포터");
+        assertThat(index.suggest("ㅎㄱ", 10)).containsExactly("하루 한 권");
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절은 자모 단위 접두어로 찾음")
+    void partialSyllablePrefix() {
+        AutocompleteIndex index = AutocompleteIndex.builder()
+                .add("닭갈비 레시피", 3)
+                .add("달빛 조각사", 7)
+                .add("해리 포터", 10)
+                .add("해변의 카프카", 1)
+                .build();
+
+        assertThat(index.suggest("달ㄱ", 10)).containsExactly("닭갈비 레시피");
+        assertThat(index.suggest("달", 10)).containsExactly("달빛 조각사", "닭갈비 레시피");
+        assertThat(index.suggest("해ㄹ", 10)).containsExactly("해리 포터");
+        assertThat(index.suggest("해리퐅", 10)).containsExactly("해리 포터");
+        assertThat(index.suggest("카프", 10)).containsExactly("해변의 카프카");
+    }
+
+    @Test
+    @DisplayName("가중치 순으로 정렬하고, 같으면 더 짧은 문자열 우선")
+    void ordersByWeightThenLength() {
+        AutocompleteIndex index = AutocompleteIndex.builder()
+                .add("자바의 정석 기초편", 5)
+                .add("자바의 정석", 5)
+                .add("자바 ORM 표준 JPA 프로그래밍", 9)
+                .add("자바스크립트 완벽 가이드", 1)
+                .build();
+
+        assertThat(index.suggest("자바", 10))
+                .containsExactly("자바 ORM 표준 JPA 프로그래밍", "자바의 정석", "자바의 정석 기초편", "자바스크립트 완벽 가이드");
+    }
+
+    @Test
+    @DisplayName("한 문자열이 여러 키로 걸려도 한 번만 반환")
+    void deduplicatesSameText() {
+        // "정석", "정석 정리"가 모두 "ㅈㅓㅇ" 접두어에 걸림
+        AutocompleteIndex index = AutocompleteIndex.builder()
+                .add("정석 정리 정석", 1)
+                .build();
+
+        assertThat(index.suggest("정", 10)).containsExactly("정석 정리 정석");
+        assertThat(index.suggest("ㅈㅅ", 10)).containsExactly("정석 정리 정석");
+    }
+
+    @Test
+    @DisplayName("limit개까지만 반환하고 limit이 0이거나 입력이 비면 빈 목록")
+    void respectsLimit() {
+        AutocompleteIndex.Builder builder = AutocompleteIndex.builder();
+        for (int i = 0; i < 20; i++) {
+            builder.add("책 " + i, i);
+        }
+        AutocompleteIndex index = builder.build();
+
+        assertThat(index.suggest("책", 3)).containsExactly("책 19", "책 18", "책 17");
+        assertThat(index.suggest("책", 0)).isEmpty();
+        assertThat(index.suggest("", 10)).isEmpty();
+        assertThat(index.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 문자열의 가중치는 합산 (여러 도서를 쓴 저자)")
+    void mergesWeightsOfSameText() {
+        AutocompleteIndex index = AutocompleteIndex.builder()
+                .add("한강", 3)
+                .add("한강", 4)
+                .add(" 한강 ", 1)
+                .add("한강 작가론", 7)
+                .add(null, 100)
+                .add(" ", 100)
+                .build();
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.suggest("한강", 10)).containsExactly("한강", "한강 작가론");
+    }
+}
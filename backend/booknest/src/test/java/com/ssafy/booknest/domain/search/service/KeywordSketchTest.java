@@ -0,0 +1,125 @@
+package com.ssafy.booknest.domain.search.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 검색어 빈도 근사 집계 (Count-Min Sketch + Space-Saving)
+class KeywordSketchTest {
+
+    @Test
+    @DisplayName("칸 위치는 JVM과 무관하게 항상 같음 (서버별 스케치를 Redis에서 합치기 위함)")
+    void cellIndicesAreStable() {
+        assertThat(KeywordSketch.cellIndices("해리 포터")).containsExactly(1747, 5240, 8733, 16322);
+        assertThat(KeywordSketch.cellIndices("java")).containsExactly(1989, 4516, 11139, 13666);
+        assertThat(KeywordSketch.cellIndices("")).containsExactly(805, 4106, 11503, 14804);
+    }
+
+    @Test
+    @DisplayName("행마다 자기 행 범위 안의 칸을 하나씩 가리킴")
+    void cellIndicesStayWithinTheirRow() {
+        int[] indices = KeywordSketch.cellIndices("자바의 정석");
+
+        assertThat(indices).hasSize(KeywordSketch.DEPTH);
+        for (int row = 0; row < KeywordSketch.DEPTH; row++) {
+            assertThat(indices[row]).isBetween(row * KeywordSketch.WIDTH, (row + 1) * KeywordSketch.WIDTH - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("추정치는 실제 값 이상이고 실제 값 + EPSILON * 전체 검색 수 이하")
+    void estimateIsBounded() {
+        KeywordSketch sketch = new KeywordSketch();
+        Map<String, Long> actual = feed(sketch, 50_000);
+
+        actual.forEach((keyword, count) -> {
+            assertThat(sketch.estimate(keyword)).isGreaterThanOrEqualTo(count);
+            assertThat((double) sketch.estimate(keyword))
+                    .isLessThanOrEqualTo(count + KeywordSketch.EPSILON * sketch.total());
+        });
+        assertThat(sketch.total()).isEqualTo(50_000);
+    }
+
+    @Test
+    @DisplayName("후보가 가득 차도 후보 값은 실제 값의 상한이고, 값 - 오차는 하한")
+    void candidateCountsBoundActualCounts() {
+        KeywordSketch sketch = new KeywordSketch();
+        Map<String, Long> actual = feed(sketch, 50_000);
+
+        List<KeywordSketch.Candidate> candidates = sketch.candidates();
+        assertThat(candidates).hasSize(KeywordSketch.CAPACITY);
+        for (KeywordSketch.Candidate candidate : candidates) {
+            long count = actual.getOrDefault(candidate.keyword(), 0L);
+            assertThat(count).isBetween(candidate.count() - candidate.error(), candidate.count());
+        }
+        // 교체된 후보의 값은 새 후보가 이어받으므로 후보 값의 합은 항상 전체 검색 수
+        assertThat(candidates.stream().mapToLong(KeywordSketch.Candidate::count).sum()).isEqualTo(sketch.total());
+    }
+
+    @Test
+    @DisplayName("전체의 1/CAPACITY보다 자주 나온 검색어는 빈도 내림차순으로 맨 앞에 남음")
+    void frequentKeywordsSurviveEviction() {
+        KeywordSketch sketch = new KeywordSketch();
+        feed(sketch, 50_000);
+
+        assertThat(sketch.candidates().subList(0, 5))
+                .extracting(KeywordSketch.Candidate::keyword)
+                .containsExactlyInAnyOrder("hot0", "hot1", "hot2", "hot3", "hot4");
+        assertThat(sketch.candidates())
+                .extracting(KeywordSketch.Candidate::count)
+                .isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("가장 작은 후보부터 교체하고, 값이 같으면 오래된 후보를 먼저 교체")
+    void evictsOldestMinimumCandidate() {
+        KeywordSketch sketch = new KeywordSketch();
+        sketch.add("keep");
+        sketch.add("keep");
+        for (int i = 0; i < KeywordSketch.CAPACITY; i++) {
+            sketch.add("kw" + i);
+        }
+
+        Map<String, KeywordSketch.Candidate> candidates = new HashMap<>();
+        sketch.candidates().forEach(candidate -> candidates.put(candidate.keyword(), candidate));
+        assertThat(candidates).hasSize(KeywordSketch.CAPACITY)
+                .containsKeys("keep", "kw" + (KeywordSketch.CAPACITY - 1))
+                .doesNotContainKey("kw0");
+        assertThat(candidates.get("keep").count()).isEqualTo(2);
+        KeywordSketch.Candidate replaced = candidates.get("kw" + (KeywordSketch.CAPACITY - 1));
+        assertThat(replaced.count()).isEqualTo(2);
+        assertThat(replaced.error()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("값이 있는 칸의 합은 DEPTH * 전체 검색 수")
+    void nonZeroCellsSumToDepthTimesTotal() {
+        KeywordSketch sketch = new KeywordSketch();
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.nonZeroCells()).isEmpty();
+
+        feed(sketch, 1_000);
+
+        assertThat(sketch.isEmpty()).isFalse();
+        assertThat(sketch.nonZeroCells().values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo((long) KeywordSketch.DEPTH * sketch.total());
+    }
+
+    // 인기 검색어 5개(전체의 1/4)와 나머지 3000개 검색어를 섞어 넣고 실제 빈도를 반환
+    private static Map<String, Long> feed(KeywordSketch sketch, int searches) {
+        Random random = new Random(42);
+        Map<String, Long> actual = new HashMap<>();
+        for (int i = 0; i < searches; i++) {
+            String keyword = random.nextInt(4) == 0 ? "hot" + random.nextInt(5) : "kw" + random.nextInt(3_000);
+            sketch.add(keyword);
+            actual.merge(keyword, 1L, Long::sum);
+        }
+        return actual;
+    }
+}
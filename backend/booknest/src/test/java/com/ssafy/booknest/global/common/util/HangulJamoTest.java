@@ -0,0 +1,51 @@
+package com.ssafy.booknest.global.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한글 자모 분해
+class HangulJamoTest {
+
+    @Test
+    @DisplayName("겹받침과 이중모음은 입력 순서대로 나눔")
+    void decomposeSplitsCompoundJamo() {
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("ㄺ")).isEqualTo("ㄹㄱ");
+        assertThat(HangulJamo.decompose("ㅘ")).isEqualTo("ㅗㅏ");
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절도 완성된 단어의 앞부분이 됨")
+    void partialSyllableIsPrefixOfCompleteWord() {
+        assertThat(HangulJamo.decompose("닭갈비")).startsWith(HangulJamo.decompose("달ㄱ"));
+        assertThat(HangulJamo.decompose("해리 포터")).startsWith(HangulJamo.decompose("해리퐅"));
+    }
+
+    @Test
+    @DisplayName("공백과 기호는 버리고 영문은 소문자로 맞춤")
+    void decomposeDropsSpacesAndLowercases() {
+        assertThat(HangulJamo.decompose("해리 포터")).isEqualTo("ㅎㅐㄹㅣㅍㅗㅌㅓ");
+        assertThat(HangulJamo.decompose("Java 8: 입문!")).isEqualTo("java8ㅇㅣㅂㅁㅜㄴ");
+    }
+
+    @Test
+    @DisplayName("초성 문자열은 음절마다 초성만 남기고 나머지 글자는 그대로")
+    void choseongKeepsInitialsOnly() {
+        assertThat(HangulJamo.choseong("해리 포터")).isEqualTo("ㅎㄹㅍㅌ");
+        assertThat(HangulJamo.choseong("Clean 코드")).isEqualTo("cleanㅋㄷ");
+    }
+
+    @Test
+    @DisplayName("자음만 입력한 경우에만 초성 검색")
+    void isChoseongOnly() {
+        assertThat(HangulJamo.isChoseongOnly("ㅎㄹ")).isTrue();
+        assertThat(HangulJamo.isChoseongOnly("ㅎㄹ ㅍㅌ")).isTrue();
+        assertThat(HangulJamo.isChoseongOnly("해ㄹ")).isFalse();
+        assertThat(HangulJamo.isChoseongOnly("ㅎㅐ")).isFalse();
+        assertThat(HangulJamo.isChoseongOnly("abc")).isFalse();
+        assertThat(HangulJamo.isChoseongOnly("")).isFalse();
+    }
+}